@@ -0,0 +1,113 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de carga em ciclo fechado usado por virtual-threads-load.sh.
+ *
+ * Mantém exatamente N requisições em andamento (N clientes, cada um envia a próxima assim que a
+ * anterior responde) durante a duração pedida, depois de um aquecimento sem medição, e imprime
+ * uma linha com: requisições/s, latência p50 e p99 (ms) e quantidade de erros.
+ *
+ * Roda como arquivo único, sem compilação nem dependências (Java 11+):
+ *   java benchmark/LoadGenerator.java http://localhost:8080/api/faqs/search?q=senha 200 30 10
+ */
+public class LoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Uso: java LoadGenerator.java <url> <concorrência> <segundos> [aquecimento em segundos]");
+            System.exit(2);
+        }
+        URI uri = URI.create(args[0]);
+        int concurrency = Integer.parseInt(args[1]);
+        long durationNanos = Duration.ofSeconds(Long.parseLong(args[2])).toNanos();
+        long warmupNanos = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 5).toNanos();
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long measureUntil = measureFrom + durationNanos;
+        AtomicLong errors = new AtomicLong();
+        List<long[]> latencies = new ArrayList<>();
+        int[] counts = new int[concurrency];
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        for (int i = 0; i < concurrency; i++) {
+            long[] samples = new long[1 << 16];
+            latencies.add(samples);
+            int slot = i;
+            Thread thread = new Thread(() -> {
+                long[] own = samples;
+                try {
+                    while (true) {
+                        long sent = System.nanoTime();
+                        if (sent >= measureUntil) {
+                            break;
+                        }
+                        boolean ok;
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            ok = response.statusCode() < 400;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        long received = System.nanoTime();
+                        if (sent < measureFrom || received > measureUntil) {
+                            continue;
+                        }
+                        if (!ok) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (counts[slot] == own.length) {
+                            own = Arrays.copyOf(own, own.length * 2);
+                            latencies.set(slot, own);
+                        }
+                        own[counts[slot]++] = received - sent;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        long[] all = new long[total];
+        int position = 0;
+        for (int i = 0; i < concurrency; i++) {
+            System.arraycopy(latencies.get(i), 0, all, position, counts[i]);
+            position += counts[i];
+        }
+        Arrays.sort(all);
+        double seconds = durationNanos / 1e9;
+        System.out.printf("throughput=%.1f p50_ms=%.1f p99_ms=%.1f errors=%d%n",
+                total / seconds, percentile(all, 0.50), percentile(all, 0.99), errors.get());
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
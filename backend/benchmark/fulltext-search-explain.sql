@@ -0,0 +1,101 @@
+-- Benchmark de planos de execução: busca LIKE vs. busca textual (GIN)
+--
+-- Cria um catálogo sintético no schema faq_bench (não toca nas tabelas da aplicação),
+-- e compara com EXPLAIN (ANALYZE, BUFFERS) a consulta LIKE atual com a consulta
+-- fulltext de FaqRepository.fullTextSearchActiveFaqs(ByCategory).
+--
+-- Pré-requisito: fulltext-search-postgresql.sql já executado (configuração faq_portuguese).
+-- Uso:
+--   psql -U postgres -d faqdb -v rows=200000 -f benchmark/fulltext-search-explain.sql
+--
+-- Esperado: as consultas LIKE aparecem como "Seq Scan on faqs" lendo a tabela inteira;
+-- as consultas fulltext aparecem como "Bitmap Index Scan on idx_bench_faqs_question_search"
+-- / "idx_bench_faqs_answer_search" combinados por BitmapOr.
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+\set rows 200000
+\endif
+
+DROP SCHEMA IF EXISTS faq_bench CASCADE;
+CREATE SCHEMA faq_bench;
+SET search_path = faq_bench, public;
+
+CREATE TABLE faqs (
+    id BIGSERIAL PRIMARY KEY,
+    category_id BIGINT NOT NULL,
+    question VARCHAR(500) NOT NULL,
+    answer VARCHAR(3000) NOT NULL,
+    view_count INTEGER NOT NULL DEFAULT 0,
+    is_active BOOLEAN NOT NULL DEFAULT true,
+    priority INTEGER NOT NULL DEFAULT 1,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+-- Vocabulário em português para gerar perguntas e respostas plausíveis
+CREATE TEMP TABLE words AS
+SELECT unnest(ARRAY[
+    'acesso', 'senha', 'cartão', 'crédito', 'pagamento', 'boleto', 'fatura', 'cadastro',
+    'conta', 'usuário', 'login', 'sistema', 'relatório', 'servidor', 'backup', 'rede',
+    'impressora', 'certificado', 'permissão', 'perfil', 'bloqueio', 'desbloqueio', 'token',
+    'aplicativo', 'atualização', 'instalação', 'configuração', 'navegador', 'email', 'suporte',
+    'chamado', 'prazo', 'reembolso', 'cancelamento', 'contrato', 'nota', 'fiscal', 'endereço'
+]) AS word;
+
+CREATE TEMP TABLE vocab AS SELECT array_agg(word) AS words FROM words;
+
+INSERT INTO faqs (category_id, question, answer, view_count, is_active, created_at)
+SELECT
+    1 + (g % 12),
+    'Como resolver ' || v.words[1 + (g * 7) % 38] || ' de ' || v.words[1 + (g * 13) % 38] || ' no ' || v.words[1 + (g * 17) % 38] || '?',
+    repeat('Para ' || v.words[1 + (g * 3) % 38] || ' acesse o ' || v.words[1 + (g * 11) % 38]
+           || ' e confirme o ' || v.words[1 + (g * 19) % 38] || '. ', 1 + g % 20),
+    (g * 31) % 5000,
+    g % 10 <> 0,
+    now() - (g || ' minutes')::interval
+FROM generate_series(1, :rows) AS g, vocab v;
+
+CREATE INDEX idx_bench_faqs_category_id ON faqs(category_id);
+CREATE INDEX idx_bench_faqs_question_search ON faqs USING gin(to_tsvector('faq_portuguese', question));
+CREATE INDEX idx_bench_faqs_answer_search ON faqs USING gin(to_tsvector('faq_portuguese', answer));
+ANALYZE faqs;
+
+\echo '==================== LIKE (FaqRepository.searchActiveFaqs) ===================='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM faqs f
+WHERE (LOWER(f.question) LIKE LOWER('%reembolso%') OR LOWER(f.answer) LIKE LOWER('%reembolso%'))
+  AND f.is_active = true
+ORDER BY f.created_at DESC;
+
+\echo '==================== FULLTEXT (FaqRepository.fullTextSearchActiveFaqs) ===================='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT f.* FROM faqs f
+WHERE f.is_active = true
+  AND (to_tsvector('faq_portuguese', f.question) @@ websearch_to_tsquery('faq_portuguese', 'reembolso')
+    OR to_tsvector('faq_portuguese', f.answer) @@ websearch_to_tsquery('faq_portuguese', 'reembolso'))
+ORDER BY ts_rank(setweight(to_tsvector('faq_portuguese', f.question), 'A') ||
+                 setweight(to_tsvector('faq_portuguese', f.answer), 'B'),
+                 websearch_to_tsquery('faq_portuguese', 'reembolso')) DESC, f.created_at DESC;
+
+\echo '==================== LIKE + categoria (FaqRepository.searchActiveFaqsByCategory) ===================='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM faqs f
+WHERE f.category_id = 3
+  AND (LOWER(f.question) LIKE LOWER('%cartao de credito%') OR LOWER(f.answer) LIKE LOWER('%cartao de credito%'))
+  AND f.is_active = true
+ORDER BY f.created_at DESC;
+
+\echo '==================== FULLTEXT + categoria (FaqRepository.fullTextSearchActiveFaqsByCategory) ===================='
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT f.* FROM faqs f
+WHERE f.is_active = true AND f.category_id = 3
+  AND (to_tsvector('faq_portuguese', f.question) @@ websearch_to_tsquery('faq_portuguese', 'cartao de credito')
+    OR to_tsvector('faq_portuguese', f.answer) @@ websearch_to_tsquery('faq_portuguese', 'cartao de credito'))
+ORDER BY ts_rank(setweight(to_tsvector('faq_portuguese', f.question), 'A') ||
+                 setweight(to_tsvector('faq_portuguese', f.answer), 'B'),
+                 websearch_to_tsquery('faq_portuguese', 'cartao de credito')) DESC, f.created_at DESC;
+
+RESET search_path;
+-- Para remover os dados sintéticos: DROP SCHEMA faq_bench CASCADE;
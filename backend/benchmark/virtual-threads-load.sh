@@ -0,0 +1,120 @@
+#!/usr/bin/env bash
+# Benchmark de carga: threads do sistema (padrão) vs. threads virtuais (perfil virtual)
+#
+# Sobe o jar uma vez em cada modo, com os limites do pod (backend-deployment.yaml: 500m de CPU,
+# 1Gi de memória), e para cada concorrência mantém N requisições em andamento contra um endpoint
+# que vai ao banco a cada chamada (por padrão a busca com faq.search.engine=database). Durante a
+# carga amostra o RSS e o número de threads do processo e imprime, por modo e concorrência:
+#   req/s, latência p50/p99, erros, pico de RSS, pico de threads e KB de RSS por requisição em
+#   andamento ((pico de RSS - RSS ocioso) / concorrência).
+#
+# Requer Java 21 para o modo virtual (em Java 17 a propriedade é ignorada e os dois modos se
+# igualam, exceto pelo semáforo de conexões) e o banco do perfil escolhido no ar.
+#
+# Uso (a partir de backend/):
+#   mvn -Pjava21 -DskipTests package
+#   JAVA_HOME=/opt/jdk-21 PROFILE=prod benchmark/virtual-threads-load.sh
+#
+# Variáveis (valores padrão entre parênteses):
+#   PROFILE      perfil do banco (prod); o modo virtual usa PROFILE,virtual
+#   MODES        modos medidos ("platform virtual")
+#   CONCURRENCY  requisições simultâneas ("50 200 800 2000")
+#   DURATION     segundos medidos por rodada (30), após WARMUP segundos de aquecimento (10)
+#   ENDPOINT     caminho chamado (/api/faqs/search?q=senha)
+#   CPUS         processadores vistos pela JVM (1, o mais próximo de 500m)
+#   HEAP         heap máximo (768m, deixando o restante de 1Gi para pilhas e memória nativa)
+#   APP_ARGS     argumentos extras da aplicação (--faq.search.engine=database)
+#   PORT         porta da aplicação (8080)
+#   LOG_DIR      onde ficam os logs da aplicação de cada modo ($TMPDIR ou /tmp)
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+JAR="${JAR:-target/faq-backend-1.0.0.jar}"
+PROFILE="${PROFILE:-prod}"
+MODES="${MODES:-platform virtual}"
+CONCURRENCY="${CONCURRENCY:-50 200 800 2000}"
+DURATION="${DURATION:-30}"
+WARMUP="${WARMUP:-10}"
+ENDPOINT="${ENDPOINT:-/api/faqs/search?q=senha}"
+CPUS="${CPUS:-1}"
+HEAP="${HEAP:-768m}"
+APP_ARGS="${APP_ARGS:---faq.search.engine=database}"
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:${PORT}"
+LOG_DIR="${LOG_DIR:-${TMPDIR:-/tmp}}"
+
+APP_PID=""
+
+stop_app() {
+    if [[ -n "$APP_PID" ]] && kill -0 "$APP_PID" 2>/dev/null; then
+        kill "$APP_PID"
+        wait "$APP_PID" 2>/dev/null || true
+    fi
+    APP_PID=""
+}
+trap stop_app EXIT
+
+start_app() {
+    local profiles="$1"
+    # shellcheck disable=SC2086
+    "$JAVA" -XX:ActiveProcessorCount="$CPUS" -Xmx"$HEAP" -jar "$JAR" \
+        --spring.profiles.active="$profiles" --server.port="$PORT" $APP_ARGS \
+        > "${LOG_DIR}/faq-${profiles//,/-}.log" 2>&1 &
+    APP_PID=$!
+    for _ in $(seq 120); do
+        if curl -sf -o /dev/null "${BASE_URL}/api/categories"; then
+            return 0
+        fi
+        kill -0 "$APP_PID" 2>/dev/null || break
+        sleep 1
+    done
+    echo "A aplicação não subiu com o perfil ${profiles}; veja ${LOG_DIR}/faq-${profiles//,/-}.log" >&2
+    exit 1
+}
+
+status_field() {
+    awk -v field="$1:" '$1 == field { print $2 }' "/proc/${APP_PID}/status"
+}
+
+printf "%-9s %6s %10s %8s %8s %7s %9s %8s %10s\n" \
+    mode conc "req/s" p50_ms p99_ms errors rss_mb threads kb_per_req
+
+for mode in $MODES; do
+    profiles="$PROFILE"
+    [[ "$mode" == "virtual" ]] && profiles="${PROFILE},virtual"
+    start_app "$profiles"
+
+    # Aquecimento com uma requisição por vez, para o RSS ocioso não incluir a compilação JIT inicial
+    "$JAVA" benchmark/LoadGenerator.java "${BASE_URL}${ENDPOINT}" 1 "$WARMUP" 0 > /dev/null
+    idle_rss_kb=$(status_field VmRSS)
+
+    for concurrency in $CONCURRENCY; do
+        result_file=$(mktemp)
+        "$JAVA" benchmark/LoadGenerator.java "${BASE_URL}${ENDPOINT}" "$concurrency" "$DURATION" "$WARMUP" \
+            > "$result_file" &
+        load_pid=$!
+        peak_rss_kb=0
+        peak_threads=0
+        while kill -0 "$load_pid" 2>/dev/null; do
+            rss_kb=$(status_field VmRSS)
+            threads=$(status_field Threads)
+            (( rss_kb > peak_rss_kb )) && peak_rss_kb=$rss_kb
+            (( threads > peak_threads )) && peak_threads=$threads
+            sleep 0.5
+        done
+        wait "$load_pid"
+
+        # throughput=... p50_ms=... p99_ms=... errors=...
+        eval "$(cat "$result_file")"
+        rm -f "$result_file"
+        kb_per_request=$(( (peak_rss_kb - idle_rss_kb) / concurrency ))
+        printf "%-9s %6d %10s %8s %8s %7s %9d %8d %10d\n" \
+            "$mode" "$concurrency" "$throughput" "$p50_ms" "$p99_ms" "$errors" \
+            $(( peak_rss_kb / 1024 )) "$peak_threads" "$kb_per_request"
+    done
+
+    stop_app
+done
@@ -0,0 +1,105 @@
+package com.faq;
+
+import com.faq.dto.FaqDTO;
+import com.faq.model.Category;
+import com.faq.model.Faq;
+import com.faq.service.FaqMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Catálogo sintético e determinístico para os benchmarks: mesma semente, mesmos FAQs em toda
+ * execução, com perguntas e respostas do tamanho das de test-data.sql
+ */
+public final class BenchmarkCatalog {
+
+    private static final String[] CATEGORIES = {
+            "Conta", "Pagamentos", "Entregas", "Segurança", "Suporte Técnico", "Privacidade", "Planos", "Aplicativo"
+    };
+
+    private static final String[] WORDS = {
+            "senha", "conta", "acesso", "cartão", "pagamento", "boleto", "entrega", "pedido", "prazo", "frete",
+            "segurança", "autenticação", "email", "telefone", "cadastro", "perfil", "aplicativo", "navegador",
+            "notificação", "assinatura", "plano", "cancelamento", "reembolso", "fatura", "cobrança", "dados",
+            "privacidade", "backup", "sincronização", "configuração", "idioma", "endereço", "troca", "devolução",
+            "suporte", "atendimento", "horário", "limite", "desconto", "cupom", "promoção", "bloqueio", "recuperar",
+            "alterar", "excluir", "ativar", "desativar", "verificar", "confirmar", "atualizar"
+    };
+
+    private static final String[] QUESTION_STARTS = {
+            "Como", "Por que", "Onde", "Quando", "Posso", "O que fazer para"
+    };
+
+    private BenchmarkCatalog() {
+    }
+
+    /**
+     * Gera size FAQs (90% ativos) distribuídos entre as categorias, com IDs de 1 a size
+     */
+    public static List<Faq> faqs(int size) {
+        Random random = new Random(42);
+        List<Category> categories = new ArrayList<>(CATEGORIES.length);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            Category category = new Category(CATEGORIES[i], "Perguntas sobre " + CATEGORIES[i].toLowerCase());
+            category.setId((long) i + 1);
+            category.setCreatedAt(base);
+            category.setUpdatedAt(base);
+            categories.add(category);
+        }
+
+        List<Faq> faqs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Faq faq = new Faq(question(random), answer(random), categories.get(random.nextInt(categories.size())));
+            faq.setId((long) i + 1);
+            faq.setViewCount(random.nextInt(5000));
+            faq.setIsActive(random.nextInt(10) != 0);
+            faq.setPriority(random.nextInt(4));
+            faq.setCreatedAt(base.plusMinutes(i * 37L));
+            faq.setUpdatedAt(base.plusMinutes(i * 37L + random.nextInt(10_000)));
+            faqs.add(faq);
+        }
+        return faqs;
+    }
+
+    /**
+     * Os mesmos FAQs de faqs(size), já convertidos em DTO
+     */
+    public static List<FaqDTO> faqDTOs(int size) {
+        List<FaqDTO> dtos = new ArrayList<>(size);
+        for (Faq faq : faqs(size)) {
+            dtos.add(FaqMapper.toDTO(faq));
+        }
+        return dtos;
+    }
+
+    private static String question(Random random) {
+        StringBuilder question = new StringBuilder(QUESTION_STARTS[random.nextInt(QUESTION_STARTS.length)]);
+        int words = 4 + random.nextInt(6);
+        for (int i = 0; i < words; i++) {
+            question.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return question.append('?').toString();
+    }
+
+    private static String answer(Random random) {
+        StringBuilder answer = new StringBuilder();
+        int sentences = 2 + random.nextInt(4);
+        for (int s = 0; s < sentences; s++) {
+            int words = 8 + random.nextInt(10);
+            for (int i = 0; i < words; i++) {
+                String word = WORDS[random.nextInt(WORDS.length)];
+                if (i == 0) {
+                    answer.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+                } else {
+                    answer.append(' ').append(word);
+                }
+            }
+            answer.append(s + 1 < sentences ? ". " : ".");
+        }
+        return answer.toString();
+    }
+}
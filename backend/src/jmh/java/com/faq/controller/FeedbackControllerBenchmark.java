@@ -0,0 +1,48 @@
+package com.faq.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extração do IP do cliente feita a cada feedback, sem proxy, atrás de um proxy e atrás de uma
+ * cadeia de proxies no X-Forwarded-For
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class FeedbackControllerBenchmark {
+
+    @Param({"", "203.0.113.7", "203.0.113.7, 10.0.0.12, 10.0.0.3"})
+    private String forwardedFor;
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("POST", "/api/feedback");
+        request.setRemoteAddr("10.0.0.3");
+        if (!forwardedFor.isEmpty()) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+    }
+
+    @Benchmark
+    public String getClientIpAddress() {
+        return FeedbackController.getClientIpAddress(request);
+    }
+}
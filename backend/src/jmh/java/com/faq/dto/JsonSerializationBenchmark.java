@@ -0,0 +1,68 @@
+package com.faq.dto;
+
+import com.faq.BenchmarkCatalog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização JSON das respostas de /faqs e /faqs/admin/view-stats, com o ObjectMapper
+ * configurado como no perfil prod (datas ISO, sem indentação). O buffer de saída é reaproveitado
+ * entre as chamadas, como o do servlet, para que a alocação medida seja a do Jackson.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "500"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<FaqDTO> faqs;
+    private ViewStatsResponse viewStats;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        faqs = BenchmarkCatalog.faqDTOs(size);
+        viewStats = new ViewStatsResponse(faqs, 0, 10, size * 10L, size, true, false);
+        out = new ByteArrayOutputStream(1 << 20);
+    }
+
+    @Benchmark
+    public int faqList() throws IOException {
+        out.reset();
+        objectMapper.writeValue(out, faqs);
+        return out.size();
+    }
+
+    @Benchmark
+    public int viewStatsResponse() throws IOException {
+        out.reset();
+        objectMapper.writeValue(out, viewStats);
+        return out.size();
+    }
+}
@@ -0,0 +1,105 @@
+package com.faq.search;
+
+import com.faq.BenchmarkCatalog;
+import com.faq.dto.CategoryFacetDTO;
+import com.faq.dto.FaqDTO;
+import com.faq.repository.FaqRepository;
+import com.faq.repository.FeedbackCounterRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buscas no índice em memória (exata, aproximada, ranqueada e contagem por categoria) sobre um
+ * catálogo gerado. O índice e o SearchRanker sobem em um contexto Spring mínimo, com os valores
+ * padrão de faq.search.*, e são preenchidos por put, sem banco.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class FaqSearchIndexBenchmark {
+
+    @Param({"1000", "10000"})
+    private int catalogSize;
+
+    @Param({"senha", "alterar senha boleto"})
+    private String query;
+
+    private AnnotationConfigApplicationContext context;
+    private FaqSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(FaqRepository.class, () -> withoutDatabase(FaqRepository.class));
+        context.registerBean(FeedbackCounterRepository.class, () -> withoutDatabase(FeedbackCounterRepository.class));
+        context.register(SearchRanker.class, FaqSearchIndex.class);
+        context.refresh();
+
+        index = context.getBean(FaqSearchIndex.class);
+        for (FaqDTO faq : BenchmarkCatalog.faqDTOs(catalogSize)) {
+            index.put(faq);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<FaqDTO> search() {
+        return index.search(query, null);
+    }
+
+    @Benchmark
+    public List<FaqDTO> searchFuzzy() {
+        return index.searchFuzzy(query, null);
+    }
+
+    @Benchmark
+    public List<FaqDTO> searchRanked() {
+        return index.searchRanked(query, null, false, 10);
+    }
+
+    @Benchmark
+    public List<CategoryFacetDTO> facets() {
+        return index.facets(query, false);
+    }
+
+    /**
+     * Repositório que falha se for usado: os benchmarks não devem ir ao banco
+     */
+    private static <T> T withoutDatabase(Class<T> repository) {
+        return repository.cast(Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[]{repository},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return repository.getSimpleName() + " (sem banco)";
+                        default:
+                            throw new UnsupportedOperationException(repository.getSimpleName() + "." + method.getName());
+                    }
+                }));
+    }
+}
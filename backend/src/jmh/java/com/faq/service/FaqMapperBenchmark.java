@@ -0,0 +1,53 @@
+package com.faq.service;
+
+import com.faq.BenchmarkCatalog;
+import com.faq.dto.FaqDTO;
+import com.faq.model.Faq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversão entidade → DTO feita pelo FaqService (convertToDTO) e pelos índices em memória,
+ * sobre uma página de FAQs já carregados. Os resumos (FaqSummaryDTO) saem de projeções JPQL,
+ * sem conversão em Java.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class FaqMapperBenchmark {
+
+    @Param({"20", "500"})
+    private int size;
+
+    private List<Faq> faqs;
+
+    @Setup
+    public void setUp() {
+        faqs = BenchmarkCatalog.faqs(size);
+    }
+
+    @Benchmark
+    public List<FaqDTO> toDTO() {
+        List<FaqDTO> dtos = new ArrayList<>(faqs.size());
+        for (Faq faq : faqs) {
+            dtos.add(FaqMapper.toDTO(faq));
+        }
+        return dtos;
+    }
+}
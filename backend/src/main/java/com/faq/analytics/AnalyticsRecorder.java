@@ -0,0 +1,357 @@
+package com.faq.analytics;
+
+import com.faq.event.FeedbackChangedEvent;
+import com.faq.event.ViewCountsFlushedEvent;
+import com.faq.model.AnalyticsMetric;
+import com.faq.model.Feedback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registra visualizações e votos em baldes de tempo de tamanho fixo.
+ *
+ * Os eventos entram em baldes de um minuto em memória (um LongAdder por FAQ e métrica).
+ * A cada minuto os baldes já encerrados são somados às linhas de faq_analytics_hourly com um
+ * UPDATE em lote, e um job horário consolida as horas em faq_analytics_daily e aplica a
+ * retenção de cada nível. Os baldes de minuto já gravados continuam em memória por
+ * faq.analytics.minute-retention-minutes para as séries por minuto.
+ */
+@Component
+public class AnalyticsRecorder implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsRecorder.class);
+
+    private static final String ADD_HOURLY_SQL =
+            "UPDATE faq_analytics_hourly SET event_count = event_count + ? " +
+            "WHERE faq_id = ? AND metric = ? AND bucket_start = ?";
+
+    private static final String INSERT_HOURLY_SQL =
+            "INSERT INTO faq_analytics_hourly (faq_id, metric, bucket_start, event_count) VALUES (?, ?, ?, ?)";
+
+    private static final String DELETE_DAILY_SQL =
+            "DELETE FROM faq_analytics_daily WHERE bucket_start >= ? AND bucket_start < ?";
+
+    private static final String ROLLUP_DAILY_SQL =
+            "INSERT INTO faq_analytics_daily (faq_id, metric, bucket_start, event_count) " +
+            "SELECT faq_id, metric, CAST(CAST(bucket_start AS DATE) AS TIMESTAMP), SUM(event_count) " +
+            "FROM faq_analytics_hourly WHERE bucket_start >= ? AND bucket_start < ? " +
+            "GROUP BY faq_id, metric, CAST(CAST(bucket_start AS DATE) AS TIMESTAMP)";
+
+    private static final String PURGE_HOURLY_SQL = "DELETE FROM faq_analytics_hourly WHERE bucket_start < ?";
+
+    private static final String PURGE_DAILY_SQL = "DELETE FROM faq_analytics_daily WHERE bucket_start < ?";
+
+    /**
+     * Dias, contando o atual, recalculados em faq_analytics_daily a cada consolidação.
+     * Antes deles as linhas diárias estão fechadas e as horárias podem já ter sido removidas.
+     */
+    public static final int OPEN_DAYS = 2;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${faq.analytics.minute-retention-minutes:180}")
+    private int minuteRetentionMinutes;
+
+    @Value("${faq.analytics.hourly-retention-days:14}")
+    private int hourlyRetentionDays;
+
+    @Value("${faq.analytics.daily-retention-days:730}")
+    private int dailyRetentionDays;
+
+    private final ConcurrentSkipListMap<LocalDateTime, MinuteBucket> minutes = new ConcurrentSkipListMap<>();
+
+    private volatile boolean running = false;
+
+    /**
+     * Soma eventos da métrica ao balde do minuto atual
+     */
+    public void record(Long faqId, AnalyticsMetric metric, long count) {
+        if (faqId == null || count <= 0) {
+            return;
+        }
+        LocalDateTime minute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        MinuteBucket bucket = minutes.get(minute);
+        if (bucket == null) {
+            bucket = minutes.computeIfAbsent(minute, m -> new MinuteBucket());
+        }
+        bucket.add(new BucketKey(faqId, metric), count);
+    }
+
+    /**
+     * As visualizações chegam já agregadas pelo ViewCountBuffer a cada descarga
+     */
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        event.getIncrements().forEach((faqId, count) -> record(faqId, AnalyticsMetric.VIEW, count));
+    }
+
+    /**
+     * Cada voto gravado conta como um evento do seu tipo, inclusive a troca de voto
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedbackChanged(FeedbackChangedEvent event) {
+        if (event.getFeedbackType() == null) {
+            return;
+        }
+        record(event.getFaqId(), event.getFeedbackType() == Feedback.FeedbackType.POSITIVE
+                ? AnalyticsMetric.FEEDBACK_POSITIVE : AnalyticsMetric.FEEDBACK_NEGATIVE, 1);
+    }
+
+    /**
+     * Eventos em memória da métrica no intervalo [from, to), por minuto. Com onlyPending,
+     * considera apenas os eventos ainda não gravados em faq_analytics_hourly.
+     */
+    public Map<LocalDateTime, Long> minuteCounts(Long faqId, AnalyticsMetric metric,
+                                                 LocalDateTime from, LocalDateTime to, boolean onlyPending) {
+        Map<LocalDateTime, Long> counts = new HashMap<>();
+        for (Map.Entry<LocalDateTime, MinuteBucket> entry : minutes.subMap(from, to).entrySet()) {
+            long sum = entry.getValue().sum(faqId, metric, onlyPending);
+            if (sum > 0) {
+                counts.put(entry.getKey(), sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Início do intervalo ainda coberto pelos baldes de minuto em memória
+     */
+    public LocalDateTime minuteRetentionStart() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).minusMinutes(minuteRetentionMinutes);
+    }
+
+    /**
+     * Grava os minutos encerrados. O minuto anterior ao atual fica para a próxima execução,
+     * para que um registro que leu o relógio pouco antes da virada ainda entre no balde certo.
+     */
+    @Scheduled(fixedDelayString = "${faq.analytics.persist-interval-ms:60000}")
+    public void persistCompletedMinutes() {
+        persistBefore(LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).minusMinutes(1));
+        minutes.headMap(minuteRetentionStart()).entrySet().removeIf(entry -> !entry.getValue().hasPending());
+    }
+
+    /**
+     * Soma às linhas horárias o que ainda não foi gravado dos baldes de minuto anteriores a before.
+     * Um balde já gravado continua recebendo eventos (um registro atrasado, ou após o stop), e
+     * apenas a diferença para o total já gravado entra na próxima execução.
+     */
+    public synchronized void persistBefore(LocalDateTime before) {
+        Map<MinuteBucket, Map<BucketKey, Long>> totals = new HashMap<>();
+        Map<HourKey, Long> hourly = new HashMap<>();
+        for (Map.Entry<LocalDateTime, MinuteBucket> entry : minutes.headMap(before).entrySet()) {
+            MinuteBucket bucket = entry.getValue();
+            LocalDateTime hour = entry.getKey().truncatedTo(ChronoUnit.HOURS);
+            bucket.counts.forEach((key, adder) -> {
+                long total = adder.sum();
+                long delta = total - bucket.written.getOrDefault(key, 0L);
+                if (delta > 0) {
+                    hourly.merge(new HourKey(key, hour), delta, Long::sum);
+                    totals.computeIfAbsent(bucket, b -> new HashMap<>()).put(key, total);
+                }
+            });
+        }
+        if (hourly.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeHourly(hourly));
+        } catch (RuntimeException e) {
+            // Os eventos continuam pendentes; como a transação foi desfeita, não há contagem dupla
+            log.warn("Falha ao gravar {} baldes horários de analytics; nova tentativa na próxima execução: {}",
+                    hourly.size(), e.getMessage());
+            return;
+        }
+        totals.forEach((bucket, written) -> bucket.written.putAll(written));
+    }
+
+    private void writeHourly(Map<HourKey, Long> hourly) {
+        List<HourKey> keys = new ArrayList<>(hourly.keySet());
+        List<Object[]> updates = new ArrayList<>(keys.size());
+        for (HourKey key : keys) {
+            updates.add(new Object[]{hourly.get(key), key.faqId, key.metric.name(), Timestamp.valueOf(key.hour)});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(ADD_HOURLY_SQL, updates);
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            // Alguns drivers devolvem SUCCESS_NO_INFO (-2) em lote: só 0 indica linha ausente
+            if (updated[i] == 0) {
+                HourKey key = keys.get(i);
+                inserts.add(new Object[]{key.faqId, key.metric.name(), Timestamp.valueOf(key.hour), hourly.get(key)});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_HOURLY_SQL, inserts);
+        }
+    }
+
+    /**
+     * Recalcula os dias abertos em faq_analytics_daily a partir das horas e remove as linhas
+     * além da retenção de cada nível. As horas são mantidas por pelo menos OPEN_DAYS + 1 dias,
+     * para que um dia nunca seja consolidado depois de suas horas serem removidas.
+     */
+    @Scheduled(cron = "${faq.analytics.rollup-cron:0 5 * * * *}")
+    public Map<String, Integer> rollup() {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        Timestamp openFrom = Timestamp.valueOf(today.minusDays(OPEN_DAYS - 1));
+        Timestamp openTo = Timestamp.valueOf(today.plusDays(1));
+        Timestamp hourlyLimit = Timestamp.valueOf(today.minusDays(Math.max(hourlyRetentionDays, OPEN_DAYS + 1)));
+        Timestamp dailyLimit = Timestamp.valueOf(today.minusDays(Math.max(dailyRetentionDays, OPEN_DAYS)));
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_DAILY_SQL, openFrom, openTo);
+            result.put("dailyRows", jdbcTemplate.update(ROLLUP_DAILY_SQL, openFrom, openTo));
+            result.put("hourlyPurged", jdbcTemplate.update(PURGE_HOURLY_SQL, hourlyLimit));
+            result.put("dailyPurged", jdbcTemplate.update(PURGE_DAILY_SQL, dailyLimit));
+        });
+        log.info("Analytics consolidado: {} linhas diárias recalculadas, {} horárias e {} diárias removidas pela retenção",
+                result.get("dailyRows"), result.get("hourlyPurged"), result.get("dailyPurged"));
+        return result;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * Grava todos os baldes pendentes, inclusive o do minuto atual
+     */
+    @Override
+    public void stop() {
+        persistBefore(LocalDateTime.MAX);
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Para depois do ViewCountBuffer, cuja última descarga ainda publica visualizações
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 8192;
+    }
+
+    private static final class MinuteBucket {
+        private final ConcurrentHashMap<BucketKey, LongAdder> counts = new ConcurrentHashMap<>();
+        // Total de cada chave já somado a faq_analytics_hourly; alterado só em persistBefore
+        private final ConcurrentHashMap<BucketKey, Long> written = new ConcurrentHashMap<>();
+
+        private void add(BucketKey key, long count) {
+            LongAdder adder = counts.get(key);
+            if (adder == null) {
+                adder = counts.computeIfAbsent(key, k -> new LongAdder());
+            }
+            adder.add(count);
+        }
+
+        private long sum(Long faqId, AnalyticsMetric metric, boolean onlyPending) {
+            if (faqId != null) {
+                BucketKey key = new BucketKey(faqId, metric);
+                LongAdder adder = counts.get(key);
+                return adder == null ? 0 : count(key, adder, onlyPending);
+            }
+            long sum = 0;
+            for (Map.Entry<BucketKey, LongAdder> entry : counts.entrySet()) {
+                if (entry.getKey().metric == metric) {
+                    sum += count(entry.getKey(), entry.getValue(), onlyPending);
+                }
+            }
+            return sum;
+        }
+
+        private long count(BucketKey key, LongAdder adder, boolean onlyPending) {
+            long total = adder.sum();
+            return onlyPending ? total - written.getOrDefault(key, 0L) : total;
+        }
+
+        private boolean hasPending() {
+            for (Map.Entry<BucketKey, LongAdder> entry : counts.entrySet()) {
+                if (count(entry.getKey(), entry.getValue(), true) > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class BucketKey {
+        private final long faqId;
+        private final AnalyticsMetric metric;
+
+        private BucketKey(long faqId, AnalyticsMetric metric) {
+            this.faqId = faqId;
+            this.metric = metric;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BucketKey)) return false;
+            BucketKey that = (BucketKey) o;
+            return faqId == that.faqId && metric == that.metric;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(faqId) * 31 + metric.hashCode();
+        }
+    }
+
+    private static final class HourKey {
+        private final long faqId;
+        private final AnalyticsMetric metric;
+        private final LocalDateTime hour;
+
+        private HourKey(BucketKey key, LocalDateTime hour) {
+            this.faqId = key.faqId;
+            this.metric = key.metric;
+            this.hour = hour;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof HourKey)) return false;
+            HourKey that = (HourKey) o;
+            return faqId == that.faqId && metric == that.metric && hour.equals(that.hour);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(faqId, metric, hour);
+        }
+    }
+}
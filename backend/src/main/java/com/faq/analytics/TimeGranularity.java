@@ -0,0 +1,53 @@
+package com.faq.analytics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * Tamanho dos baldes de uma série temporal e o período consultado quando o cliente não informa um
+ */
+public enum TimeGranularity {
+
+    MINUTE(ChronoUnit.MINUTES, Duration.ofHours(1)),
+    HOUR(ChronoUnit.HOURS, Duration.ofDays(1)),
+    DAY(ChronoUnit.DAYS, Duration.ofDays(30));
+
+    private final ChronoUnit unit;
+    private final Duration defaultSpan;
+
+    TimeGranularity(ChronoUnit unit, Duration defaultSpan) {
+        this.unit = unit;
+        this.defaultSpan = defaultSpan;
+    }
+
+    /**
+     * Interpreta o parâmetro da requisição, sem diferenciar maiúsculas de minúsculas
+     */
+    public static TimeGranularity parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Granularidade inválida: " + value + " (use minute, hour ou day)");
+        }
+    }
+
+    /**
+     * Início do balde que contém o instante
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * Início do balde seguinte
+     */
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+
+    public Duration getDefaultSpan() {
+        return defaultSpan;
+    }
+}
@@ -0,0 +1,19 @@
+package com.faq.cache;
+
+/**
+ * Nomes dos caches de leitura do catálogo
+ */
+public final class CacheNames {
+    
+    public static final String ACTIVE_FAQS = "faqs.active";
+    public static final String FAQS_BY_CATEGORY = "faqs.byCategory";
+    public static final String MOST_VIEWED_FAQS = "faqs.mostViewed";
+    public static final String RECENT_FAQS = "faqs.recent";
+    public static final String RELATED_FAQS = "faqs.related";
+    public static final String FAQ_COUNTS = "faqs.counts";
+    public static final String ALL_CATEGORIES = "categories.all";
+    public static final String CATEGORIES_WITH_FAQS = "categories.withFaqs";
+    
+    private CacheNames() {
+    }
+}
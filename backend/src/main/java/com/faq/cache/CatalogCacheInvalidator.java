@@ -0,0 +1,100 @@
+package com.faq.cache;
+
+import com.faq.event.CategoryChangedEvent;
+import com.faq.event.FaqChangedEvent;
+import com.faq.event.RemoteChangeEvent;
+import com.faq.event.ViewCountsFlushedEvent;
+import com.faq.service.FaqService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalida os caches de leitura a partir das escritas no catálogo, após o commit.
+ * Apenas as entradas que podem conter o registro alterado são removidas.
+ */
+@Component
+public class CatalogCacheInvalidator {
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    /**
+     * Um FAQ criado, alterado, ativado/desativado ou removido afeta a lista geral, as listas
+     * da categoria atual e da anterior, as listas ordenadas e os resumos das categorias
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFaqChanged(FaqChangedEvent event) {
+        evict(CacheNames.ACTIVE_FAQS, SimpleKey.EMPTY);
+        if (event.getFaq() != null) {
+            evict(CacheNames.FAQS_BY_CATEGORY, event.getFaq().getCategoryId());
+        }
+        if (event.getPreviousCategoryId() != null) {
+            evict(CacheNames.FAQS_BY_CATEGORY, event.getPreviousCategoryId());
+        }
+        clear(CacheNames.RECENT_FAQS);
+        clear(CacheNames.MOST_VIEWED_FAQS);
+        clear(CacheNames.RELATED_FAQS);
+        clear(CacheNames.FAQ_COUNTS);
+        clear(CacheNames.ALL_CATEGORIES);
+        clear(CacheNames.CATEGORIES_WITH_FAQS);
+    }
+    
+    /**
+     * Categorias aparecem nas listas de categorias e, pelo nome, nos DTOs dos seus FAQs
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        clear(CacheNames.ALL_CATEGORIES);
+        if (event.getChangeType() == CategoryChangedEvent.ChangeType.UPDATED) {
+            clear(CacheNames.CATEGORIES_WITH_FAQS);
+            evict(CacheNames.ACTIVE_FAQS, SimpleKey.EMPTY);
+            evict(CacheNames.FAQS_BY_CATEGORY, event.getCategoryId());
+            clear(CacheNames.RECENT_FAQS);
+            clear(CacheNames.MOST_VIEWED_FAQS);
+        }
+    }
+    
+    /**
+     * Novas visualizações gravadas mudam a ordem dos mais visualizados e o total de FAQs com
+     * visualizações. As demais listas continuam em cache: o viewCount que carregam fica
+     * defasado no máximo por faq.cache.view-count-max-age (ver CacheConfig), em vez de o
+     * catálogo inteiro ser descartado a cada descarga do ViewCountBuffer.
+     */
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        clear(CacheNames.MOST_VIEWED_FAQS);
+        evict(CacheNames.FAQ_COUNTS, FaqService.COUNT_WITH_VIEWS_KEY);
+    }
+    
+    /**
+     * Escritas de outras réplicas chegam sem o estado anterior: os caches do catálogo são limpos
+     */
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        if (event.getEntityType() == RemoteChangeEvent.EntityType.FEEDBACK) {
+            return;
+        }
+        for (String cacheName : cacheManager.getCacheNames()) {
+            clear(cacheName);
+        }
+    }
+    
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+    
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.faq.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache em dois níveis: L1 Caffeine local (near-cache) na frente de um L2 compartilhado (Redis).
+ *
+ * Leituras consultam o L1 e, em caso de falta, o L2, promovendo o valor encontrado para o L1.
+ * Escritas e invalidações são aplicadas nos dois níveis. Se o L2 falhar, o cache segue
+ * funcionando só com o L1 e o L2 é ignorado por um intervalo antes de nova tentativa.
+ */
+public class TwoLevelCache implements Cache {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoLevelCache.class);
+
+    private static final long REMOTE_RETRY_DELAY_MS = 30_000;
+
+    private final CaffeineCache local;
+    private final Cache remote;
+
+    private volatile long remoteDisabledUntil = 0;
+
+    public TwoLevelCache(CaffeineCache local, Cache remote) {
+        this.local = local;
+        this.remote = remote;
+    }
+
+    /**
+     * Nível local, usado para as estatísticas de acertos e despejos
+     */
+    public CaffeineCache getLocal() {
+        return local;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value != null) {
+            return value;
+        }
+        ValueWrapper remoteValue = remoteGet(key);
+        if (remoteValue != null && remoteValue.get() != null) {
+            local.put(key, remoteValue.get());
+            return new SimpleValueWrapper(remoteValue.get());
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        return value == null ? null : (T) value.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) local.get(key, () -> {
+            ValueWrapper remoteValue = remoteGet(key);
+            if (remoteValue != null && remoteValue.get() != null) {
+                return remoteValue.get();
+            }
+            T loaded = valueLoader.call();
+            remotePut(key, loaded);
+            return loaded;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        remotePut(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        if (remoteAvailable()) {
+            try {
+                remote.evict(key);
+            } catch (RuntimeException e) {
+                remoteFailed("evict", e);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        if (remoteAvailable()) {
+            try {
+                remote.clear();
+            } catch (RuntimeException e) {
+                remoteFailed("clear", e);
+            }
+        }
+    }
+
+    private ValueWrapper remoteGet(Object key) {
+        if (!remoteAvailable()) {
+            return null;
+        }
+        try {
+            return remote.get(key);
+        } catch (RuntimeException e) {
+            remoteFailed("get", e);
+            return null;
+        }
+    }
+
+    private void remotePut(Object key, Object value) {
+        if (value == null || !remoteAvailable()) {
+            return;
+        }
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            remoteFailed("put", e);
+        }
+    }
+
+    private boolean remoteAvailable() {
+        return System.currentTimeMillis() >= remoteDisabledUntil;
+    }
+
+    private void remoteFailed(String operation, RuntimeException e) {
+        remoteDisabledUntil = System.currentTimeMillis() + REMOTE_RETRY_DELAY_MS;
+        log.warn("Cache L2 indisponível ({} em {}); usando apenas o L1 pelos próximos {} s: {}",
+                operation, getName(), REMOTE_RETRY_DELAY_MS / 1000, e.getMessage());
+    }
+}
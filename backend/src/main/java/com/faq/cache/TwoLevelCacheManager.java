@@ -0,0 +1,42 @@
+package com.faq.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheManager que combina os caches Caffeine locais com os caches remotos (Redis) de mesmo nome
+ */
+public class TwoLevelCacheManager implements CacheManager {
+    
+    private final CaffeineCacheManager localCacheManager;
+    private final CacheManager remoteCacheManager;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+    
+    public TwoLevelCacheManager(CaffeineCacheManager localCacheManager, CacheManager remoteCacheManager) {
+        this.localCacheManager = localCacheManager;
+        this.remoteCacheManager = remoteCacheManager;
+    }
+    
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache local = localCacheManager.getCache(cacheName);
+            Cache remote = remoteCacheManager.getCache(cacheName);
+            if (!(local instanceof CaffeineCache caffeineCache)) {
+                return null;
+            }
+            return remote == null ? local : new TwoLevelCache(caffeineCache, remote);
+        });
+    }
+    
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+}
@@ -0,0 +1,148 @@
+package com.faq.config;
+
+import com.faq.cache.CacheNames;
+import com.faq.cache.TwoLevelCacheManager;
+import com.faq.dto.CategoryDTO;
+import com.faq.dto.FaqDTO;
+import com.faq.dto.FaqSummaryDTO;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches de leitura do catálogo (Caffeine: admissão W-TinyLFU e despejo por tamanho).
+ *
+ * As entradas são invalidadas pelas escritas do FaqService e do CategoryService (ver
+ * CatalogCacheInvalidator). As visualizações, gravadas a cada poucos segundos, não limpam o
+ * catálogo: as listas que carregam viewCount expiram após faq.cache.view-count-max-age, o
+ * atraso máximo aceito para os contadores. O interceptor de cache roda antes do
+ * transacional, então um acerto não abre transação nem usa conexão do pool.
+ *
+ * Com faq.cache.redis.enabled=true os caches Caffeine passam a ser o L1 de um cache
+ * em dois níveis, com os DTOs serializados em JSON no Redis (L2) e compartilhados
+ * entre as réplicas: um pod recém-iniciado encontra o catálogo no Redis em vez de ir ao banco.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+    
+    private static final List<String> CACHE_NAMES = List.of(
+            CacheNames.ACTIVE_FAQS,
+            CacheNames.FAQS_BY_CATEGORY,
+            CacheNames.MOST_VIEWED_FAQS,
+            CacheNames.RECENT_FAQS,
+            CacheNames.RELATED_FAQS,
+            CacheNames.FAQ_COUNTS,
+            CacheNames.ALL_CATEGORIES,
+            CacheNames.CATEGORIES_WITH_FAQS);
+    
+    /**
+     * Peso máximo de cada cache, medido em número de itens (DTOs) armazenados
+     */
+    @Value("${faq.cache.maximum-weight:20000}")
+    private long maximumWeight;
+    
+    /**
+     * Validade das listas que carregam viewCount (todas, menos as contagens); zero desliga a expiração
+     */
+    @Value("${faq.cache.view-count-max-age:PT5M}")
+    private Duration viewCountMaxAge;
+    
+    @Value("${faq.cache.redis.enabled:false}")
+    private boolean redisEnabled;
+    
+    /**
+     * Validade de segurança das entradas no Redis, caso uma invalidação não chegue ao L2
+     */
+    @Value("${faq.cache.redis.ttl:PT1H}")
+    private Duration redisTtl;
+    
+    @Bean
+    public CacheManager cacheManager(ObjectProvider<RedisConnectionFactory> redisConnectionFactory,
+                                     ObjectMapper objectMapper) {
+        CaffeineCacheManager localCacheManager = localCacheManager();
+        if (!redisEnabled) {
+            return localCacheManager;
+        }
+        return new TwoLevelCacheManager(localCacheManager, redisCacheManager(
+                RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory.getObject()), objectMapper));
+    }
+    
+    CaffeineCacheManager localCacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        for (String name : CACHE_NAMES) {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                    .maximumWeight(maximumWeight)
+                    .weigher((Object key, Object value) -> weightOf(value))
+                    .recordStats();
+            if (expiresWithViewCounts(name)) {
+                builder.expireAfterWrite(viewCountMaxAge);
+            }
+            cacheManager.registerCustomCache(name, builder.build());
+        }
+        return cacheManager;
+    }
+    
+    /**
+     * Cada cache usa um serializador JSON tipado pelo seu conteúdo, sem metadados de tipo no payload.
+     * Recebe o RedisCacheWriter (e não a conexão) para que os testes usem um Redis em memória.
+     */
+    RedisCacheManager redisCacheManager(RedisCacheWriter cacheWriter, ObjectMapper objectMapper) {
+        ObjectMapper mapper = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+        JavaType faqList = mapper.getTypeFactory().constructCollectionType(List.class, FaqDTO.class);
+        JavaType faqSummaryList = mapper.getTypeFactory().constructCollectionType(List.class, FaqSummaryDTO.class);
+        JavaType categoryList = mapper.getTypeFactory().constructCollectionType(List.class, CategoryDTO.class);
+        
+        Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+        for (String name : CACHE_NAMES) {
+            JavaType type = name.equals(CacheNames.RELATED_FAQS) ? faqSummaryList
+                    : name.equals(CacheNames.FAQ_COUNTS) ? mapper.constructType(Long.class)
+                    : name.startsWith("categories.") ? categoryList
+                    : faqList;
+            configurations.put(name, RedisCacheConfiguration.defaultCacheConfig()
+                    .prefixCacheNameWith("faq:")
+                    .entryTtl(expiresWithViewCounts(name) ? viewCountMaxAge : redisTtl)
+                    .disableCachingNullValues()
+                    .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                            new Jackson2JsonRedisSerializer<>(mapper, type))));
+        }
+        RedisCacheManager cacheManager = RedisCacheManager.builder(cacheWriter)
+                .withInitialCacheConfigurations(configurations)
+                .disableCreateOnMissingCache()
+                .build();
+        cacheManager.initializeCaches();
+        return cacheManager;
+    }
+    
+    /**
+     * As contagens não carregam viewCount; a de FAQs com visualizações é removida a cada descarga
+     */
+    private boolean expiresWithViewCounts(String name) {
+        return !name.equals(CacheNames.FAQ_COUNTS) && !viewCountMaxAge.isZero();
+    }
+    
+    private static int weightOf(Object value) {
+        return value instanceof Collection<?> collection ? Math.max(1, collection.size()) : 1;
+    }
+}
@@ -0,0 +1,55 @@
+package com.faq.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Limite de conexões simultâneas para o modo com threads virtuais (perfil virtual).
+ *
+ * Com faq.datasource.concurrency-limit.enabled=true o DataSource do pool é envolvido por um
+ * ConcurrencyLimitedDataSource. O limite padrão (permits=0) é o próprio tamanho do pool Hikari.
+ */
+@Configuration
+@ConditionalOnProperty(name = "faq.datasource.concurrency-limit.enabled", havingValue = "true")
+public class ConnectionLimitConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionLimitConfig.class);
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor connectionLimitPostProcessor(Environment environment) {
+        int configuredPermits = environment.getProperty("faq.datasource.concurrency-limit.permits", Integer.class, 0);
+        Duration acquireTimeout = environment.getProperty(
+                "faq.datasource.concurrency-limit.acquire-timeout", Duration.class, Duration.ofSeconds(30));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                int permits = configuredPermits > 0 ? configuredPermits : poolSize(bean);
+                log.info("DataSource {} limitado a {} conexões simultâneas (espera máxima de {} ms)",
+                        beanName, permits, acquireTimeout.toMillis());
+                return new ConcurrencyLimitedDataSource(dataSource, permits, acquireTimeout);
+            }
+        };
+    }
+
+    /**
+     * Tamanho configurado do pool Hikari; sem configuração explícita o Hikari usa 10 conexões
+     */
+    private static int poolSize(Object dataSource) {
+        int configured = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 0;
+        return configured > 0 ? configured : DEFAULT_POOL_SIZE;
+    }
+}
@@ -0,0 +1,15 @@
+package com.faq.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas (descarga de contadores, manutenção de estruturas em memória).
+ * Com faq.scheduling.enabled=false (perfil de testes) nenhuma tarefa roda sozinha.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "faq.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
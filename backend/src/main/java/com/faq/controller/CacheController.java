@@ -0,0 +1,49 @@
+package com.faq.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.faq.cache.TwoLevelCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/cache")
+@CrossOrigin(origins = "http://localhost:3000")
+public class CacheController {
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    /**
+     * Estatísticas de acertos, faltas e despejos de cada cache de leitura
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Map<String, Object>>> getCacheStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof TwoLevelCache twoLevelCache) {
+                cache = twoLevelCache.getLocal();
+            }
+            if (cache instanceof CaffeineCache caffeineCache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                CacheStats cacheStats = nativeCache.stats();
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("size", nativeCache.estimatedSize());
+                entry.put("hitCount", cacheStats.hitCount());
+                entry.put("missCount", cacheStats.missCount());
+                entry.put("hitRate", cacheStats.hitRate());
+                entry.put("evictionCount", cacheStats.evictionCount());
+                entry.put("evictionWeight", cacheStats.evictionWeight());
+                stats.put(name, entry);
+            }
+        }
+        return ResponseEntity.ok(stats);
+    }
+}
@@ -1,6 +1,7 @@
 package com.faq.controller;
 
 import com.faq.dto.CategoryDTO;
+import com.faq.service.CatalogReadService;
 import com.faq.service.CategoryService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +20,9 @@ public class CategoryController {
     @Autowired
     private CategoryService categoryService;
     
+    @Autowired
+    private CatalogReadService catalogReadService;
+    
     /**
      * Lista todas as categorias
      */
@@ -43,7 +47,7 @@ public class CategoryController {
      */
     @GetMapping("/with-faqs")
     public ResponseEntity<List<CategoryDTO>> getCategoriesWithActiveFaqs() {
-        List<CategoryDTO> categories = categoryService.findCategoriesWithActiveFaqs();
+        List<CategoryDTO> categories = catalogReadService.findCategoriesWithActiveFaqs();
         return ResponseEntity.ok(categories);
     }
     
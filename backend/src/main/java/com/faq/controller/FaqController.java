@@ -1,16 +1,36 @@
 package com.faq.controller;
 
+import com.faq.dto.BulkImportResponse;
+import com.faq.dto.DuplicateCandidateDTO;
+import com.faq.dto.DuplicatePairDTO;
 import com.faq.dto.FaqDTO;
+import com.faq.dto.FaqPageResponse;
 import com.faq.dto.FaqSummaryDTO;
+import com.faq.dto.SuggestionDTO;
+import com.faq.dto.TimeSeriesResponse;
 import com.faq.dto.ViewStatsResponse;
+import com.faq.service.AnalyticsService;
+import com.faq.service.CatalogReadService;
+import com.faq.service.FaqExportService;
+import com.faq.service.FaqImportService;
 import com.faq.service.FaqService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @RestController
@@ -21,25 +41,82 @@ public class FaqController {
     @Autowired
     private FaqService faqService;
     
+    @Autowired
+    private CatalogReadService catalogReadService;
+    
+    @Autowired
+    private AnalyticsService analyticsService;
+    
+    @Autowired
+    private FaqImportService faqImportService;
+    
+    @Autowired
+    private FaqExportService faqExportService;
+    
     /**
-     * Lista todos os FAQs ativos
+     * Lista todos os FAQs ativos.
+     * Com cursor ou limit, responde uma página por cursor (FaqPageResponse) em vez da lista completa.
      */
     @GetMapping
-    public ResponseEntity<List<FaqDTO>> getAllActiveFaqs() {
-        List<FaqDTO> faqs = faqService.findAllActive();
-        return ResponseEntity.ok(faqs);
+    public ResponseEntity<?> getAllActiveFaqs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        if (cursor == null && limit == null) {
+            List<FaqDTO> faqs = catalogReadService.findAllActive();
+            return ResponseEntity.ok(faqs);
+        }
+        FaqPageResponse page = catalogReadService.findActivePage(cursor, limit);
+        if (includeTotal) {
+            page.setTotalElements(catalogReadService.countActive());
+        }
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * Lista todos os FAQs ativos (GET /faqs?stream=true), lidos do banco e escritos à medida que são lidos
+     */
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllActiveFaqs() {
+        StreamingResponseBody body = faqExportService::writeActiveAsJsonArray;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
     
     /**
      * Busca estatísticas de visualizações dos FAQs com paginação
      */
     @GetMapping("/views")
-    public ResponseEntity<ViewStatsResponse> getViewsWithPagination(
+    public ResponseEntity<?> getViewsWithPagination(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        if (cursor != null || limit != null) {
+            FaqPageResponse cursorPage = catalogReadService.findMostViewedPage(cursor, limit);
+            if (includeTotal) {
+                cursorPage.setTotalElements(faqService.countWithViews());
+            }
+            return ResponseEntity.ok(cursorPage);
+        }
         ViewStatsResponse response = faqService.findMostViewedWithPagination(page, size);
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * Série temporal de visualizações ou votos (metric = view, feedback_positive ou
+     * feedback_negative) por minuto, hora ou dia; sem faqId, soma todos os FAQs
+     */
+    @GetMapping("/views/timeseries")
+    public ResponseEntity<TimeSeriesResponse> getViewsTimeSeries(
+            @RequestParam(required = false) Long faqId,
+            @RequestParam(defaultValue = "view") String metric,
+            @RequestParam(defaultValue = "hour") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        TimeSeriesResponse series = analyticsService.timeSeries(faqId, metric, granularity, from, to);
+        return ResponseEntity.ok(series);
+    }
 
     /**
      * Busca FAQ por ID
@@ -64,26 +141,65 @@ public class FaqController {
      * Lista FAQs por categoria
      */
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<FaqDTO>> getFaqsByCategory(@PathVariable Long categoryId) {
-        List<FaqDTO> faqs = faqService.findByCategory(categoryId);
-        return ResponseEntity.ok(faqs);
+    public ResponseEntity<?> getFaqsByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        if (cursor == null && limit == null) {
+            List<FaqDTO> faqs = catalogReadService.findByCategory(categoryId);
+            return ResponseEntity.ok(faqs);
+        }
+        FaqPageResponse page = catalogReadService.findByCategoryPage(categoryId, cursor, limit);
+        if (includeTotal) {
+            page.setTotalElements(catalogReadService.countActiveByCategory(categoryId));
+        }
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * Sugestões de autocompletar (perguntas e categorias) para o prefixo digitado
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDTO>> suggest(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(catalogReadService.findSuggestions(prefix, limit));
     }
     
     /**
-     * Busca FAQs por termo
+     * Busca FAQs por termo; com fuzzy=true tolera erros de digitação e com facets=true
+     * responde também a quantidade de resultados em cada categoria
      */
     @GetMapping("/search")
-    public ResponseEntity<List<FaqDTO>> searchFaqs(
+    public ResponseEntity<?> searchFaqs(
             @RequestParam(required = false) String q,
-            @RequestParam(required = false) Long categoryId) {
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        
+        if (cursor != null || limit != null) {
+            FaqPageResponse page = faqService.searchPage(q, categoryId, fuzzy, cursor, limit);
+            if (facets) {
+                page.setFacets(faqService.searchFacets(q, fuzzy));
+            }
+            return ResponseEntity.ok(page);
+        }
         
         List<FaqDTO> faqs;
         if (categoryId != null) {
-            faqs = faqService.searchFaqsByCategory(categoryId, q);
+            faqs = faqService.searchFaqsByCategory(categoryId, q, fuzzy);
         } else {
-            faqs = faqService.searchFaqs(q);
+            faqs = faqService.searchFaqs(q, fuzzy);
         }
         
+        if (facets) {
+            FaqPageResponse response = new FaqPageResponse(faqs, null, false);
+            response.setFacets(faqService.searchFacets(q, fuzzy));
+            return ResponseEntity.ok(response);
+        }
         return ResponseEntity.ok(faqs);
     }
     
@@ -93,7 +209,18 @@ public class FaqController {
     @GetMapping("/most-viewed")
     public ResponseEntity<List<FaqDTO>> getMostViewedFaqs(
             @RequestParam(defaultValue = "10") int limit) {
-        List<FaqDTO> faqs = faqService.findMostViewed(limit);
+        List<FaqDTO> faqs = catalogReadService.findMostViewed(limit);
+        return ResponseEntity.ok(faqs);
+    }
+    
+    /**
+     * Lista FAQs em alta: visualizações e votos recentes valem mais que os antigos
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<FaqDTO>> getTrendingFaqs(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) Long categoryId) {
+        List<FaqDTO> faqs = catalogReadService.findTrending(limit, categoryId);
         return ResponseEntity.ok(faqs);
     }
     
@@ -103,7 +230,7 @@ public class FaqController {
     @GetMapping("/view-stats")
     public ResponseEntity<List<FaqDTO>> getViewStats(
             @RequestParam(defaultValue = "10") int limit) {
-        List<FaqDTO> faqs = faqService.findMostViewed(limit);
+        List<FaqDTO> faqs = catalogReadService.findMostViewed(limit);
         return ResponseEntity.ok(faqs);
     }
     
@@ -113,7 +240,7 @@ public class FaqController {
     @GetMapping("/recent")
     public ResponseEntity<List<FaqDTO>> getRecentFaqs(
             @RequestParam(defaultValue = "10") int limit) {
-        List<FaqDTO> faqs = faqService.findRecent(limit);
+        List<FaqDTO> faqs = catalogReadService.findRecent(limit);
         return ResponseEntity.ok(faqs);
     }
     
@@ -124,10 +251,32 @@ public class FaqController {
     public ResponseEntity<List<FaqSummaryDTO>> getRelatedFaqs(
             @PathVariable Long id,
             @RequestParam(defaultValue = "5") int limit) {
-        List<FaqSummaryDTO> relatedFaqs = faqService.findRelated(id, limit);
+        List<FaqSummaryDTO> relatedFaqs = catalogReadService.findRelated(id, limit);
         return ResponseEntity.ok(relatedFaqs);
     }
     
+    /**
+     * Lista FAQs ativos com pergunta parecida com a informada, para aviso durante a edição
+     */
+    @GetMapping("/duplicates/check")
+    public ResponseEntity<List<DuplicateCandidateDTO>> checkDuplicates(
+            @RequestParam String question,
+            @RequestParam(required = false) Long excludeId) {
+        List<DuplicateCandidateDTO> duplicates = faqService.findPossibleDuplicates(question, excludeId);
+        return ResponseEntity.ok(duplicates);
+    }
+    
+    /**
+     * Relatório de pares de FAQs ativos com perguntas quase duplicadas
+     */
+    @GetMapping("/duplicates")
+    public ResponseEntity<List<DuplicatePairDTO>> getDuplicatePairs(
+            @RequestParam(required = false) Double minSimilarity,
+            @RequestParam(defaultValue = "100") int limit) {
+        List<DuplicatePairDTO> pairs = faqService.findDuplicatePairs(minSimilarity, limit);
+        return ResponseEntity.ok(pairs);
+    }
+    
     /**
      * Cria novo FAQ
      */
@@ -144,6 +293,36 @@ public class FaqController {
         }
     }
     
+    /**
+     * Exporta os FAQs em NDJSON (um FAQ por linha, aceito por /faqs/bulk) ou CSV, sem montar o arquivo em memória
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportFaqs(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean includeInactive) {
+        FaqExportService.Format exportFormat = FaqExportService.Format.parse(format);
+        MediaType contentType = exportFormat == FaqExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+        String fileName = "faqs." + exportFormat.name().toLowerCase(Locale.ROOT);
+        StreamingResponseBody body = out -> faqExportService.export(exportFormat, includeInactive, out);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+    
+    /**
+     * Importa FAQs em massa a partir de um array JSON ou de NDJSON (um FAQ por linha)
+     */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkImportResponse> bulkImport(HttpServletRequest request) throws IOException {
+        BulkImportResponse response = faqImportService.importFaqs(request.getInputStream());
+        HttpStatus status = response.getImported() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+    
     /**
      * Atualiza FAQ existente
      */
@@ -1,6 +1,7 @@
 package com.faq.controller;
 
 import com.faq.dto.FeedbackDTO;
+import com.faq.service.FeedbackCounterService;
 import com.faq.service.FeedbackService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -21,6 +22,9 @@ public class FeedbackController {
     @Autowired
     private FeedbackService feedbackService;
     
+    @Autowired
+    private FeedbackCounterService feedbackCounterService;
+    
     /**
      * Cria ou atualiza feedback
      */
@@ -118,9 +122,18 @@ public class FeedbackController {
     }
     
     /**
-     * Extrai o IP do cliente da requisição
+     * Reconstrói os contadores de feedback a partir da tabela de feedbacks
+     */
+    @PostMapping("/admin/counters/reconcile")
+    public ResponseEntity<Map<String, Integer>> reconcileFeedbackCounters() {
+        Map<String, Integer> result = feedbackCounterService.reconcile();
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * Extrai o IP do cliente da requisição (visível no pacote para o FeedbackControllerBenchmark)
      */
-    private String getClientIpAddress(HttpServletRequest request) {
+    static String getClientIpAddress(HttpServletRequest request) {
         String xForwardedForHeader = request.getHeader("X-Forwarded-For");
         if (xForwardedForHeader == null) {
             return request.getRemoteAddr();
@@ -0,0 +1,43 @@
+package com.faq.dto;
+
+public class BulkImportErrorDTO {
+    private int index;
+    private String question;
+    private String message;
+    
+    public BulkImportErrorDTO() {}
+    
+    public BulkImportErrorDTO(int index, String question, String message) {
+        this.index = index;
+        this.question = question;
+        this.message = message;
+    }
+    
+    // Getters and Setters
+    /**
+     * Posição do item no corpo da requisição, a partir de zero
+     */
+    public int getIndex() {
+        return index;
+    }
+    
+    public void setIndex(int index) {
+        this.index = index;
+    }
+    
+    public String getQuestion() {
+        return question;
+    }
+    
+    public void setQuestion(String question) {
+        this.question = question;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
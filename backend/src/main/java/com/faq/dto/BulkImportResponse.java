@@ -0,0 +1,73 @@
+package com.faq.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkImportResponse {
+    private int received;
+    private int imported;
+    private int failed;
+    private List<BulkImportErrorDTO> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+    private long elapsedMs;
+    
+    public BulkImportResponse() {}
+    
+    // Getters and Setters
+    /**
+     * Itens lidos do corpo da requisição
+     */
+    public int getReceived() {
+        return received;
+    }
+    
+    public void setReceived(int received) {
+        this.received = received;
+    }
+    
+    public int getImported() {
+        return imported;
+    }
+    
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+    
+    public int getFailed() {
+        return failed;
+    }
+    
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+    
+    /**
+     * Erros por item; limitado a faq.bulk.max-reported-errors
+     */
+    public List<BulkImportErrorDTO> getErrors() {
+        return errors;
+    }
+    
+    public void setErrors(List<BulkImportErrorDTO> errors) {
+        this.errors = errors;
+    }
+    
+    /**
+     * Indica que houve mais erros do que os listados
+     */
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+    
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+    
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+    
+    public void setElapsedMs(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+}
@@ -0,0 +1,40 @@
+package com.faq.dto;
+
+public class CategoryFacetDTO {
+    private Long categoryId;
+    private String categoryName;
+    private long count;
+    
+    public CategoryFacetDTO() {}
+    
+    public CategoryFacetDTO(Long categoryId, String categoryName, long count) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.count = count;
+    }
+    
+    // Getters and Setters
+    public Long getCategoryId() {
+        return categoryId;
+    }
+    
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+    
+    public String getCategoryName() {
+        return categoryName;
+    }
+    
+    public void setCategoryName(String categoryName) {
+        this.categoryName = categoryName;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
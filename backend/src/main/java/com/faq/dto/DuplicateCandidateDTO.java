@@ -0,0 +1,40 @@
+package com.faq.dto;
+
+public class DuplicateCandidateDTO {
+    private Long faqId;
+    private String question;
+    private double similarity;
+    
+    public DuplicateCandidateDTO() {}
+    
+    public DuplicateCandidateDTO(Long faqId, String question, double similarity) {
+        this.faqId = faqId;
+        this.question = question;
+        this.similarity = similarity;
+    }
+    
+    // Getters and Setters
+    public Long getFaqId() {
+        return faqId;
+    }
+    
+    public void setFaqId(Long faqId) {
+        this.faqId = faqId;
+    }
+    
+    public String getQuestion() {
+        return question;
+    }
+    
+    public void setQuestion(String question) {
+        this.question = question;
+    }
+    
+    public double getSimilarity() {
+        return similarity;
+    }
+    
+    public void setSimilarity(double similarity) {
+        this.similarity = similarity;
+    }
+}
@@ -0,0 +1,60 @@
+package com.faq.dto;
+
+public class DuplicatePairDTO {
+    private Long faqId;
+    private String question;
+    private Long otherFaqId;
+    private String otherQuestion;
+    private double similarity;
+    
+    public DuplicatePairDTO() {}
+    
+    public DuplicatePairDTO(Long faqId, String question, Long otherFaqId, String otherQuestion, double similarity) {
+        this.faqId = faqId;
+        this.question = question;
+        this.otherFaqId = otherFaqId;
+        this.otherQuestion = otherQuestion;
+        this.similarity = similarity;
+    }
+    
+    // Getters and Setters
+    public Long getFaqId() {
+        return faqId;
+    }
+    
+    public void setFaqId(Long faqId) {
+        this.faqId = faqId;
+    }
+    
+    public String getQuestion() {
+        return question;
+    }
+    
+    public void setQuestion(String question) {
+        this.question = question;
+    }
+    
+    public Long getOtherFaqId() {
+        return otherFaqId;
+    }
+    
+    public void setOtherFaqId(Long otherFaqId) {
+        this.otherFaqId = otherFaqId;
+    }
+    
+    public String getOtherQuestion() {
+        return otherQuestion;
+    }
+    
+    public void setOtherQuestion(String otherQuestion) {
+        this.otherQuestion = otherQuestion;
+    }
+    
+    public double getSimilarity() {
+        return similarity;
+    }
+    
+    public void setSimilarity(double similarity) {
+        this.similarity = similarity;
+    }
+}
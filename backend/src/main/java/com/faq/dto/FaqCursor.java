@@ -0,0 +1,148 @@
+package com.faq.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Cursor opaco da paginação por keyset: a posição do último FAQ entregue na ordenação da lista.
+ *
+ * Ordem RECENT usa (createdAt, id); ordem MOST_VIEWED usa (viewCount, createdAt, id). O token
+ * é a chave codificada em Base64 URL-safe, com a ordem como prefixo para que um cursor não
+ * seja aceito em uma lista com outra ordenação.
+ */
+public final class FaqCursor {
+
+    public enum Order { RECENT, MOST_VIEWED }
+
+    /**
+     * Limite superior usado na primeira página, posterior a qualquer createdAt real
+     */
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    /**
+     * Data usada para FAQs sem createdAt (linhas legadas no PostgreSQL): ficam depois de todos
+     */
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1, 1, 1, 0, 0);
+
+    private static final String SEPARATOR = "|";
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final Order order;
+    private final Integer viewCount;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private FaqCursor(Order order, Integer viewCount, LocalDateTime createdAt, Long id) {
+        this.order = order;
+        this.viewCount = viewCount;
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * Posição anterior ao primeiro item da lista
+     */
+    public static FaqCursor first(Order order) {
+        return new FaqCursor(order, Integer.MAX_VALUE, MAX_CREATED_AT, Long.MAX_VALUE);
+    }
+
+    /**
+     * Posição do FAQ informado
+     */
+    public static FaqCursor after(Order order, FaqDTO faq) {
+        return new FaqCursor(order, faq.getViewCount(), createdAt(faq), faq.getId());
+    }
+
+    /**
+     * Decodifica o token recebido; token vazio ou ausente indica a primeira página
+     */
+    public static FaqCursor decode(String token, Order order) {
+        if (token == null || token.isBlank()) {
+            return first(order);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR);
+            if (order == Order.RECENT && parts.length == 3 && parts[0].equals(order.name())) {
+                return new FaqCursor(order, null, LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+            }
+            if (order == Order.MOST_VIEWED && parts.length == 4 && parts[0].equals(order.name())) {
+                return new FaqCursor(order, Integer.valueOf(parts[1]), LocalDateTime.parse(parts[2]),
+                        Long.valueOf(parts[3]));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // tratado abaixo
+        }
+        throw new IllegalArgumentException("Cursor de paginação inválido");
+    }
+
+    /**
+     * Token opaco a ser devolvido ao cliente
+     */
+    public String encode() {
+        String raw = order == Order.RECENT
+                ? String.join(SEPARATOR, order.name(), createdAt.toString(), id.toString())
+                : String.join(SEPARATOR, order.name(), String.valueOf(viewCount), createdAt.toString(), id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Indica se o FAQ vem depois desta posição na ordenação do cursor
+     */
+    public boolean precedes(FaqDTO faq) {
+        if (order == Order.MOST_VIEWED) {
+            int views = faq.getViewCount() == null ? 0 : faq.getViewCount();
+            if (views != viewCount) {
+                return views < viewCount;
+            }
+        }
+        int byDate = createdAt(faq).compareTo(createdAt);
+        return byDate < 0 || (byDate == 0 && faq.getId() < id);
+    }
+
+    private static LocalDateTime createdAt(FaqDTO faq) {
+        return faq.getCreatedAt() != null ? faq.getCreatedAt() : MIN_CREATED_AT;
+    }
+
+    /**
+     * Tamanho de página efetivo, entre 1 e MAX_PAGE_SIZE
+     */
+    public static int pageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Monta a página a partir de uma consulta que buscou até size + 1 itens: o item
+     * excedente só indica que há próxima página
+     */
+    public static FaqPageResponse toPage(List<FaqDTO> fetched, int size, Order order) {
+        boolean hasNext = fetched.size() > size;
+        List<FaqDTO> faqs = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? after(order, faqs.get(faqs.size() - 1)).encode() : null;
+        return new FaqPageResponse(faqs, nextCursor, hasNext);
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
+    public Integer getViewCount() {
+        return viewCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
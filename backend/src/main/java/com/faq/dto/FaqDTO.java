@@ -1,10 +1,12 @@
 package com.faq.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class FaqDTO {
     
@@ -29,6 +31,12 @@ public class FaqDTO {
     
     private String categoryName;
     
+    /**
+     * FAQs com pergunta quase igual, preenchido apenas nas respostas de criação e edição
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<DuplicateCandidateDTO> possibleDuplicates;
+    
     // Constructors
     public FaqDTO() {
     }
@@ -39,6 +47,24 @@ public class FaqDTO {
         this.categoryId = categoryId;
     }
     
+    /**
+     * Construtor usado nas projeções JPQL (SELECT new), que leem só as colunas do DTO
+     */
+    public FaqDTO(Long id, String question, String answer, Integer viewCount, Boolean isActive,
+                  Integer priority, LocalDateTime createdAt, LocalDateTime updatedAt,
+                  Long categoryId, String categoryName) {
+        this.id = id;
+        this.question = question;
+        this.answer = answer;
+        this.viewCount = viewCount;
+        this.isActive = isActive;
+        this.priority = priority;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+    }
+    
     // Getters and Setters
     public Long getId() {
         return id;
@@ -120,6 +146,14 @@ public class FaqDTO {
         this.categoryName = categoryName;
     }
     
+    public List<DuplicateCandidateDTO> getPossibleDuplicates() {
+        return possibleDuplicates;
+    }
+    
+    public void setPossibleDuplicates(List<DuplicateCandidateDTO> possibleDuplicates) {
+        this.possibleDuplicates = possibleDuplicates;
+    }
+    
     @Override
     public String toString() {
         return "FaqDTO{" +
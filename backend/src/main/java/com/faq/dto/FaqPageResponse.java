@@ -0,0 +1,80 @@
+package com.faq.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+public class FaqPageResponse {
+    private List<FaqDTO> faqs;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+    private Long totalElements;
+    
+    /**
+     * Resultados da busca por categoria, preenchido apenas quando a busca pede facets
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<CategoryFacetDTO> facets;
+    
+    public FaqPageResponse() {}
+    
+    public FaqPageResponse(List<FaqDTO> faqs, String nextCursor, boolean hasNext) {
+        this.faqs = faqs;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.size = faqs.size();
+    }
+    
+    // Getters and Setters
+    public List<FaqDTO> getFaqs() {
+        return faqs;
+    }
+    
+    public void setFaqs(List<FaqDTO> faqs) {
+        this.faqs = faqs;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasNext() {
+        return hasNext;
+    }
+    
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public void setSize(int size) {
+        this.size = size;
+    }
+    
+    /**
+     * Total estimado de itens da lista (servido de cache); nulo quando não solicitado
+     */
+    public Long getTotalElements() {
+        return totalElements;
+    }
+    
+    public void setTotalElements(Long totalElements) {
+        this.totalElements = totalElements;
+    }
+    
+    public List<CategoryFacetDTO> getFacets() {
+        return facets;
+    }
+    
+    public void setFacets(List<CategoryFacetDTO> facets) {
+        this.facets = facets;
+    }
+}
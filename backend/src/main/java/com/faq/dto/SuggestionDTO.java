@@ -0,0 +1,65 @@
+package com.faq.dto;
+
+public class SuggestionDTO {
+    
+    public enum Type {
+        QUESTION, CATEGORY
+    }
+    
+    private Type type;
+    private Long id;
+    private String text;
+    private Long categoryId;
+    private String categoryName;
+    
+    public SuggestionDTO() {}
+    
+    public SuggestionDTO(Type type, Long id, String text, Long categoryId, String categoryName) {
+        this.type = type;
+        this.id = id;
+        this.text = text;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+    }
+    
+    // Getters and Setters
+    public Type getType() {
+        return type;
+    }
+    
+    public void setType(Type type) {
+        this.type = type;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getText() {
+        return text;
+    }
+    
+    public void setText(String text) {
+        this.text = text;
+    }
+    
+    public Long getCategoryId() {
+        return categoryId;
+    }
+    
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+    
+    public String getCategoryName() {
+        return categoryName;
+    }
+    
+    public void setCategoryName(String categoryName) {
+        this.categoryName = categoryName;
+    }
+}
@@ -0,0 +1,32 @@
+package com.faq.dto;
+
+import java.time.LocalDateTime;
+
+public class TimeSeriesPoint {
+    private LocalDateTime bucketStart;
+    private long count;
+    
+    public TimeSeriesPoint() {}
+    
+    public TimeSeriesPoint(LocalDateTime bucketStart, long count) {
+        this.bucketStart = bucketStart;
+        this.count = count;
+    }
+    
+    // Getters and Setters
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+    
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,84 @@
+package com.faq.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class TimeSeriesResponse {
+    private Long faqId;
+    private String metric;
+    private String granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private long total;
+    private List<TimeSeriesPoint> points;
+    
+    public TimeSeriesResponse() {}
+    
+    public TimeSeriesResponse(Long faqId, String metric, String granularity,
+                              LocalDateTime from, LocalDateTime to, List<TimeSeriesPoint> points) {
+        this.faqId = faqId;
+        this.metric = metric;
+        this.granularity = granularity;
+        this.from = from;
+        this.to = to;
+        this.points = points;
+        this.total = points.stream().mapToLong(TimeSeriesPoint::getCount).sum();
+    }
+    
+    // Getters and Setters
+    public Long getFaqId() {
+        return faqId;
+    }
+    
+    public void setFaqId(Long faqId) {
+        this.faqId = faqId;
+    }
+    
+    public String getMetric() {
+        return metric;
+    }
+    
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+    
+    public String getGranularity() {
+        return granularity;
+    }
+    
+    public void setGranularity(String granularity) {
+        this.granularity = granularity;
+    }
+    
+    public LocalDateTime getFrom() {
+        return from;
+    }
+    
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+    
+    public LocalDateTime getTo() {
+        return to;
+    }
+    
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+    
+    public long getTotal() {
+        return total;
+    }
+    
+    public void setTotal(long total) {
+        this.total = total;
+    }
+    
+    public List<TimeSeriesPoint> getPoints() {
+        return points;
+    }
+    
+    public void setPoints(List<TimeSeriesPoint> points) {
+        this.points = points;
+    }
+}
@@ -0,0 +1,47 @@
+package com.faq.event;
+
+import com.faq.dto.CategoryDTO;
+
+/**
+ * Evento publicado pelo CategoryService a cada escrita em uma categoria.
+ * Os ouvintes o recebem após o commit.
+ */
+public class CategoryChangedEvent {
+    
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+    
+    private final ChangeType changeType;
+    private final Long categoryId;
+    private final CategoryDTO category;
+    
+    public CategoryChangedEvent(ChangeType changeType, Long categoryId, CategoryDTO category) {
+        this.changeType = changeType;
+        this.categoryId = categoryId;
+        this.category = category;
+    }
+    
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+    
+    public Long getCategoryId() {
+        return categoryId;
+    }
+    
+    /**
+     * Estado da categoria após a escrita; nulo quando a categoria foi removida
+     */
+    public CategoryDTO getCategory() {
+        return category;
+    }
+    
+    @Override
+    public String toString() {
+        return "CategoryChangedEvent{" +
+                "changeType=" + changeType +
+                ", categoryId=" + categoryId +
+                '}';
+    }
+}
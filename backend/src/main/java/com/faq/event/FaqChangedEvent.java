@@ -0,0 +1,64 @@
+package com.faq.event;
+
+import com.faq.dto.FaqDTO;
+
+/**
+ * Evento publicado pelo FaqService a cada escrita em um FAQ.
+ * Os ouvintes o recebem após o commit para atualizar índices e caches em memória.
+ */
+public class FaqChangedEvent {
+    
+    public enum ChangeType {
+        CREATED, UPDATED, STATUS_CHANGED, DELETED
+    }
+    
+    private final ChangeType changeType;
+    private final Long faqId;
+    private final FaqDTO faq;
+    private final Long previousCategoryId;
+    
+    public FaqChangedEvent(ChangeType changeType, Long faqId, FaqDTO faq) {
+        this(changeType, faqId, faq, null);
+    }
+    
+    public FaqChangedEvent(ChangeType changeType, Long faqId, FaqDTO faq, Long previousCategoryId) {
+        this.changeType = changeType;
+        this.faqId = faqId;
+        this.faq = faq;
+        this.previousCategoryId = previousCategoryId;
+    }
+    
+    public static FaqChangedEvent deleted(Long faqId, Long categoryId) {
+        return new FaqChangedEvent(ChangeType.DELETED, faqId, null, categoryId);
+    }
+    
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+    
+    public Long getFaqId() {
+        return faqId;
+    }
+    
+    /**
+     * Estado do FAQ após a escrita; nulo quando o FAQ foi removido
+     */
+    public FaqDTO getFaq() {
+        return faq;
+    }
+    
+    /**
+     * Categoria do FAQ antes da escrita; nula para FAQs recém-criados
+     */
+    public Long getPreviousCategoryId() {
+        return previousCategoryId;
+    }
+    
+    @Override
+    public String toString() {
+        return "FaqChangedEvent{" +
+                "changeType=" + changeType +
+                ", faqId=" + faqId +
+                '}';
+    }
+}
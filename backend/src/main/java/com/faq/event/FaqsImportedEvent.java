@@ -0,0 +1,27 @@
+package com.faq.event;
+
+/**
+ * Evento publicado pelo FaqImportService ao fim de uma importação em massa.
+ *
+ * Os FAQs importados não geram um FaqChangedEvent cada: as estruturas em memória são
+ * reconstruídas uma única vez e as demais réplicas recebem um pedido de ressincronização.
+ */
+public class FaqsImportedEvent {
+    
+    private final int importedCount;
+    
+    public FaqsImportedEvent(int importedCount) {
+        this.importedCount = importedCount;
+    }
+    
+    public int getImportedCount() {
+        return importedCount;
+    }
+    
+    @Override
+    public String toString() {
+        return "FaqsImportedEvent{" +
+                "importedCount=" + importedCount +
+                '}';
+    }
+}
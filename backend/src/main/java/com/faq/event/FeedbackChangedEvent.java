@@ -0,0 +1,58 @@
+package com.faq.event;
+
+import com.faq.model.Feedback;
+
+/**
+ * Evento publicado pelo FeedbackService a cada escrita de feedback.
+ * Quando todos os feedbacks de um FAQ são removidos de uma vez, feedbackId é nulo.
+ * Em CREATED e UPDATED, feedbackType traz o voto gravado; em DELETED é nulo.
+ */
+public class FeedbackChangedEvent {
+    
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+    
+    private final ChangeType changeType;
+    private final Long feedbackId;
+    private final Long faqId;
+    private final Feedback.FeedbackType feedbackType;
+    
+    public FeedbackChangedEvent(ChangeType changeType, Long feedbackId, Long faqId) {
+        this(changeType, feedbackId, faqId, null);
+    }
+    
+    public FeedbackChangedEvent(ChangeType changeType, Long feedbackId, Long faqId,
+                                Feedback.FeedbackType feedbackType) {
+        this.changeType = changeType;
+        this.feedbackId = feedbackId;
+        this.faqId = faqId;
+        this.feedbackType = feedbackType;
+    }
+    
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+    
+    public Long getFeedbackId() {
+        return feedbackId;
+    }
+    
+    public Long getFaqId() {
+        return faqId;
+    }
+    
+    public Feedback.FeedbackType getFeedbackType() {
+        return feedbackType;
+    }
+    
+    @Override
+    public String toString() {
+        return "FeedbackChangedEvent{" +
+                "changeType=" + changeType +
+                ", feedbackId=" + feedbackId +
+                ", faqId=" + faqId +
+                ", feedbackType=" + feedbackType +
+                '}';
+    }
+}
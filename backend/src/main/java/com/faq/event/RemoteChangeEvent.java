@@ -0,0 +1,55 @@
+package com.faq.event;
+
+/**
+ * Alteração feita por outra réplica da aplicação, recebida via LISTEN/NOTIFY do PostgreSQL.
+ *
+ * Carrega apenas o tipo da entidade, o ID e a versão (instante da escrita em milissegundos);
+ * os ouvintes recarregam do banco o que precisarem. Para FEEDBACK o ID é o do FAQ avaliado. Com entityType nulo o evento pede uma
+ * ressincronização completa, usada quando notificações podem ter sido perdidas
+ * e também publicada localmente após uma importação em massa.
+ */
+public class RemoteChangeEvent {
+    
+    public enum EntityType {
+        FAQ, CATEGORY, FEEDBACK
+    }
+    
+    private final EntityType entityType;
+    private final Long entityId;
+    private final long version;
+    
+    public RemoteChangeEvent(EntityType entityType, Long entityId, long version) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.version = version;
+    }
+    
+    public static RemoteChangeEvent resync() {
+        return new RemoteChangeEvent(null, null, System.currentTimeMillis());
+    }
+    
+    public boolean isResync() {
+        return entityType == null;
+    }
+    
+    public EntityType getEntityType() {
+        return entityType;
+    }
+    
+    public Long getEntityId() {
+        return entityId;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    @Override
+    public String toString() {
+        return "RemoteChangeEvent{" +
+                "entityType=" + entityType +
+                ", entityId=" + entityId +
+                ", version=" + version +
+                '}';
+    }
+}
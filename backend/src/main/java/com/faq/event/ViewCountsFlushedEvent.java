@@ -0,0 +1,28 @@
+package com.faq.event;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Evento publicado após o ViewCountBuffer gravar no banco as visualizações acumuladas.
+ * Carrega, por ID de FAQ, quantas visualizações foram somadas ao view_count.
+ */
+public class ViewCountsFlushedEvent {
+    
+    private final Map<Long, Long> increments;
+    
+    public ViewCountsFlushedEvent(Map<Long, Long> increments) {
+        this.increments = Collections.unmodifiableMap(increments);
+    }
+    
+    public Map<Long, Long> getIncrements() {
+        return increments;
+    }
+    
+    @Override
+    public String toString() {
+        return "ViewCountsFlushedEvent{" +
+                "faqs=" + increments.size() +
+                '}';
+    }
+}
@@ -0,0 +1,62 @@
+package com.faq.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Contagem de eventos de uma métrica de um FAQ em um intervalo de tempo fixo.
+ * Não há chave estrangeira para faqs: o histórico de FAQs excluídos sai pela retenção.
+ */
+@MappedSuperclass
+public abstract class AnalyticsBucket {
+    
+    @Id
+    @Column(name = "faq_id")
+    private Long faqId;
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", length = 32)
+    private AnalyticsMetric metric;
+    
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+    
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount = 0L;
+    
+    // Getters and Setters
+    public Long getFaqId() {
+        return faqId;
+    }
+    
+    public void setFaqId(Long faqId) {
+        this.faqId = faqId;
+    }
+    
+    public AnalyticsMetric getMetric() {
+        return metric;
+    }
+    
+    public void setMetric(AnalyticsMetric metric) {
+        this.metric = metric;
+    }
+    
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+    
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+    
+    public Long getEventCount() {
+        return eventCount;
+    }
+    
+    public void setEventCount(Long eventCount) {
+        this.eventCount = eventCount;
+    }
+}
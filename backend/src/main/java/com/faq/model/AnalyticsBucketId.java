@@ -0,0 +1,42 @@
+package com.faq.model;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Chave composta dos baldes de analytics: FAQ, métrica e início do intervalo
+ */
+public class AnalyticsBucketId implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
+    
+    private Long faqId;
+    private AnalyticsMetric metric;
+    private LocalDateTime bucketStart;
+    
+    // Constructors
+    public AnalyticsBucketId() {
+    }
+    
+    public AnalyticsBucketId(Long faqId, AnalyticsMetric metric, LocalDateTime bucketStart) {
+        this.faqId = faqId;
+        this.metric = metric;
+        this.bucketStart = bucketStart;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AnalyticsBucketId)) return false;
+        AnalyticsBucketId that = (AnalyticsBucketId) o;
+        return Objects.equals(faqId, that.faqId) &&
+                metric == that.metric &&
+                Objects.equals(bucketStart, that.bucketStart);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(faqId, metric, bucketStart);
+    }
+}
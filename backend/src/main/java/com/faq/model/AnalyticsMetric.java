@@ -0,0 +1,8 @@
+package com.faq.model;
+
+/**
+ * Métricas registradas nos baldes de analytics
+ */
+public enum AnalyticsMetric {
+    VIEW, FEEDBACK_POSITIVE, FEEDBACK_NEGATIVE
+}
@@ -0,0 +1,14 @@
+package com.faq.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Balde de um dia (bucket_start à meia-noite), consolidado a partir dos baldes de hora
+ */
+@Entity
+@IdClass(AnalyticsBucketId.class)
+@Table(name = "faq_analytics_daily", indexes = {
+    @Index(name = "idx_faq_analytics_daily_metric_start", columnList = "metric, bucket_start")
+})
+public class DailyAnalyticsBucket extends AnalyticsBucket {
+}
@@ -8,7 +8,11 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "faqs")
+@Table(name = "faqs", indexes = {
+    @Index(name = "idx_faqs_active_created_id", columnList = "is_active, created_at, id"),
+    @Index(name = "idx_faqs_category_active_created_id", columnList = "category_id, is_active, created_at, id"),
+    @Index(name = "idx_faqs_active_views_created_id", columnList = "is_active, view_count, created_at, id")
+})
 public class Faq {
     
     @Id
@@ -0,0 +1,81 @@
+package com.faq.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Contadores de feedback de um FAQ, mantidos junto com as escritas em feedbacks
+ * para que as estatísticas sejam lidas de uma única linha
+ */
+@Entity
+@Table(name = "faq_feedback_counters")
+public class FeedbackCounter {
+    
+    @Id
+    @Column(name = "faq_id")
+    private Long faqId;
+    
+    @Column(name = "positive_count", nullable = false)
+    private Long positiveCount = 0L;
+    
+    @Column(name = "negative_count", nullable = false)
+    private Long negativeCount = 0L;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public FeedbackCounter() {
+    }
+    
+    public FeedbackCounter(Long faqId, long positiveCount, long negativeCount) {
+        this.faqId = faqId;
+        this.positiveCount = positiveCount;
+        this.negativeCount = negativeCount;
+    }
+    
+    // Lifecycle callbacks
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public Long getFaqId() {
+        return faqId;
+    }
+    
+    public void setFaqId(Long faqId) {
+        this.faqId = faqId;
+    }
+    
+    public Long getPositiveCount() {
+        return positiveCount;
+    }
+    
+    public void setPositiveCount(Long positiveCount) {
+        this.positiveCount = positiveCount;
+    }
+    
+    public Long getNegativeCount() {
+        return negativeCount;
+    }
+    
+    public void setNegativeCount(Long negativeCount) {
+        this.negativeCount = negativeCount;
+    }
+    
+    public Long getTotalCount() {
+        return positiveCount + negativeCount;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,14 @@
+package com.faq.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Balde de uma hora, gravado a partir dos baldes de minuto mantidos em memória
+ */
+@Entity
+@IdClass(AnalyticsBucketId.class)
+@Table(name = "faq_analytics_hourly", indexes = {
+    @Index(name = "idx_faq_analytics_hourly_metric_start", columnList = "metric, bucket_start")
+})
+public class HourlyAnalyticsBucket extends AnalyticsBucket {
+}
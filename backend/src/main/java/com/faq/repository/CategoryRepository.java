@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +45,15 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
            "ORDER BY c.name ASC")
     List<Category> findCategoriesWithActiveFaqs();
     
+    /**
+     * Resumo de todos os FAQs das categorias informadas, em uma única consulta:
+     * [categoryId, id, question, viewCount, isActive, createdAt, updatedAt]
+     */
+    @Query("SELECT f.category.id, f.id, f.question, f.viewCount, f.isActive, f.createdAt, f.updatedAt " +
+           "FROM Faq f WHERE f.category.id IN :categoryIds " +
+           "ORDER BY f.id ASC")
+    List<Object[]> findFaqSummariesByCategoryIds(@Param("categoryIds") Collection<Long> categoryIds);
+    
     /**
      * Conta o número de FAQs por categoria
      */
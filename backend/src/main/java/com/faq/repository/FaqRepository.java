@@ -1,40 +1,96 @@
 package com.faq.repository;
 
+import com.faq.dto.FaqDTO;
+import com.faq.dto.FaqSummaryDTO;
 import com.faq.model.Faq;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface FaqRepository extends JpaRepository<Faq, Long> {
     
+    /**
+     * Linhas buscadas por ida ao banco nas consultas em stream
+     */
+    String STREAM_FETCH_SIZE = "500";
+    
     /**
      * Busca FAQs por categoria
      */
     List<Faq> findByCategoryIdOrderByCreatedAtDesc(Long categoryId);
     
     /**
-     * Busca FAQs ativos por categoria
+     * Busca FAQs ativos por categoria, projetados direto em DTO
+     */
+    @Query("SELECT new com.faq.dto.FaqDTO(f.id, f.question, f.answer, f.viewCount, f.isActive, f.priority, " +
+           "f.createdAt, f.updatedAt, c.id, c.name) " +
+           "FROM Faq f JOIN f.category c WHERE c.id = :categoryId AND f.isActive = true " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FaqDTO> findActiveFaqDTOsByCategory(@Param("categoryId") Long categoryId);
+    
+    /**
+     * Busca todos os FAQs ativos, projetados direto em DTO
+     */
+    @Query("SELECT new com.faq.dto.FaqDTO(f.id, f.question, f.answer, f.viewCount, f.isActive, f.priority, " +
+           "f.createdAt, f.updatedAt, c.id, c.name) " +
+           "FROM Faq f JOIN f.category c WHERE f.isActive = true " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FaqDTO> findActiveFaqDTOs();
+    
+    /**
+     * Percorre os FAQs ativos, projetados direto em DTO, na mesma ordem de findActiveFaqDTOs.
+     * O cursor é lido em blocos de STREAM_FETCH_SIZE linhas; deve ser consumido e fechado dentro
+     * de uma transação (no PostgreSQL o fetch size só vale com autocommit desligado).
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.faq.dto.FaqDTO(f.id, f.question, f.answer, f.viewCount, f.isActive, f.priority, " +
+           "f.createdAt, f.updatedAt, c.id, c.name) " +
+           "FROM Faq f JOIN f.category c WHERE f.isActive = true " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    Stream<FaqDTO> streamActiveFaqDTOs();
+    
+    /**
+     * Percorre todos os FAQs por ID, projetados direto em DTO, para exportação
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.faq.dto.FaqDTO(f.id, f.question, f.answer, f.viewCount, f.isActive, f.priority, " +
+           "f.createdAt, f.updatedAt, c.id, c.name) " +
+           "FROM Faq f JOIN f.category c " +
+           "WHERE (:includeInactive = true OR f.isActive = true) " +
+           "ORDER BY f.id")
+    Stream<FaqDTO> streamFaqDTOsForExport(@Param("includeInactive") boolean includeInactive);
+    
+    /**
+     * Busca todos os FAQs (ativos e inativos) já com a categoria carregada
      */
-    List<Faq> findByCategoryIdAndIsActiveTrueOrderByCreatedAtDesc(Long categoryId);
+    @Query("SELECT f FROM Faq f JOIN FETCH f.category")
+    List<Faq> findAllWithCategory();
     
     /**
-     * Busca todos os FAQs ativos
+     * Busca FAQ por ID já com a categoria carregada
      */
-    List<Faq> findByIsActiveTrueOrderByCreatedAtDesc();
+    @Query("SELECT f FROM Faq f JOIN FETCH f.category WHERE f.id = :id")
+    Optional<Faq> findByIdWithCategory(@Param("id") Long id);
     
     /**
      * Busca FAQs por texto na pergunta ou resposta
      */
-    @Query("SELECT f FROM Faq f WHERE " +
+    @Query("SELECT f FROM Faq f JOIN FETCH f.category WHERE " +
            "(LOWER(f.question) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(f.answer) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
            "AND f.isActive = true " +
@@ -44,7 +100,7 @@ public interface FaqRepository extends JpaRepository<Faq, Long> {
     /**
      * Busca FAQs por categoria e texto
      */
-    @Query("SELECT f FROM Faq f WHERE " +
+    @Query("SELECT f FROM Faq f JOIN FETCH f.category WHERE " +
            "f.category.id = :categoryId AND " +
            "(LOWER(f.question) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(f.answer) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
@@ -53,11 +109,140 @@ public interface FaqRepository extends JpaRepository<Faq, Long> {
     List<Faq> searchActiveFaqsByCategory(@Param("categoryId") Long categoryId, @Param("searchTerm") String searchTerm);
     
     /**
-     * Busca FAQs mais visualizados
+     * Busca textual do PostgreSQL sobre pergunta e resposta (configuração faq_portuguese).
+     * As expressões to_tsvector são idênticas às dos índices GIN idx_faqs_question_search e
+     * idx_faqs_answer_search, para que o planejador use índices em vez de varrer a tabela.
+     */
+    @Query(value = "SELECT f.* FROM faqs f WHERE " +
+           "f.is_active = true AND " +
+           "(to_tsvector('faq_portuguese', f.question) @@ websearch_to_tsquery('faq_portuguese', :searchTerm) OR " +
+           "to_tsvector('faq_portuguese', f.answer) @@ websearch_to_tsquery('faq_portuguese', :searchTerm)) " +
+           "ORDER BY ts_rank(setweight(to_tsvector('faq_portuguese', f.question), 'A') || " +
+           "setweight(to_tsvector('faq_portuguese', f.answer), 'B'), " +
+           "websearch_to_tsquery('faq_portuguese', :searchTerm)) DESC, f.created_at DESC",
+           nativeQuery = true)
+    List<Faq> fullTextSearchActiveFaqs(@Param("searchTerm") String searchTerm);
+    
+    /**
+     * Busca textual do PostgreSQL restrita a uma categoria
+     */
+    @Query(value = "SELECT f.* FROM faqs f WHERE " +
+           "f.is_active = true AND f.category_id = :categoryId AND " +
+           "(to_tsvector('faq_portuguese', f.question) @@ websearch_to_tsquery('faq_portuguese', :searchTerm) OR " +
+           "to_tsvector('faq_portuguese', f.answer) @@ websearch_to_tsquery('faq_portuguese', :searchTerm)) " +
+           "ORDER BY ts_rank(setweight(to_tsvector('faq_portuguese', f.question), 'A') || " +
+           "setweight(to_tsvector('faq_portuguese', f.answer), 'B'), " +
+           "websearch_to_tsquery('faq_portuguese', :searchTerm)) DESC, f.created_at DESC",
+           nativeQuery = true)
+    List<Faq> fullTextSearchActiveFaqsByCategory(@Param("categoryId") Long categoryId, @Param("searchTerm") String searchTerm);
+    
+    /**
+     * Página de FAQs ativos posteriores ao cursor (createdAt, id), do mais recente para o mais antigo
+     */
+    @Query("SELECT f FROM Faq f JOIN FETCH f.category WHERE f.isActive = true AND " +
+           "(f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<Faq> findActivePageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                  Pageable pageable);
+    
+    /**
+     * Página de FAQs ativos de uma categoria posteriores ao cursor (createdAt, id)
+     */
+    @Query("SELECT f FROM Faq f JOIN FETCH f.category WHERE f.isActive = true AND f.category.id = :categoryId AND " +
+           "(f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<Faq> findActivePageByCategoryAfter(@Param("categoryId") Long categoryId,
+                                            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                            Pageable pageable);
+    
+    /**
+     * Página de FAQs ativos com visualizações posteriores ao cursor (viewCount, createdAt, id)
+     */
+    @Query("SELECT f FROM Faq f JOIN FETCH f.category WHERE f.isActive = true AND f.viewCount > 0 AND " +
+           "(f.viewCount < :viewCount OR (f.viewCount = :viewCount AND " +
+           "(f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)))) " +
+           "ORDER BY f.viewCount DESC, f.createdAt DESC, f.id DESC")
+    List<Faq> findMostViewedPageAfter(@Param("viewCount") Integer viewCount,
+                                      @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                      Pageable pageable);
+    
+    /**
+     * Página da busca por texto posterior ao cursor (createdAt, id)
      */
-    @Query("SELECT f FROM Faq f WHERE f.isActive = true " +
+    @Query("SELECT f FROM Faq f JOIN FETCH f.category WHERE " +
+           "(LOWER(f.question) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(f.answer) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
+           "AND f.isActive = true AND " +
+           "(f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<Faq> searchActivePageAfter(@Param("searchTerm") String searchTerm,
+                                    @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                    Pageable pageable);
+    
+    /**
+     * Página da busca por categoria e texto posterior ao cursor (createdAt, id)
+     */
+    @Query("SELECT f FROM Faq f JOIN FETCH f.category WHERE " +
+           "f.category.id = :categoryId AND " +
+           "(LOWER(f.question) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(f.answer) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
+           "AND f.isActive = true AND " +
+           "(f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<Faq> searchActivePageByCategoryAfter(@Param("categoryId") Long categoryId,
+                                              @Param("searchTerm") String searchTerm,
+                                              @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                              Pageable pageable);
+    
+    /**
+     * Página da busca textual do PostgreSQL posterior ao cursor (createdAt, id)
+     */
+    @Query(value = "SELECT f.* FROM faqs f WHERE " +
+           "f.is_active = true AND " +
+           "(to_tsvector('faq_portuguese', f.question) @@ websearch_to_tsquery('faq_portuguese', :searchTerm) OR " +
+           "to_tsvector('faq_portuguese', f.answer) @@ websearch_to_tsquery('faq_portuguese', :searchTerm)) AND " +
+           "(f.created_at, f.id) < (:createdAt, :id) " +
+           "ORDER BY f.created_at DESC, f.id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Faq> fullTextSearchActivePageAfter(@Param("searchTerm") String searchTerm,
+                                            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                            @Param("limit") int limit);
+    
+    /**
+     * Página da busca textual do PostgreSQL restrita a uma categoria, posterior ao cursor (createdAt, id)
+     */
+    @Query(value = "SELECT f.* FROM faqs f WHERE " +
+           "f.is_active = true AND f.category_id = :categoryId AND " +
+           "(to_tsvector('faq_portuguese', f.question) @@ websearch_to_tsquery('faq_portuguese', :searchTerm) OR " +
+           "to_tsvector('faq_portuguese', f.answer) @@ websearch_to_tsquery('faq_portuguese', :searchTerm)) AND " +
+           "(f.created_at, f.id) < (:createdAt, :id) " +
+           "ORDER BY f.created_at DESC, f.id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Faq> fullTextSearchActivePageByCategoryAfter(@Param("categoryId") Long categoryId,
+                                                      @Param("searchTerm") String searchTerm,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      @Param("limit") int limit);
+    
+    /**
+     * Conta FAQs ativos
+     */
+    long countByIsActiveTrue();
+    
+    /**
+     * Conta FAQs ativos com visualizações
+     */
+    @Query("SELECT COUNT(f) FROM Faq f WHERE f.isActive = true AND f.viewCount > 0")
+    long countActiveWithViews();
+    
+    /**
+     * Busca os N FAQs mais visualizados, projetados direto em DTO
+     */
+    @Query("SELECT new com.faq.dto.FaqDTO(f.id, f.question, f.answer, f.viewCount, f.isActive, f.priority, " +
+           "f.createdAt, f.updatedAt, c.id, c.name) " +
+           "FROM Faq f JOIN f.category c WHERE f.isActive = true " +
            "ORDER BY f.viewCount DESC, f.createdAt DESC")
-    List<Faq> findMostViewedActiveFaqs();
+    List<FaqDTO> findMostViewedActiveFaqs(Limit limit);
     
     /**
      * Busca FAQs ativos ordenados por view_count com paginação
@@ -67,16 +252,19 @@ public interface FaqRepository extends JpaRepository<Faq, Long> {
     /**
      * Busca FAQs ativos com visualizações (view_count > 0) ordenados por view_count com paginação
      */
-    @Query("SELECT f FROM Faq f WHERE f.isActive = true AND f.viewCount > 0 " +
-           "ORDER BY f.viewCount DESC, f.createdAt DESC")
+    @Query(value = "SELECT f FROM Faq f JOIN FETCH f.category WHERE f.isActive = true AND f.viewCount > 0 " +
+           "ORDER BY f.viewCount DESC, f.createdAt DESC",
+           countQuery = "SELECT COUNT(f) FROM Faq f WHERE f.isActive = true AND f.viewCount > 0")
     Page<Faq> findByIsActiveTrueAndViewCountGreaterThanZeroOrderByViewCountDescCreatedAtDesc(Pageable pageable);
     
     /**
-     * Busca FAQs mais recentes
+     * Busca os N FAQs mais recentes, projetados direto em DTO
      */
-    @Query("SELECT f FROM Faq f WHERE f.isActive = true " +
-           "ORDER BY f.createdAt DESC")
-    List<Faq> findRecentActiveFaqs();
+    @Query("SELECT new com.faq.dto.FaqDTO(f.id, f.question, f.answer, f.viewCount, f.isActive, f.priority, " +
+           "f.createdAt, f.updatedAt, c.id, c.name) " +
+           "FROM Faq f JOIN f.category c WHERE f.isActive = true " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FaqDTO> findRecentActiveFaqs(Limit limit);
     
     /**
      * Incrementa o contador de visualizações
@@ -111,12 +299,19 @@ public interface FaqRepository extends JpaRepository<Faq, Long> {
     boolean existsByQuestionIgnoreCaseAndIsActiveTrue(String question);
     
     /**
-     * Busca FAQs relacionados (por categoria, excluindo o atual)
+     * Verifica se existe outro FAQ ativo com a pergunta especificada
      */
-    @Query("SELECT f FROM Faq f WHERE " +
-           "f.category.id = :categoryId AND " +
-           "f.id != :excludeId AND " +
+    boolean existsByQuestionIgnoreCaseAndIsActiveTrueAndIdNot(String question, Long id);
+    
+    /**
+     * Busca os N FAQs relacionados (mesma categoria do FAQ informado, excluindo ele próprio)
+     * em uma única consulta, projetados direto em SummaryDTO
+     */
+    @Query("SELECT new com.faq.dto.FaqSummaryDTO(f.id, f.question, f.viewCount, f.isActive, f.createdAt, f.updatedAt) " +
+           "FROM Faq f WHERE " +
+           "f.category.id = (SELECT r.category.id FROM Faq r WHERE r.id = :faqId) AND " +
+           "f.id != :faqId AND " +
            "f.isActive = true " +
            "ORDER BY f.viewCount DESC, f.createdAt DESC")
-    List<Faq> findRelatedFaqs(@Param("categoryId") Long categoryId, @Param("excludeId") Long excludeId);
+    List<FaqSummaryDTO> findRelatedFaqs(@Param("faqId") Long faqId, Limit limit);
 }
\ No newline at end of file
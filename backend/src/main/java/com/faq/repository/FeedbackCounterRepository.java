@@ -0,0 +1,51 @@
+package com.faq.repository;
+
+import com.faq.model.FeedbackCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+@Repository
+public interface FeedbackCounterRepository extends JpaRepository<FeedbackCounter, Long> {
+    
+    /**
+     * Soma os deltas aos contadores do FAQ na própria linha (sem ler antes), retornando as linhas afetadas
+     */
+    @Modifying
+    @Query("UPDATE FeedbackCounter c SET " +
+           "c.positiveCount = c.positiveCount + :positiveDelta, " +
+           "c.negativeCount = c.negativeCount + :negativeDelta, " +
+           "c.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE c.faqId = :faqId")
+    int addToCounters(@Param("faqId") Long faqId,
+                      @Param("positiveDelta") long positiveDelta,
+                      @Param("negativeDelta") long negativeDelta);
+    
+    /**
+     * Zera os contadores do FAQ
+     */
+    @Modifying
+    @Query("UPDATE FeedbackCounter c SET c.positiveCount = 0, c.negativeCount = 0, " +
+           "c.updatedAt = CURRENT_TIMESTAMP WHERE c.faqId = :faqId")
+    int resetCounters(@Param("faqId") Long faqId);
+    
+    /**
+     * Percorre os contadores dos FAQs com algum voto, com a pergunta de cada FAQ:
+     * [faqId, question, positiveCount, negativeCount]
+     */
+    @Query("SELECT c.faqId, f.question, c.positiveCount, c.negativeCount " +
+           "FROM FeedbackCounter c, Faq f " +
+           "WHERE f.id = c.faqId AND (c.positiveCount > 0 OR c.negativeCount > 0)")
+    Stream<Object[]> streamVotedCounters();
+    
+    /**
+     * Remove os contadores do FAQ
+     */
+    @Modifying
+    @Query("DELETE FROM FeedbackCounter c WHERE c.faqId = :faqId")
+    int deleteByFaqId(@Param("faqId") Long faqId);
+}
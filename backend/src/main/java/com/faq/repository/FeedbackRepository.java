@@ -1,7 +1,9 @@
 package com.faq.repository;
 
 import com.faq.model.Feedback;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -44,6 +46,14 @@ public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
      */
     Optional<Feedback> findByFaqIdAndUserIp(Long faqId, String userIp);
     
+    /**
+     * Busca feedback por FAQ e IP do usuário travando a linha até o fim da transação, para que
+     * trocas de voto simultâneas do mesmo IP leiam o voto anterior uma de cada vez
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM Feedback f WHERE f.faq.id = :faqId AND f.userIp = :userIp")
+    Optional<Feedback> findForUpdateByFaqIdAndUserIp(@Param("faqId") Long faqId, @Param("userIp") String userIp);
+    
     /**
      * Busca feedbacks por tipo
      */
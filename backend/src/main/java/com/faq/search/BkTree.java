@@ -0,0 +1,160 @@
+package com.faq.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * BK-tree de termos pela distância de Levenshtein, usada para expandir termos digitados com erro.
+ *
+ * Cada filho fica na posição igual à sua distância até o pai; pela desigualdade triangular, uma
+ * busca com tolerância k só desce pelos filhos nas posições [d - k, d + k], comparando a consulta
+ * com uma pequena fração do vocabulário. Inserções devem ser serializadas pelo chamador; buscas
+ * podem rodar em paralelo com elas e não usam locks.
+ */
+public final class BkTree {
+
+    private volatile Node root;
+    private volatile int size = 0;
+
+    /**
+     * Insere o termo, se ainda não estiver na árvore
+     */
+    public void add(String term) {
+        if (term == null || term.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        if (node == null) {
+            root = new Node(term);
+            size++;
+            return;
+        }
+        while (true) {
+            int distance = distance(term, node.term);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.child(distance);
+            if (child == null) {
+                node.attach(distance, new Node(term));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Termos a no máximo maxDistance edições da consulta, do mais próximo para o mais distante,
+     * limitados a limit resultados
+     */
+    public List<Match> search(String query, int maxDistance, int limit) {
+        List<Match> matches = new ArrayList<>();
+        Node start = root;
+        if (start == null || query == null || query.isEmpty() || limit <= 0) {
+            return matches;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(start);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(query, node.term);
+            if (distance <= maxDistance) {
+                matches.add(new Match(node.term, distance));
+            }
+            Node[] children = node.children;
+            int from = Math.max(1, distance - maxDistance);
+            int to = Math.min(children.length - 1, distance + maxDistance);
+            for (int i = from; i <= to; i++) {
+                if (children[i] != null) {
+                    pending.push(children[i]);
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::getDistance).thenComparing(Match::getTerm));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    /**
+     * Número de termos na árvore
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Distância de Levenshtein (inserções, remoções e substituições)
+     */
+    static int distance(String a, String b) {
+        if (a.length() < b.length()) {
+            String swap = a;
+            a = b;
+            b = swap;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * Termo encontrado e sua distância até a consulta
+     */
+    public static final class Match {
+        private final String term;
+        private final int distance;
+
+        private Match(String term, int distance) {
+            this.term = term;
+            this.distance = distance;
+        }
+
+        public String getTerm() {
+            return term;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+    }
+
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String term;
+        // Substituído por uma cópia a cada filho novo, para que leitores vejam sempre um array completo
+        private volatile Node[] children = NO_CHILDREN;
+
+        private Node(String term) {
+            this.term = term;
+        }
+
+        private Node child(int distance) {
+            Node[] current = children;
+            return distance < current.length ? current[distance] : null;
+        }
+
+        private void attach(int distance, Node child) {
+            Node[] copy = Arrays.copyOf(children, Math.max(children.length, distance + 1));
+            copy[distance] = child;
+            children = copy;
+        }
+    }
+}
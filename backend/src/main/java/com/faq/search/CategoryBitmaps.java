@@ -0,0 +1,124 @@
+package com.faq.search;
+
+import com.faq.dto.FaqDTO;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bitmaps imutáveis de FAQs ativos e de FAQs por categoria, indexados pelo ID do FAQ.
+ *
+ * Usados nas contagens por categoria da busca: o conjunto de resultados vira um bitmap e cada
+ * contagem é a cardinalidade da interseção com o bitmap da categoria, uma operação por palavra
+ * de 64 bits em vez de uma consulta por categoria. Alterações devolvem uma nova instância que
+ * copia apenas os bitmaps afetados, de modo que leitores nunca veem um bitmap pela metade.
+ */
+final class CategoryBitmaps {
+
+    static final CategoryBitmaps EMPTY = new CategoryBitmaps(new BitSet(), Collections.emptyMap());
+
+    private final BitSet active;
+    private final Map<Long, BitSet> byCategory;
+
+    private CategoryBitmaps(BitSet active, Map<Long, BitSet> byCategory) {
+        this.active = active;
+        this.byCategory = byCategory;
+    }
+
+    /**
+     * Coloca o FAQ na categoria informada (retirando-o de outra em que estivesse) e atualiza o estado ativo
+     */
+    CategoryBitmaps with(Long faqId, Long categoryId, boolean isActive) {
+        int bit = bit(faqId);
+        Map<Long, BitSet> categories = new HashMap<>(byCategory);
+        byCategory.forEach((id, members) -> {
+            if (members.get(bit) && !id.equals(categoryId)) {
+                categories.put(id, cleared(members, bit));
+            }
+        });
+        if (categoryId != null) {
+            BitSet members = (BitSet) categories.getOrDefault(categoryId, new BitSet()).clone();
+            members.set(bit);
+            categories.put(categoryId, members);
+        }
+        BitSet activeFaqs = (BitSet) active.clone();
+        activeFaqs.set(bit, isActive);
+        return new CategoryBitmaps(activeFaqs, Collections.unmodifiableMap(categories));
+    }
+
+    /**
+     * Retira o FAQ de todos os bitmaps
+     */
+    CategoryBitmaps without(Long faqId) {
+        return with(faqId, null, false);
+    }
+
+    /**
+     * Interseção do conjunto informado com os FAQs ativos (o conjunto é alterado)
+     */
+    BitSet retainActive(BitSet faqs) {
+        faqs.and(active);
+        return faqs;
+    }
+
+    /**
+     * Quantidade de FAQs do conjunto em cada categoria, apenas para as categorias com algum FAQ
+     */
+    Map<Long, Integer> countByCategory(BitSet faqs) {
+        Map<Long, Integer> counts = new HashMap<>();
+        byCategory.forEach((categoryId, members) -> {
+            BitSet intersection = (BitSet) faqs.clone();
+            intersection.and(members);
+            int count = intersection.cardinality();
+            if (count > 0) {
+                counts.put(categoryId, count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Primeiro FAQ do conjunto que pertence à categoria, ou -1
+     */
+    long firstIn(Long categoryId, BitSet faqs) {
+        BitSet members = byCategory.get(categoryId);
+        if (members == null) {
+            return -1;
+        }
+        BitSet intersection = (BitSet) faqs.clone();
+        intersection.and(members);
+        return intersection.nextSetBit(0);
+    }
+
+    /**
+     * Bitmaps completos a partir dos FAQs indexados, sem cópias intermediárias
+     */
+    static CategoryBitmaps build(Collection<FaqDTO> faqs) {
+        BitSet active = new BitSet();
+        Map<Long, BitSet> byCategory = new HashMap<>();
+        for (FaqDTO faq : faqs) {
+            int bit = bit(faq.getId());
+            if (faq.getCategoryId() != null) {
+                byCategory.computeIfAbsent(faq.getCategoryId(), id -> new BitSet()).set(bit);
+            }
+            active.set(bit, Boolean.TRUE.equals(faq.getIsActive()));
+        }
+        return new CategoryBitmaps(active, Collections.unmodifiableMap(byCategory));
+    }
+
+    /**
+     * Posição do FAQ nos bitmaps; os IDs são sequenciais e cabem em um int
+     */
+    static int bit(Long faqId) {
+        return Math.toIntExact(faqId);
+    }
+
+    private static BitSet cleared(BitSet members, int bit) {
+        BitSet copy = (BitSet) members.clone();
+        copy.clear(bit);
+        return copy;
+    }
+}
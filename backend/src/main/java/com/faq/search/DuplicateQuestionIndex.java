@@ -0,0 +1,327 @@
+package com.faq.search;
+
+import com.faq.dto.DuplicateCandidateDTO;
+import com.faq.dto.DuplicatePairDTO;
+import com.faq.dto.FaqDTO;
+import com.faq.event.FaqChangedEvent;
+import com.faq.event.RemoteChangeEvent;
+import com.faq.repository.FaqRepository;
+import com.faq.service.FaqMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detecção de perguntas quase duplicadas com MinHash e LSH (locality-sensitive hashing).
+ *
+ * Cada pergunta ativa é normalizada (minúsculas, sem acentos e pontuação) e quebrada em
+ * shingles de 3 caracteres. A assinatura MinHash de 128 valores estima a similaridade de
+ * Jaccard entre dois conjuntos de shingles; dividida em 32 faixas de 4 valores, faz com que
+ * perguntas parecidas caiam no mesmo balde em pelo menos uma faixa. Só os FAQs que dividem
+ * algum balde são comparados, pela similaridade de Jaccard exata dos shingles.
+ */
+@Component
+public class DuplicateQuestionIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(DuplicateQuestionIndex.class);
+
+    private static final int SHINGLE_SIZE = 3;
+    private static final int BANDS = 32;
+    private static final int ROWS_PER_BAND = 4;
+    private static final int SIGNATURE_SIZE = BANDS * ROWS_PER_BAND;
+
+    /**
+     * Coeficientes fixos das funções de hash, para que as assinaturas sejam estáveis entre réplicas
+     */
+    private static final long[] HASH_SEEDS = new SplittableRandom(0x5EEDL).longs(SIGNATURE_SIZE).toArray();
+
+    private static final Comparator<DuplicateCandidateDTO> MOST_SIMILAR_FIRST = Comparator
+            .comparingDouble(DuplicateCandidateDTO::getSimilarity).reversed()
+            .thenComparing(DuplicateCandidateDTO::getFaqId);
+
+    @Autowired
+    private FaqRepository faqRepository;
+
+    /**
+     * Similaridade mínima (Jaccard dos shingles) para um FAQ ser apontado como quase duplicado
+     */
+    @Value("${faq.duplicates.threshold:0.6}")
+    private double threshold;
+
+    private final Map<Long, IndexedQuestion> questions = new ConcurrentHashMap<>();
+    private final List<Map<Long, Set<Long>>> bands = new ArrayList<>(BANDS);
+    private volatile boolean ready = false;
+
+    public DuplicateQuestionIndex() {
+        for (int band = 0; band < BANDS; band++) {
+            bands.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Reindexa as perguntas de todos os FAQs ativos
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        questions.clear();
+        bands.forEach(Map::clear);
+        faqRepository.findAllWithCategory()
+                .stream()
+                .filter(faq -> Boolean.TRUE.equals(faq.getIsActive()))
+                .forEach(faq -> link(IndexedQuestion.of(faq.getId(), faq.getQuestion())));
+        ready = true;
+        log.info("Índice de perguntas duplicadas construído com {} FAQs em {} ms",
+                questions.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Indica se o índice já foi construído e pode responder às verificações
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Indica se algum FAQ ativo, exceto excludeId, tem exatamente esta pergunta (sem diferenciar maiúsculas)
+     */
+    public boolean hasExactDuplicate(String question, Long excludeId) {
+        IndexedQuestion probe = IndexedQuestion.of(null, question);
+        // Perguntas iguais têm a mesma assinatura e portanto caem nos mesmos baldes
+        for (Long faqId : candidates(probe)) {
+            IndexedQuestion other = questions.get(faqId);
+            if (other != null && !faqId.equals(excludeId) && other.lowerCase.equals(probe.lowerCase)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * FAQs ativos com pergunta parecida com a informada, do mais para o menos parecido
+     */
+    public List<DuplicateCandidateDTO> findSimilar(String question, Long excludeId) {
+        IndexedQuestion probe = IndexedQuestion.of(null, question);
+        List<DuplicateCandidateDTO> similar = new ArrayList<>();
+        for (Long faqId : candidates(probe)) {
+            IndexedQuestion other = questions.get(faqId);
+            if (other == null || faqId.equals(excludeId)) {
+                continue;
+            }
+            double similarity = jaccard(probe.shingles, other.shingles);
+            if (similarity >= threshold) {
+                similar.add(new DuplicateCandidateDTO(faqId, other.question, round(similarity)));
+            }
+        }
+        similar.sort(MOST_SIMILAR_FIRST);
+        return similar;
+    }
+
+    /**
+     * Pares de FAQs ativos quase duplicados em todo o catálogo, dos mais parecidos para os menos.
+     * Só pares que dividem um balde LSH são comparados; minSimilarity nulo usa o limiar configurado.
+     */
+    public List<DuplicatePairDTO> findDuplicatePairs(Double minSimilarity, int limit) {
+        double min = minSimilarity != null ? minSimilarity : threshold;
+        Map<Long, Set<Long>> compared = new HashMap<>();
+        List<DuplicatePairDTO> pairs = new ArrayList<>();
+        for (Map<Long, Set<Long>> band : bands) {
+            for (Set<Long> bucket : band.values()) {
+                if (bucket.size() < 2) {
+                    continue;
+                }
+                Long[] ids = bucket.toArray(new Long[0]);
+                Arrays.sort(ids);
+                for (int i = 0; i < ids.length; i++) {
+                    for (int j = i + 1; j < ids.length; j++) {
+                        // O mesmo par pode dividir baldes em várias faixas
+                        if (!compared.computeIfAbsent(ids[i], id -> new HashSet<>()).add(ids[j])) {
+                            continue;
+                        }
+                        IndexedQuestion a = questions.get(ids[i]);
+                        IndexedQuestion b = questions.get(ids[j]);
+                        if (a == null || b == null) {
+                            continue;
+                        }
+                        double similarity = jaccard(a.shingles, b.shingles);
+                        if (similarity >= min) {
+                            pairs.add(new DuplicatePairDTO(a.faqId, a.question, b.faqId, b.question, round(similarity)));
+                        }
+                    }
+                }
+            }
+        }
+        pairs.sort(Comparator.comparingDouble(DuplicatePairDTO::getSimilarity).reversed()
+                .thenComparing(DuplicatePairDTO::getFaqId)
+                .thenComparing(DuplicatePairDTO::getOtherFaqId));
+        return pairs.size() > limit ? new ArrayList<>(pairs.subList(0, Math.max(0, limit))) : pairs;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFaqChanged(FaqChangedEvent event) {
+        if (event.getChangeType() == FaqChangedEvent.ChangeType.DELETED) {
+            remove(event.getFaqId());
+        } else if (event.getFaq() != null) {
+            put(event.getFaq());
+        }
+    }
+
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        if (event.isResync()) {
+            rebuild();
+        } else if (event.getEntityType() == RemoteChangeEvent.EntityType.FAQ) {
+            faqRepository.findByIdWithCategory(event.getEntityId())
+                    .map(FaqMapper::toDTO)
+                    .ifPresentOrElse(this::put, () -> remove(event.getEntityId()));
+        }
+    }
+
+    /**
+     * Indexa (ou reindexa) a pergunta de um FAQ; FAQs inativos saem do índice
+     */
+    public synchronized void put(FaqDTO faq) {
+        remove(faq.getId());
+        if (Boolean.TRUE.equals(faq.getIsActive())) {
+            link(IndexedQuestion.of(faq.getId(), faq.getQuestion()));
+        }
+    }
+
+    /**
+     * Remove a pergunta de um FAQ do índice
+     */
+    public synchronized void remove(Long faqId) {
+        IndexedQuestion previous = questions.remove(faqId);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            bands.get(band).computeIfPresent(previous.bandKeys[band], (key, bucket) -> {
+                bucket.remove(faqId);
+                return bucket.isEmpty() ? null : bucket;
+            });
+        }
+    }
+
+    private void link(IndexedQuestion question) {
+        questions.put(question.faqId, question);
+        for (int band = 0; band < BANDS; band++) {
+            bands.get(band).computeIfAbsent(question.bandKeys[band], key -> ConcurrentHashMap.newKeySet())
+                    .add(question.faqId);
+        }
+    }
+
+    private Set<Long> candidates(IndexedQuestion probe) {
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            Set<Long> bucket = bands.get(band).get(probe.bandKeys[band]);
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        return candidates;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() && b.isEmpty()) {
+            return 1.0;
+        }
+        Set<String> smaller = a.size() <= b.size() ? a : b;
+        Set<String> larger = smaller == a ? b : a;
+        int intersection = 0;
+        for (String shingle : smaller) {
+            if (larger.contains(shingle)) {
+                intersection++;
+            }
+        }
+        return (double) intersection / (a.size() + b.size() - intersection);
+    }
+
+    private static double round(double similarity) {
+        return Math.round(similarity * 1000) / 1000.0;
+    }
+
+    /**
+     * Mistura de bits do SplitMix64, usada como família de funções de hash
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Pergunta indexada: shingles para a similaridade exata e chaves LSH de cada faixa
+     */
+    private static final class IndexedQuestion {
+        private final Long faqId;
+        private final String question;
+        private final String lowerCase;
+        private final Set<String> shingles;
+        private final long[] bandKeys;
+
+        private IndexedQuestion(Long faqId, String question, Set<String> shingles, long[] bandKeys) {
+            this.faqId = faqId;
+            this.question = question;
+            this.lowerCase = question == null ? "" : question.toLowerCase(Locale.ROOT);
+            this.shingles = shingles;
+            this.bandKeys = bandKeys;
+        }
+
+        static IndexedQuestion of(Long faqId, String question) {
+            String normalized = String.join(" ", TextNormalizer.tokenize(question));
+            Set<String> shingles = new HashSet<>();
+            if (normalized.length() <= SHINGLE_SIZE) {
+                shingles.add(normalized);
+            } else {
+                for (int i = 0; i + SHINGLE_SIZE <= normalized.length(); i++) {
+                    shingles.add(normalized.substring(i, i + SHINGLE_SIZE));
+                }
+            }
+
+            long[] signature = new long[SIGNATURE_SIZE];
+            Arrays.fill(signature, Long.MAX_VALUE);
+            for (String shingle : shingles) {
+                long base = mix(shingle.hashCode());
+                for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                    long hash = mix(base ^ HASH_SEEDS[i]);
+                    if (hash < signature[i]) {
+                        signature[i] = hash;
+                    }
+                }
+            }
+
+            long[] bandKeys = new long[BANDS];
+            for (int band = 0; band < BANDS; band++) {
+                long key = band;
+                for (int row = 0; row < ROWS_PER_BAND; row++) {
+                    key = mix(key * 31 + signature[band * ROWS_PER_BAND + row]);
+                }
+                bandKeys[band] = key;
+            }
+            return new IndexedQuestion(faqId, question, Collections.unmodifiableSet(shingles), bandKeys);
+        }
+    }
+}
@@ -0,0 +1,598 @@
+package com.faq.search;
+
+import com.faq.dto.CategoryFacetDTO;
+import com.faq.dto.FaqCursor;
+import com.faq.dto.FaqDTO;
+import com.faq.event.CategoryChangedEvent;
+import com.faq.event.FaqChangedEvent;
+import com.faq.event.RemoteChangeEvent;
+import com.faq.event.ViewCountsFlushedEvent;
+import com.faq.repository.FaqRepository;
+import com.faq.service.FaqMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Índice invertido em memória sobre pergunta e resposta dos FAQs.
+ *
+ * Construído em paralelo na inicialização e mantido incrementalmente pelos
+ * eventos de escrita do FaqService. Leituras não usam locks; escritas e
+ * reconstruções são serializadas entre si.
+ *
+ * O vocabulário também é guardado em uma BK-tree para a busca tolerante a erros de
+ * digitação. Termos que deixam de existir continuam na árvore até ela ser refeita, mas
+ * são ignorados por não terem mais lista de postagem.
+ *
+ * Para o ranking, cada documento guarda as frequências dos termos na pergunta e na resposta e o
+ * tamanho de cada campo; a pontuação é feita pelo SearchRanker. Bitmaps de FAQs ativos e de
+ * FAQs por categoria dão as contagens por categoria de uma busca.
+ */
+@Component
+public class FaqSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(FaqSearchIndex.class);
+
+    private static final Comparator<FaqDTO> MOST_RECENT_FIRST = Comparator
+            .comparing(FaqDTO::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(FaqDTO::getId, Comparator.reverseOrder());
+
+    @Autowired
+    private FaqRepository faqRepository;
+
+    @Autowired
+    private SearchRanker ranker;
+
+    /**
+     * Edições aceitas por termo na busca aproximada; termos curtos aceitam menos (ver maxEdits)
+     */
+    @Value("${faq.search.fuzzy.max-edits:2}")
+    private int fuzzyMaxEdits;
+
+    /**
+     * Termos do vocabulário considerados para cada termo da consulta, dos mais próximos aos mais distantes
+     */
+    @Value("${faq.search.fuzzy.max-expansions:50}")
+    private int fuzzyMaxExpansions;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Map<Long, IndexedFaq> documents = new ConcurrentHashMap<>();
+    private volatile NavigableMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+    private volatile BkTree vocabulary = new BkTree();
+    private volatile CategoryBitmaps categoryBitmaps = CategoryBitmaps.EMPTY;
+    // Somas dos tamanhos de pergunta e resposta, para os tamanhos médios do BM25
+    private volatile long totalQuestionLength = 0;
+    private volatile long totalAnswerLength = 0;
+    private volatile boolean ready = false;
+
+    /**
+     * Constrói o índice assim que a aplicação termina de subir
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Reconstrói o índice completo a partir do banco, tokenizando os FAQs em paralelo
+     */
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            long start = System.nanoTime();
+            List<IndexedFaq> indexed = faqRepository.findAllWithCategory()
+                    .parallelStream()
+                    .map(FaqMapper::toDTO)
+                    .map(IndexedFaq::of)
+                    .collect(Collectors.toList());
+
+            Map<Long, IndexedFaq> newDocuments = new ConcurrentHashMap<>(indexed.size() * 2);
+            NavigableMap<String, Set<Long>> newPostings = new ConcurrentSkipListMap<>();
+            indexed.parallelStream().forEach(doc -> {
+                newDocuments.put(doc.faq.getId(), doc);
+                for (String term : doc.terms) {
+                    newPostings.computeIfAbsent(term, t -> ConcurrentHashMap.newKeySet()).add(doc.faq.getId());
+                }
+            });
+
+            BkTree newVocabulary = new BkTree();
+            newPostings.keySet().forEach(newVocabulary::add);
+
+            documents = newDocuments;
+            postings = newPostings;
+            vocabulary = newVocabulary;
+            categoryBitmaps = CategoryBitmaps.build(indexed.stream().map(doc -> doc.faq).collect(Collectors.toList()));
+            totalQuestionLength = indexed.stream().mapToLong(doc -> doc.questionLength).sum();
+            totalAnswerLength = indexed.stream().mapToLong(doc -> doc.answerLength).sum();
+            ready = true;
+            log.info("Índice de busca construído com {} FAQs e {} termos em {} ms",
+                    newDocuments.size(), newPostings.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Aplica as escritas do FaqService após o commit
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFaqChanged(FaqChangedEvent event) {
+        if (event.getChangeType() == FaqChangedEvent.ChangeType.DELETED) {
+            remove(event.getFaqId());
+        } else if (event.getFaq() != null) {
+            put(event.getFaq());
+        }
+    }
+
+    /**
+     * Aplica escritas feitas por outras réplicas, recarregando do banco o FAQ alterado
+     */
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        if (event.isResync() || event.getEntityType() == RemoteChangeEvent.EntityType.CATEGORY) {
+            rebuild();
+        } else if (event.getEntityType() == RemoteChangeEvent.EntityType.FAQ) {
+            refresh(event.getEntityId());
+        }
+    }
+
+    /**
+     * Recarrega um FAQ do banco e o reindexa, ou o remove se não existir mais
+     */
+    public void refresh(Long faqId) {
+        faqRepository.findByIdWithCategory(faqId)
+                .map(FaqMapper::toDTO)
+                .ifPresentOrElse(this::put, () -> remove(faqId));
+    }
+
+    /**
+     * Mantém o nome da categoria dos DTOs indexados após a categoria ser renomeada
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.getChangeType() != CategoryChangedEvent.ChangeType.UPDATED || event.getCategory() == null) {
+            return;
+        }
+        String name = event.getCategory().getName();
+        writeLock.lock();
+        try {
+            documents.forEach((faqId, doc) -> {
+                if (event.getCategoryId().equals(doc.faq.getCategoryId()) && !name.equals(doc.faq.getCategoryName())) {
+                    FaqDTO updated = FaqMapper.copy(doc.faq);
+                    updated.setCategoryName(name);
+                    documents.put(faqId, doc.withFaq(updated));
+                }
+            });
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Soma ao DTO indexado as visualizações gravadas pelo ViewCountBuffer
+     */
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        writeLock.lock();
+        try {
+            event.getIncrements().forEach((faqId, delta) -> {
+                IndexedFaq doc = documents.get(faqId);
+                if (doc != null) {
+                    FaqDTO updated = FaqMapper.copy(doc.faq);
+                    updated.setViewCount((updated.getViewCount() == null ? 0 : updated.getViewCount()) + delta.intValue());
+                    documents.put(faqId, doc.withFaq(updated));
+                }
+            });
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Indexa (ou reindexa) um FAQ
+     */
+    public void put(FaqDTO faq) {
+        IndexedFaq doc = IndexedFaq.of(FaqMapper.copy(faq));
+        writeLock.lock();
+        try {
+            IndexedFaq previous = documents.put(faq.getId(), doc);
+            if (previous != null) {
+                unlinkTerms(previous.faq.getId(), previous.terms, doc.terms);
+                addLengths(-previous.questionLength, -previous.answerLength);
+            }
+            addLengths(doc.questionLength, doc.answerLength);
+            categoryBitmaps = categoryBitmaps.with(faq.getId(), faq.getCategoryId(), Boolean.TRUE.equals(faq.getIsActive()));
+            for (String term : doc.terms) {
+                postings.computeIfAbsent(term, t -> ConcurrentHashMap.newKeySet()).add(faq.getId());
+                vocabulary.add(term);
+            }
+            compactVocabularyIfStale();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Remove um FAQ do índice
+     */
+    public void remove(Long faqId) {
+        writeLock.lock();
+        try {
+            IndexedFaq previous = documents.remove(faqId);
+            if (previous != null) {
+                unlinkTerms(faqId, previous.terms, Collections.emptySet());
+                addLengths(-previous.questionLength, -previous.answerLength);
+                categoryBitmaps = categoryBitmaps.without(faqId);
+                compactVocabularyIfStale();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Indica se o índice já foi construído e pode responder buscas
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Busca um FAQ indexado por ID (ativo ou não)
+     */
+    public Optional<FaqDTO> get(Long faqId) {
+        IndexedFaq doc = documents.get(faqId);
+        return doc == null ? Optional.empty() : Optional.of(FaqMapper.copy(doc.faq));
+    }
+
+    /**
+     * Busca FAQs ativos cujo texto contém todos os termos da pesquisa.
+     * Cada termo casa com qualquer palavra indexada que comece por ele, de modo
+     * que buscas digitadas parcialmente continuam retornando resultados.
+     * Resultados são ordenados do mais recente para o mais antigo, como na busca no banco.
+     */
+    public List<FaqDTO> search(String searchTerm, Long categoryId) {
+        return collect(match(expand(TextNormalizer.tokenize(searchTerm), false)), categoryId);
+    }
+
+    /**
+     * Como search, mas cada termo também casa com as palavras do vocabulário a poucas edições
+     * dele ("sehna" encontra "senha"); acentos já são ignorados pela normalização
+     */
+    public List<FaqDTO> searchFuzzy(String searchTerm, Long categoryId) {
+        return collect(match(expand(TextNormalizer.tokenize(searchTerm), true)), categoryId);
+    }
+
+    /**
+     * Página de uma busca (normal ou aproximada) do mais recente para o mais antigo: os limit FAQs
+     * que casam e vêm depois da posição do cursor. Só esses ficam em um heap durante a varredura,
+     * sem ordenar nem copiar os demais resultados.
+     */
+    public List<FaqDTO> searchPage(String searchTerm, Long categoryId, boolean fuzzy, FaqCursor position, int limit) {
+        Map<Long, IndexedFaq> docs = documents;
+        // Cabeça do heap: o mais antigo dos mantidos, o primeiro a sair quando chega um mais recente
+        PriorityQueue<FaqDTO> page = new PriorityQueue<>(MOST_RECENT_FIRST.reversed());
+        for (Long id : match(expand(TextNormalizer.tokenize(searchTerm), fuzzy))) {
+            IndexedFaq doc = docs.get(id);
+            if (doc != null && Boolean.TRUE.equals(doc.faq.getIsActive())
+                    && (categoryId == null || categoryId.equals(doc.faq.getCategoryId()))
+                    && position.precedes(doc.faq)) {
+                page.offer(doc.faq);
+                if (page.size() > limit) {
+                    page.poll();
+                }
+            }
+        }
+        List<FaqDTO> results = new ArrayList<>(page);
+        results.sort(MOST_RECENT_FIRST);
+        return results.stream()
+                .map(FaqMapper::copy)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Os limit FAQs mais relevantes entre os que casam com a pesquisa (normal ou aproximada),
+     * do mais para o menos relevante. Só os limit melhores ficam em memória durante a pontuação.
+     */
+    public List<FaqDTO> searchRanked(String searchTerm, Long categoryId, boolean fuzzy, int limit) {
+        List<Map<String, Double>> expansions = expand(TextNormalizer.tokenize(searchTerm), fuzzy);
+        Map<Long, IndexedFaq> docs = documents;
+        List<FaqDTO> candidates = new ArrayList<>();
+        for (Long id : match(expansions)) {
+            IndexedFaq doc = docs.get(id);
+            if (doc != null && Boolean.TRUE.equals(doc.faq.getIsActive())
+                    && (categoryId == null || categoryId.equals(doc.faq.getCategoryId()))) {
+                candidates.add(doc.faq);
+            }
+        }
+        return topRanked(candidates, expansions, limit);
+    }
+
+    /**
+     * Quantos FAQs ativos casam com a pesquisa em cada categoria (todos os ativos, sem termos), da
+     * categoria com mais resultados para a com menos. Não considera filtro de categoria, para que
+     * o usuário veja quanto cada refinamento retornaria.
+     */
+    public List<CategoryFacetDTO> facets(String searchTerm, boolean fuzzy) {
+        CategoryBitmaps bitmaps = categoryBitmaps;
+        BitSet matched = new BitSet();
+        List<String> tokens = TextNormalizer.tokenize(searchTerm);
+        Map<Long, IndexedFaq> docs = documents;
+        for (Long id : tokens.isEmpty() ? docs.keySet() : match(expand(tokens, fuzzy))) {
+            matched.set(CategoryBitmaps.bit(id));
+        }
+        bitmaps.retainActive(matched);
+
+        List<CategoryFacetDTO> facets = new ArrayList<>();
+        bitmaps.countByCategory(matched).forEach((categoryId, count) -> {
+            IndexedFaq sample = docs.get(bitmaps.firstIn(categoryId, matched));
+            String name = sample != null ? sample.faq.getCategoryName() : null;
+            facets.add(new CategoryFacetDTO(categoryId, name, count));
+        });
+        facets.sort(Comparator.comparingLong(CategoryFacetDTO::getCount).reversed()
+                .thenComparing(CategoryFacetDTO::getCategoryName, Comparator.nullsLast(Comparator.naturalOrder())));
+        return facets;
+    }
+
+    /**
+     * Ordena por relevância FAQs encontrados fora do índice (busca no banco), usando as
+     * estatísticas do índice; devolve os limit melhores
+     */
+    public List<FaqDTO> rank(List<FaqDTO> faqs, String searchTerm, int limit) {
+        return topRanked(faqs, expand(TextNormalizer.tokenize(searchTerm), false), limit);
+    }
+
+    private List<FaqDTO> collect(Set<Long> matches, Long categoryId) {
+        Map<Long, IndexedFaq> docs = documents;
+        List<FaqDTO> results = new ArrayList<>(matches.size());
+        for (Long id : matches) {
+            IndexedFaq doc = docs.get(id);
+            if (doc != null && Boolean.TRUE.equals(doc.faq.getIsActive())
+                    && (categoryId == null || categoryId.equals(doc.faq.getCategoryId()))) {
+                results.add(doc.faq);
+            }
+        }
+        results.sort(MOST_RECENT_FIRST);
+        return results.stream()
+                .map(FaqMapper::copy)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Número de FAQs indexados
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Palavras indexadas que casam com cada termo da consulta, com a fração da pontuação de cada
+     * uma: 1 para a palavra exata, menos para as que o termo só inicia ou que estão a edições dele
+     */
+    private List<Map<String, Double>> expand(List<String> tokens, boolean fuzzy) {
+        // Termos mais longos são mais seletivos: começar por eles reduz as interseções
+        List<String> ordered = new ArrayList<>(new LinkedHashSet<>(tokens));
+        ordered.sort(Comparator.comparingInt(String::length).reversed());
+
+        NavigableMap<String, Set<Long>> currentPostings = postings;
+        List<Map<String, Double>> expansions = new ArrayList<>(ordered.size());
+        for (String token : ordered) {
+            Map<String, Double> terms = new HashMap<>();
+            for (String term : currentPostings.subMap(token, true, token + Character.MAX_VALUE, false).keySet()) {
+                terms.put(term, ranker.matchWeight(term.equals(token), 0));
+            }
+            int edits = fuzzy ? maxEdits(token) : 0;
+            if (edits > 0) {
+                for (BkTree.Match match : vocabulary.search(token, edits, fuzzyMaxExpansions)) {
+                    if (currentPostings.containsKey(match.getTerm())) {
+                        terms.merge(match.getTerm(), ranker.matchWeight(false, match.getDistance()), Math::max);
+                    }
+                }
+            }
+            expansions.add(terms);
+        }
+        return expansions;
+    }
+
+    /**
+     * Interseção, entre os termos da consulta, da união das listas de postagem das suas expansões
+     */
+    private Set<Long> match(List<Map<String, Double>> expansions) {
+        if (expansions.isEmpty()) {
+            return Collections.emptySet();
+        }
+        NavigableMap<String, Set<Long>> currentPostings = postings;
+        Set<Long> candidates = null;
+        for (Map<String, Double> terms : expansions) {
+            Set<Long> tokenMatches = new HashSet<>();
+            for (String term : terms.keySet()) {
+                Set<Long> posting = currentPostings.get(term);
+                if (posting != null) {
+                    tokenMatches.addAll(posting);
+                }
+            }
+            if (candidates == null) {
+                candidates = tokenMatches;
+            } else {
+                candidates.retainAll(tokenMatches);
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Pontua os candidatos e mantém só os limit melhores em um heap cuja raiz é o pior deles
+     */
+    private List<FaqDTO> topRanked(List<FaqDTO> candidates, List<Map<String, Double>> expansions, int limit) {
+        if (limit <= 0 || candidates.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, IndexedFaq> docs = documents;
+        NavigableMap<String, Set<Long>> currentPostings = postings;
+        int documentCount = Math.max(1, docs.size());
+        double avgQuestionLength = (double) totalQuestionLength / documentCount;
+        double avgAnswerLength = (double) totalAnswerLength / documentCount;
+        Map<String, Double> idfs = new HashMap<>();
+
+        Comparator<Scored> worstFirst = Comparator.comparingDouble((Scored scored) -> scored.score)
+                .thenComparing(scored -> scored.faq, MOST_RECENT_FIRST.reversed());
+        PriorityQueue<Scored> heap = new PriorityQueue<>(Math.min(limit, candidates.size()) + 1, worstFirst);
+        for (FaqDTO faq : candidates) {
+            IndexedFaq doc = docs.get(faq.getId());
+            double score = ranker.boost(faq);
+            if (doc != null) {
+                for (Map<String, Double> terms : expansions) {
+                    // Percorre o menor dos dois conjuntos: prefixos curtos podem expandir para muitas palavras
+                    Set<String> shared = terms.size() <= doc.terms.size() ? terms.keySet() : doc.terms;
+                    double best = 0;
+                    for (String term : shared) {
+                        Double weight = terms.get(term);
+                        if (weight == null || !doc.terms.contains(term)) {
+                            continue;
+                        }
+                        double idf = idfs.computeIfAbsent(term, t -> {
+                            Set<Long> posting = currentPostings.get(t);
+                            return ranker.idf(posting == null ? 0 : posting.size(), documentCount);
+                        });
+                        double termScore = weight * ranker.bm25(idf,
+                                doc.questionTf.getOrDefault(term, 0), doc.questionLength, avgQuestionLength,
+                                doc.answerTf.getOrDefault(term, 0), doc.answerLength, avgAnswerLength);
+                        best = Math.max(best, termScore);
+                    }
+                    score += best;
+                }
+            }
+            heap.offer(new Scored(faq, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<FaqDTO> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(FaqMapper.copy(heap.poll().faq));
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    private void addLengths(long questionDelta, long answerDelta) {
+        totalQuestionLength += questionDelta;
+        totalAnswerLength += answerDelta;
+    }
+
+    /**
+     * Termos curtos aceitam menos edições, senão "sim" casaria com quase tudo de três letras
+     */
+    private int maxEdits(String token) {
+        if (token.length() < 3) {
+            return 0;
+        }
+        return Math.min(fuzzyMaxEdits, token.length() < 5 ? 1 : 2);
+    }
+
+    /**
+     * Refaz a árvore quando metade dela são termos que não existem mais; chamado com o lock de escrita
+     */
+    private void compactVocabularyIfStale() {
+        if (vocabulary.size() > 2 * postings.size() + 64) {
+            BkTree compacted = new BkTree();
+            postings.keySet().forEach(compacted::add);
+            vocabulary = compacted;
+        }
+    }
+
+    private void unlinkTerms(Long faqId, Set<String> oldTerms, Set<String> keptTerms) {
+        for (String term : oldTerms) {
+            if (keptTerms.contains(term)) {
+                continue;
+            }
+            Set<Long> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(faqId);
+                if (posting.isEmpty()) {
+                    postings.remove(term, posting);
+                }
+            }
+        }
+    }
+
+    /**
+     * Documento indexado: o DTO do FAQ, o conjunto de termos de pergunta e resposta e, para o
+     * ranking, a frequência de cada termo e o tamanho de cada campo
+     */
+    private static final class IndexedFaq {
+        private final FaqDTO faq;
+        private final Set<String> terms;
+        private final Map<String, Integer> questionTf;
+        private final Map<String, Integer> answerTf;
+        private final int questionLength;
+        private final int answerLength;
+
+        private IndexedFaq(FaqDTO faq, Set<String> terms, Map<String, Integer> questionTf,
+                           Map<String, Integer> answerTf, int questionLength, int answerLength) {
+            this.faq = faq;
+            this.terms = terms;
+            this.questionTf = questionTf;
+            this.answerTf = answerTf;
+            this.questionLength = questionLength;
+            this.answerLength = answerLength;
+        }
+
+        static IndexedFaq of(FaqDTO faq) {
+            List<String> question = TextNormalizer.tokenize(faq.getQuestion());
+            List<String> answer = TextNormalizer.tokenize(faq.getAnswer());
+            Set<String> terms = new HashSet<>(question);
+            terms.addAll(answer);
+            return new IndexedFaq(faq, Collections.unmodifiableSet(terms), frequencies(question),
+                    frequencies(answer), question.size(), answer.size());
+        }
+
+        IndexedFaq withFaq(FaqDTO updated) {
+            return new IndexedFaq(updated, terms, questionTf, answerTf, questionLength, answerLength);
+        }
+
+        private static Map<String, Integer> frequencies(List<String> tokens) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+            return frequencies;
+        }
+    }
+
+    private static final class Scored {
+        private final FaqDTO faq;
+        private final double score;
+
+        private Scored(FaqDTO faq, double score) {
+            this.faq = faq;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.faq.search;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Detecta se o banco suporta a busca textual do PostgreSQL usada pelo mecanismo "fulltext".
+ *
+ * Exige PostgreSQL com a configuração de busca textual faq_portuguese criada
+ * (ver fulltext-search-postgresql.sql). Em qualquer outro banco, como o H2 do
+ * perfil dev, as buscas continuam usando as consultas LIKE.
+ */
+@Component
+public class FullTextSearchSupport {
+
+    static final String TEXT_SEARCH_CONFIG = "faq_portuguese";
+
+    private static final Logger log = LoggerFactory.getLogger(FullTextSearchSupport.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    private volatile boolean available = false;
+
+    @PostConstruct
+    public void detect() {
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if (!"PostgreSQL".equalsIgnoreCase(product)) {
+                log.info("Busca textual indisponível em {}; usando consultas LIKE", product);
+                return;
+            }
+        } catch (SQLException e) {
+            log.warn("Não foi possível identificar o banco para a busca textual: {}", e.getMessage());
+            return;
+        }
+
+        Integer configs = new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM pg_ts_config WHERE cfgname = ?", Integer.class, TEXT_SEARCH_CONFIG);
+        available = configs != null && configs > 0;
+        if (!available) {
+            log.warn("Configuração de busca textual '{}' não encontrada; execute fulltext-search-postgresql.sql. " +
+                    "Usando consultas LIKE", TEXT_SEARCH_CONFIG);
+        }
+    }
+
+    /**
+     * Indica se as consultas de busca textual do FaqRepository podem ser executadas
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+}
@@ -0,0 +1,451 @@
+package com.faq.search;
+
+import com.faq.dto.FaqDTO;
+import com.faq.dto.FaqSummaryDTO;
+import com.faq.event.FaqChangedEvent;
+import com.faq.event.RemoteChangeEvent;
+import com.faq.event.ViewCountsFlushedEvent;
+import com.faq.repository.FaqRepository;
+import com.faq.service.FaqMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Vizinhos pré-calculados de cada FAQ ativo, por similaridade de conteúdo (TF-IDF e cosseno).
+ *
+ * Cada FAQ vira um vetor TF-IDF normalizado dos termos de pergunta (com peso dobrado) e resposta,
+ * e a similaridade entre dois FAQs é o produto escalar dos vetores, calculado apenas sobre os
+ * FAQs que compartilham algum termo (via listas de postagem). Os N vizinhos mais próximos de cada
+ * FAQ são guardados, de modo que /faqs/{id}/related é uma consulta a um mapa.
+ *
+ * Criar ou editar um FAQ recalcula só os vizinhos dele e insere o FAQ nas listas em que passou a
+ * caber; listas que perderam o FAQ são recalculadas. Os pesos IDF dos demais FAQs são atualizados
+ * na reconstrução periódica.
+ */
+@Component
+public class RelatedFaqIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(RelatedFaqIndex.class);
+
+    /**
+     * Termos mais curtos (artigos, preposições) não ajudam a aproximar conteúdos
+     */
+    private static final int MIN_TERM_LENGTH = 3;
+
+    /**
+     * Abaixo deste número de FAQs o limite de frequência de documento não é aplicado
+     */
+    private static final int MIN_DOCUMENTS_FOR_DF_LIMIT = 20;
+
+    private static final Comparator<Neighbour> CLOSEST_FIRST = Comparator
+            .comparingDouble((Neighbour neighbour) -> neighbour.score).reversed()
+            .thenComparingLong(neighbour -> neighbour.faqId);
+
+    @Autowired
+    private FaqRepository faqRepository;
+
+    /**
+     * similarity: vizinhos por conteúdo (este índice) | category: mesma categoria por visualizações
+     */
+    @Value("${faq.related.engine:similarity}")
+    private String engine;
+
+    @Value("${faq.related.neighbours:10}")
+    private int maxNeighbours;
+
+    /**
+     * Termos presentes em mais que esta fração dos FAQs são ignorados
+     */
+    @Value("${faq.related.max-document-frequency:0.5}")
+    private double maxDocumentFrequency;
+
+    /**
+     * Acréscimo à similaridade de FAQs da mesma categoria que já compartilham termos
+     */
+    @Value("${faq.related.category-boost:0.05}")
+    private double categoryBoost;
+
+    // Estado de escrita, protegido pelo monitor do índice
+    private final Map<Long, Map<String, Integer>> termFrequencies = new HashMap<>();
+    private final Map<String, Integer> documentFrequencies = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private boolean dirty = false;
+
+    // Estado de leitura, sem locks
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<Long, List<Neighbour>> neighbours = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (isEnabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Indica se /faqs/{id}/related deve ser atendido por este índice
+     */
+    public boolean isServing() {
+        return isEnabled() && ready;
+    }
+
+    /**
+     * Até limit FAQs mais parecidos com o FAQ informado, do mais para o menos parecido
+     */
+    public List<FaqSummaryDTO> related(Long faqId, int limit) {
+        List<Neighbour> closest = neighbours.get(faqId);
+        if (closest == null || limit <= 0) {
+            return List.of();
+        }
+        List<FaqSummaryDTO> related = new ArrayList<>(Math.min(limit, closest.size()));
+        for (Neighbour neighbour : closest) {
+            if (related.size() == limit) {
+                break;
+            }
+            Document doc = documents.get(neighbour.faqId);
+            if (doc != null) {
+                related.add(doc.summary());
+            }
+        }
+        return related;
+    }
+
+    /**
+     * Reconstrói vetores e vizinhos de todos os FAQs ativos, com os pesos IDF atuais
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        List<FaqDTO> faqs = faqRepository.findAllWithCategory()
+                .stream()
+                .filter(faq -> Boolean.TRUE.equals(faq.getIsActive()))
+                .map(FaqMapper::toDTO)
+                .collect(Collectors.toList());
+
+        termFrequencies.clear();
+        documentFrequencies.clear();
+        for (FaqDTO faq : faqs) {
+            Map<String, Integer> frequencies = termFrequencies(faq);
+            termFrequencies.put(faq.getId(), frequencies);
+            frequencies.keySet().forEach(term -> documentFrequencies.merge(term, 1, Integer::sum));
+        }
+
+        // Os mapas de leitura são atualizados no lugar: leitores nunca encontram o índice vazio
+        Map<Long, Document> built = new HashMap<>();
+        postings.clear();
+        for (FaqDTO faq : faqs) {
+            Document doc = vectorize(faq);
+            built.put(faq.getId(), doc);
+            doc.weights.keySet().forEach(term -> postings.computeIfAbsent(term, t -> new HashSet<>()).add(faq.getId()));
+        }
+        documents.putAll(built);
+        documents.keySet().retainAll(built.keySet());
+
+        Map<Long, List<Neighbour>> computed = documents.values()
+                .parallelStream()
+                .collect(Collectors.toConcurrentMap(doc -> doc.faqId, doc -> topNeighbours(doc, similarities(doc))));
+        neighbours.keySet().retainAll(computed.keySet());
+        neighbours.putAll(computed);
+        dirty = false;
+        ready = true;
+        log.info("Índice de FAQs relacionados construído com {} FAQs e {} termos em {} ms",
+                documents.size(), postings.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Atualiza os pesos IDF quando houve escritas desde a última reconstrução
+     */
+    @Scheduled(fixedDelayString = "${faq.related.rebuild-interval-ms:3600000}",
+            initialDelayString = "${faq.related.rebuild-interval-ms:3600000}")
+    public void rebuildIfDirty() {
+        boolean pending;
+        synchronized (this) {
+            pending = dirty;
+        }
+        if (pending && isEnabled()) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFaqChanged(FaqChangedEvent event) {
+        if (!isServing()) {
+            return;
+        }
+        if (event.getChangeType() == FaqChangedEvent.ChangeType.DELETED) {
+            remove(event.getFaqId());
+        } else if (event.getFaq() != null) {
+            put(event.getFaq());
+        }
+    }
+
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        if (!isServing()) {
+            return;
+        }
+        if (event.isResync()) {
+            rebuild();
+        } else if (event.getEntityType() == RemoteChangeEvent.EntityType.FAQ) {
+            faqRepository.findByIdWithCategory(event.getEntityId())
+                    .map(FaqMapper::toDTO)
+                    .ifPresentOrElse(this::put, () -> remove(event.getEntityId()));
+        }
+    }
+
+    /**
+     * Mantém o viewCount dos resumos devolvidos
+     */
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        event.getIncrements().forEach((faqId, delta) -> documents.computeIfPresent(faqId,
+                (id, doc) -> doc.withViewCount(doc.viewCount + delta.intValue())));
+    }
+
+    /**
+     * Indexa um FAQ criado ou editado e atualiza as listas de vizinhos afetadas
+     */
+    public synchronized void put(FaqDTO faq) {
+        if (!Boolean.TRUE.equals(faq.getIsActive())) {
+            remove(faq.getId());
+            return;
+        }
+        Long faqId = faq.getId();
+        Set<Long> formerNeighbourOf = unlink(faqId);
+
+        Map<String, Integer> frequencies = termFrequencies(faq);
+        termFrequencies.put(faqId, frequencies);
+        frequencies.keySet().forEach(term -> documentFrequencies.merge(term, 1, Integer::sum));
+        Document doc = vectorize(faq);
+        documents.put(faqId, doc);
+        doc.weights.keySet().forEach(term -> postings.computeIfAbsent(term, t -> new HashSet<>()).add(faqId));
+
+        Map<Long, Double> scores = similarities(doc);
+        neighbours.put(faqId, topNeighbours(doc, scores));
+
+        // Similaridade é simétrica: o FAQ entra na lista de quem ficou próximo dele
+        Set<Long> affected = new HashSet<>(formerNeighbourOf);
+        affected.addAll(scores.keySet());
+        for (Long otherId : affected) {
+            Double score = scores.get(otherId);
+            if (formerNeighbourOf.contains(otherId)) {
+                // Pode ter se afastado: só um recálculo completo encontra o substituto
+                neighbours.put(otherId, topNeighbours(documents.get(otherId), similarities(documents.get(otherId))));
+            } else if (score != null) {
+                insertNeighbour(otherId, new Neighbour(faqId, score));
+            }
+        }
+        dirty = true;
+    }
+
+    /**
+     * Remove um FAQ e recalcula as listas em que ele aparecia
+     */
+    public synchronized void remove(Long faqId) {
+        Set<Long> formerNeighbourOf = unlink(faqId);
+        documents.remove(faqId);
+        neighbours.remove(faqId);
+        for (Long otherId : formerNeighbourOf) {
+            Document other = documents.get(otherId);
+            if (other != null) {
+                neighbours.put(otherId, topNeighbours(other, similarities(other)));
+            }
+        }
+        dirty = true;
+    }
+
+    /**
+     * Tira o FAQ das listas de postagem e das frequências, devolvendo os FAQs que o tinham como vizinho
+     */
+    private Set<Long> unlink(Long faqId) {
+        Map<String, Integer> previous = termFrequencies.remove(faqId);
+        if (previous != null) {
+            for (String term : previous.keySet()) {
+                documentFrequencies.computeIfPresent(term, (t, df) -> df > 1 ? df - 1 : null);
+                Set<Long> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(faqId);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+        Set<Long> neighbourOf = new HashSet<>();
+        neighbours.forEach((otherId, list) -> {
+            if (!otherId.equals(faqId) && list.stream().anyMatch(neighbour -> neighbour.faqId == faqId)) {
+                neighbourOf.add(otherId);
+            }
+        });
+        return neighbourOf;
+    }
+
+    private void insertNeighbour(Long faqId, Neighbour candidate) {
+        List<Neighbour> current = neighbours.getOrDefault(faqId, List.of());
+        if (current.size() >= maxNeighbours
+                && CLOSEST_FIRST.compare(candidate, current.get(current.size() - 1)) > 0) {
+            return;
+        }
+        List<Neighbour> updated = new ArrayList<>(current.size() + 1);
+        updated.addAll(current);
+        updated.add(candidate);
+        updated.sort(CLOSEST_FIRST);
+        if (updated.size() > maxNeighbours) {
+            updated.remove(updated.size() - 1);
+        }
+        neighbours.put(faqId, Collections.unmodifiableList(updated));
+    }
+
+    /**
+     * Similaridade do documento com cada FAQ que compartilha ao menos um termo com ele
+     */
+    private Map<Long, Double> similarities(Document doc) {
+        Map<Long, Double> scores = new HashMap<>();
+        doc.weights.forEach((term, weight) -> {
+            Set<Long> posting = postings.get(term);
+            if (posting == null) {
+                return;
+            }
+            for (Long otherId : posting) {
+                if (otherId.equals(doc.faqId)) {
+                    continue;
+                }
+                Document other = documents.get(otherId);
+                Double otherWeight = other == null ? null : other.weights.get(term);
+                if (otherWeight != null) {
+                    scores.merge(otherId, weight * otherWeight, Double::sum);
+                }
+            }
+        });
+        scores.replaceAll((otherId, score) ->
+                doc.categoryId.equals(documents.get(otherId).categoryId) ? score + categoryBoost : score);
+        return scores;
+    }
+
+    private List<Neighbour> topNeighbours(Document doc, Map<Long, Double> scores) {
+        int k = Math.max(1, maxNeighbours);
+        // Min-heap com os K mais próximos: a raiz é o mais distante deles
+        PriorityQueue<Neighbour> heap = new PriorityQueue<>(k + 1, CLOSEST_FIRST.reversed());
+        scores.forEach((otherId, score) -> {
+            heap.offer(new Neighbour(otherId, score));
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        });
+        List<Neighbour> closest = new ArrayList<>(heap);
+        closest.sort(CLOSEST_FIRST);
+        return Collections.unmodifiableList(closest);
+    }
+
+    /**
+     * Vetor TF-IDF normalizado: (1 + ln tf) * ln(N / df), sem os termos frequentes demais
+     */
+    private Document vectorize(FaqDTO faq) {
+        Map<String, Integer> frequencies = termFrequencies.get(faq.getId());
+        int total = termFrequencies.size();
+        Map<String, Double> weights = new HashMap<>();
+        double norm = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            int df = documentFrequencies.getOrDefault(entry.getKey(), 1);
+            if (total >= MIN_DOCUMENTS_FOR_DF_LIMIT && df > maxDocumentFrequency * total) {
+                continue;
+            }
+            double weight = (1 + Math.log(entry.getValue())) * Math.log(1 + (double) total / df);
+            weights.put(entry.getKey(), weight);
+            norm += weight * weight;
+        }
+        double length = Math.sqrt(norm);
+        if (length > 0) {
+            weights.replaceAll((term, weight) -> weight / length);
+        }
+        return Document.of(faq, weights);
+    }
+
+    private static Map<String, Integer> termFrequencies(FaqDTO faq) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        // A pergunta resume o assunto: seus termos contam em dobro
+        for (String term : TextNormalizer.tokenize(faq.getQuestion())) {
+            if (term.length() >= MIN_TERM_LENGTH) {
+                frequencies.merge(term, 2, Integer::sum);
+            }
+        }
+        for (String term : TextNormalizer.tokenize(faq.getAnswer())) {
+            if (term.length() >= MIN_TERM_LENGTH) {
+                frequencies.merge(term, 1, Integer::sum);
+            }
+        }
+        return frequencies;
+    }
+
+    private boolean isEnabled() {
+        return "similarity".equalsIgnoreCase(engine);
+    }
+
+    /**
+     * FAQ indexado: dados do resumo devolvido e vetor TF-IDF normalizado
+     */
+    private static final class Document {
+        private final Long faqId;
+        private final Long categoryId;
+        private final String question;
+        private final int viewCount;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+        private final Map<String, Double> weights;
+
+        private Document(Long faqId, Long categoryId, String question, int viewCount,
+                         LocalDateTime createdAt, LocalDateTime updatedAt, Map<String, Double> weights) {
+            this.faqId = faqId;
+            this.categoryId = categoryId;
+            this.question = question;
+            this.viewCount = viewCount;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+            this.weights = weights;
+        }
+
+        private static Document of(FaqDTO faq, Map<String, Double> weights) {
+            return new Document(faq.getId(), faq.getCategoryId(), faq.getQuestion(),
+                    faq.getViewCount() == null ? 0 : faq.getViewCount(),
+                    faq.getCreatedAt(), faq.getUpdatedAt(), weights);
+        }
+
+        private Document withViewCount(int viewCount) {
+            return new Document(faqId, categoryId, question, viewCount, createdAt, updatedAt, weights);
+        }
+
+        private FaqSummaryDTO summary() {
+            return new FaqSummaryDTO(faqId, question, viewCount, true, createdAt, updatedAt);
+        }
+    }
+
+    private static final class Neighbour {
+        private final long faqId;
+        private final double score;
+
+        private Neighbour(long faqId, double score) {
+            this.faqId = faqId;
+            this.score = score;
+        }
+    }
+}
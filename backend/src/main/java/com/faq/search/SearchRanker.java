@@ -0,0 +1,165 @@
+package com.faq.search;
+
+import com.faq.dto.FaqDTO;
+import com.faq.event.FaqChangedEvent;
+import com.faq.event.FeedbackChangedEvent;
+import com.faq.event.RemoteChangeEvent;
+import com.faq.model.FeedbackCounter;
+import com.faq.repository.FeedbackCounterRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pesos e sinais de popularidade do ranking da busca.
+ *
+ * A relevância textual é BM25F: as frequências do termo na pergunta e na resposta são
+ * normalizadas pelo tamanho de cada campo, somadas com o peso do campo e saturadas por k1.
+ * Ao BM25 somam-se a prioridade do FAQ, o logaritmo das visualizações e a taxa de votos
+ * positivos (suavizada, para que um único voto não domine). Todos os pesos vêm de
+ * faq.search.ranking.* e podem ser ajustados por perfil.
+ *
+ * As contagens de votos são carregadas de faq_feedback_counters na subida e relidas do banco
+ * para o FAQ votado a cada feedback.
+ */
+@Component
+public class SearchRanker {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchRanker.class);
+
+    @Autowired
+    private FeedbackCounterRepository feedbackCounterRepository;
+
+    @Value("${faq.search.ranking.k1:1.2}")
+    private double k1;
+
+    @Value("${faq.search.ranking.b:0.75}")
+    private double b;
+
+    @Value("${faq.search.ranking.question-weight:2.0}")
+    private double questionWeight;
+
+    @Value("${faq.search.ranking.answer-weight:1.0}")
+    private double answerWeight;
+
+    /**
+     * Fração da pontuação quando o termo da consulta é só prefixo da palavra indexada
+     */
+    @Value("${faq.search.ranking.prefix-match-weight:0.6}")
+    private double prefixMatchWeight;
+
+    /**
+     * Fração da pontuação por edição quando a palavra só casa pela busca aproximada
+     */
+    @Value("${faq.search.ranking.fuzzy-match-weight:0.5}")
+    private double fuzzyMatchWeight;
+
+    @Value("${faq.search.ranking.priority-weight:0.25}")
+    private double priorityWeight;
+
+    @Value("${faq.search.ranking.view-weight:0.3}")
+    private double viewWeight;
+
+    @Value("${faq.search.ranking.feedback-weight:1.0}")
+    private double feedbackWeight;
+
+    private final Map<Long, long[]> votes = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Map<Long, long[]> loaded = new ConcurrentHashMap<>();
+        for (FeedbackCounter counter : feedbackCounterRepository.findAll()) {
+            loaded.put(counter.getFaqId(), new long[] {counter.getPositiveCount(), counter.getNegativeCount()});
+        }
+        votes.putAll(loaded);
+        votes.keySet().retainAll(loaded.keySet());
+        log.debug("Ranking da busca carregou votos de {} FAQs", loaded.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedbackChanged(FeedbackChangedEvent event) {
+        refreshVotes(event.getFaqId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFaqChanged(FaqChangedEvent event) {
+        if (event.getChangeType() == FaqChangedEvent.ChangeType.DELETED) {
+            votes.remove(event.getFaqId());
+        }
+    }
+
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        if (event.isResync()) {
+            onApplicationReady();
+        } else if (event.getEntityType() == RemoteChangeEvent.EntityType.FEEDBACK
+                || event.getEntityType() == RemoteChangeEvent.EntityType.FAQ) {
+            refreshVotes(event.getEntityId());
+        }
+    }
+
+    /**
+     * IDF do BM25 para um termo presente em documentFrequency de documentCount FAQs
+     */
+    double idf(int documentFrequency, int documentCount) {
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    /**
+     * Pontuação BM25F de um termo, dadas as frequências e tamanhos de cada campo
+     */
+    double bm25(double idf, int questionTf, int questionLength, double avgQuestionLength,
+                int answerTf, int answerLength, double avgAnswerLength) {
+        double tf = questionWeight * normalized(questionTf, questionLength, avgQuestionLength)
+                + answerWeight * normalized(answerTf, answerLength, avgAnswerLength);
+        return tf <= 0 ? 0 : idf * tf * (k1 + 1) / (tf + k1);
+    }
+
+    /**
+     * Peso de uma palavra indexada que casou com o termo da consulta por prefixo ou com edições
+     */
+    double matchWeight(boolean exact, int edits) {
+        if (exact) {
+            return 1.0;
+        }
+        return edits == 0 ? prefixMatchWeight : Math.pow(fuzzyMatchWeight, edits);
+    }
+
+    /**
+     * Acréscimo de prioridade, popularidade e votos, independente da consulta
+     */
+    double boost(FaqDTO faq) {
+        int priority = faq.getPriority() != null ? faq.getPriority() : 0;
+        int views = faq.getViewCount() != null ? Math.max(0, faq.getViewCount()) : 0;
+        long[] counts = votes.get(faq.getId());
+        double positiveRate = counts == null ? 0.5 : (counts[0] + 1.0) / (counts[0] + counts[1] + 2.0);
+        return priorityWeight * priority
+                + viewWeight * Math.log1p(views)
+                + feedbackWeight * (positiveRate - 0.5);
+    }
+
+    private double normalized(int tf, int length, double avgLength) {
+        if (tf == 0) {
+            return 0;
+        }
+        double relativeLength = avgLength > 0 ? length / avgLength : 1;
+        return tf / (1 - b + b * relativeLength);
+    }
+
+    private void refreshVotes(Long faqId) {
+        if (faqId == null) {
+            return;
+        }
+        feedbackCounterRepository.findById(faqId).ifPresentOrElse(
+                counter -> votes.put(faqId, new long[] {counter.getPositiveCount(), counter.getNegativeCount()}),
+                () -> votes.remove(faqId));
+    }
+}
@@ -0,0 +1,217 @@
+package com.faq.search;
+
+import com.faq.dto.SuggestionDTO;
+import com.faq.event.CategoryChangedEvent;
+import com.faq.event.FaqChangedEvent;
+import com.faq.event.RemoteChangeEvent;
+import com.faq.event.ViewCountsFlushedEvent;
+import com.faq.model.Category;
+import com.faq.model.Faq;
+import com.faq.repository.CategoryRepository;
+import com.faq.repository.FaqRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sugestões do autocompletar (/faqs/suggest), servidas por uma SuggestionTrie em memória.
+ *
+ * A trie é montada com as perguntas dos FAQs ativos e os nomes das categorias ativas, ordenados
+ * por peso: visualizações mais faq.suggest.priority-weight vezes a prioridade para perguntas, e o
+ * total de visualizações dos FAQs da categoria para categorias. Cada alteração de conteúdo agenda
+ * uma reconstrução em uma thread própria, e a nova trie substitui a anterior de uma vez; novas
+ * visualizações só reordenam as sugestões na reconstrução periódica.
+ */
+@Component
+public class SuggestionIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestionIndex.class);
+
+    @Autowired
+    private FaqRepository faqRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Quantidade de sugestões guardadas por prefixo; também é o limite de uma consulta
+     */
+    @Value("${faq.suggest.top-k:10}")
+    private int topK;
+
+    /**
+     * Visualizações equivalentes a um ponto de prioridade
+     */
+    @Value("${faq.suggest.priority-weight:10}")
+    private double priorityWeight;
+
+    private volatile SuggestionTrie trie;
+    private final AtomicBoolean rebuildPending = new AtomicBoolean(false);
+    private final AtomicBoolean viewsChanged = new AtomicBoolean(false);
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "suggestion-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Indica se a trie já foi construída
+     */
+    public boolean isReady() {
+        return trie != null;
+    }
+
+    /**
+     * Maior limite aceito em uma consulta
+     */
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * Até limit sugestões (no máximo top-k) com uma palavra iniciada pelo prefixo
+     */
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        SuggestionTrie current = trie;
+        if (current == null) {
+            return List.of();
+        }
+        return current.lookup(prefix, Math.min(limit, topK));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFaqChanged(FaqChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        if (event.getEntityType() != RemoteChangeEvent.EntityType.FEEDBACK) {
+            scheduleRebuild();
+        }
+    }
+
+    /**
+     * Visualizações mudam a cada poucos segundos; reordenar a cada flush não compensa
+     */
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        viewsChanged.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${faq.suggest.reweight-interval-ms:60000}",
+            initialDelayString = "${faq.suggest.reweight-interval-ms:60000}")
+    public void reweightIfViewsChanged() {
+        if (viewsChanged.getAndSet(false)) {
+            scheduleRebuild();
+        }
+    }
+
+    /**
+     * Agenda uma reconstrução; pedidos feitos enquanto outra está na fila são descartados
+     */
+    public void scheduleRebuild() {
+        if (!rebuildPending.compareAndSet(false, true)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            rebuildPending.set(false);
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("Falha ao reconstruir as sugestões; mantendo a versão anterior", e);
+            }
+        });
+    }
+
+    /**
+     * Lê perguntas e categorias ativas do banco e publica uma nova trie
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        List<Weighted> candidates = readOnly.execute(status -> loadCandidates());
+        candidates.sort(Comparator.comparingDouble((Weighted candidate) -> candidate.weight).reversed()
+                .thenComparing(candidate -> candidate.suggestion.getType())
+                .thenComparing(candidate -> candidate.suggestion.getId()));
+        List<SuggestionDTO> ranked = new ArrayList<>(candidates.size());
+        candidates.forEach(candidate -> ranked.add(candidate.suggestion));
+        trie = SuggestionTrie.build(ranked, topK);
+        log.debug("Sugestões reconstruídas com {} entradas em {} ms",
+                ranked.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private List<Weighted> loadCandidates() {
+        List<Weighted> candidates = new ArrayList<>();
+        Map<Long, Long> viewsByCategory = new HashMap<>();
+        for (Faq faq : faqRepository.findAllWithCategory()) {
+            if (!Boolean.TRUE.equals(faq.getIsActive())) {
+                continue;
+            }
+            long views = faq.getViewCount() != null ? faq.getViewCount() : 0;
+            int priority = faq.getPriority() != null ? faq.getPriority() : 0;
+            Category category = faq.getCategory();
+            Long categoryId = category != null ? category.getId() : null;
+            candidates.add(new Weighted(new SuggestionDTO(SuggestionDTO.Type.QUESTION, faq.getId(), faq.getQuestion(),
+                    categoryId, category != null ? category.getName() : null), views + priorityWeight * priority));
+            if (categoryId != null) {
+                viewsByCategory.merge(categoryId, views, Long::sum);
+            }
+        }
+        for (Category category : categoryRepository.findAll()) {
+            if (Boolean.TRUE.equals(category.getActive())) {
+                candidates.add(new Weighted(new SuggestionDTO(SuggestionDTO.Type.CATEGORY, category.getId(),
+                        category.getName(), category.getId(), category.getName()),
+                        viewsByCategory.getOrDefault(category.getId(), 0L) + 1));
+            }
+        }
+        return candidates;
+    }
+
+    private static final class Weighted {
+        private final SuggestionDTO suggestion;
+        private final double weight;
+
+        private Weighted(SuggestionDTO suggestion, double weight) {
+            this.suggestion = suggestion;
+            this.weight = weight;
+        }
+    }
+}
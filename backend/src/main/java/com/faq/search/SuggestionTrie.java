@@ -0,0 +1,259 @@
+package com.faq.search;
+
+import com.faq.dto.SuggestionDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Trie imutável de sugestões para o autocompletar.
+ *
+ * Cada sugestão é inserida a partir do início de cada uma das suas palavras (texto normalizado),
+ * de modo que "senha" sugere "Como redefinir minha senha?". As sugestões são numeradas da mais
+ * para a menos relevante; cada nó guarda os K menores números da sua subárvore, e uma consulta
+ * só percorre os caracteres do prefixo e copia essa lista.
+ *
+ * A trie é compactada (radix): cadeias de nós com um único filho viram uma aresta rotulada com
+ * vários caracteres, então o número de nós é proporcional ao de chaves, não ao de caracteres.
+ * Ela é montada de uma vez a partir das chaves ordenadas, sem nós intermediários.
+ */
+public final class SuggestionTrie {
+
+    /**
+     * Profundidade máxima a partir de cada início de palavra; prefixos mais longos são comparados
+     * diretamente com o texto das sugestões do último nó
+     */
+    static final int MAX_KEY_LENGTH = 40;
+
+    private static final int[] NO_ENTRIES = new int[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final char[] NO_LABELS = new char[0];
+
+    private final List<SuggestionDTO> suggestions;
+    private final List<String> normalizedTexts;
+    private final Node root;
+
+    private SuggestionTrie(List<SuggestionDTO> suggestions, List<String> normalizedTexts, Node root) {
+        this.suggestions = suggestions;
+        this.normalizedTexts = normalizedTexts;
+        this.root = root;
+    }
+
+    /**
+     * Constrói a trie a partir das sugestões já ordenadas da mais para a menos relevante
+     */
+    public static SuggestionTrie build(List<SuggestionDTO> ranked, int topK) {
+        List<String> texts = new ArrayList<>(ranked.size());
+        List<Key> keys = new ArrayList<>();
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            List<String> tokens = TextNormalizer.tokenize(ranked.get(rank).getText());
+            String normalized = String.join(" ", tokens);
+            texts.add(normalized);
+            int wordStart = 0;
+            for (String token : tokens) {
+                int end = Math.min(normalized.length(), wordStart + MAX_KEY_LENGTH);
+                keys.add(new Key(normalized.substring(wordStart, end), rank));
+                wordStart += token.length() + 1;
+            }
+        }
+        // Mesma chave: o menor número (mais relevante) primeiro
+        keys.sort((a, b) -> {
+            int byText = a.text.compareTo(b.text);
+            return byText != 0 ? byText : Integer.compare(a.rank, b.rank);
+        });
+        Node root = new Builder(keys, Math.max(1, topK)).node("", 0, keys.size(), 0);
+        return new SuggestionTrie(Collections.unmodifiableList(new ArrayList<>(ranked)), texts, root);
+    }
+
+    /**
+     * Até limit sugestões cujo texto tem uma palavra iniciada pelo prefixo, da mais relevante para a menos
+     */
+    public List<SuggestionDTO> lookup(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String key = normalized.length() > MAX_KEY_LENGTH ? normalized.substring(0, MAX_KEY_LENGTH) : normalized;
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            node = node.child(key.charAt(position));
+            if (node == null) {
+                return List.of();
+            }
+            // O prefixo pode terminar no meio do rótulo da aresta
+            int matched = Math.min(node.label.length(), key.length() - position);
+            if (!node.label.regionMatches(0, key, position, matched)) {
+                return List.of();
+            }
+            position += matched;
+        }
+        List<SuggestionDTO> matches = new ArrayList<>(Math.min(limit, node.top.length));
+        for (int rank : node.top) {
+            if (matches.size() == limit) {
+                break;
+            }
+            if (key.length() == normalized.length() || startsWordWith(normalizedTexts.get(rank), normalized)) {
+                matches.add(copy(suggestions.get(rank)));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Número de sugestões indexadas
+     */
+    public int size() {
+        return suggestions.size();
+    }
+
+    /**
+     * Normaliza o prefixo como os textos indexados
+     */
+    static String normalize(String prefix) {
+        return String.join(" ", TextNormalizer.tokenize(prefix));
+    }
+
+    private static boolean startsWordWith(String text, String prefix) {
+        int index = text.indexOf(prefix);
+        while (index >= 0) {
+            if (index == 0 || text.charAt(index - 1) == ' ') {
+                return true;
+            }
+            index = text.indexOf(prefix, index + 1);
+        }
+        return false;
+    }
+
+    private static SuggestionDTO copy(SuggestionDTO source) {
+        return new SuggestionDTO(source.getType(), source.getId(), source.getText(),
+                source.getCategoryId(), source.getCategoryName());
+    }
+
+    /**
+     * Nó compacto: rótulo da aresta que chega a ele, primeiros caracteres dos filhos ordenados
+     * para busca binária e os K melhores da subárvore
+     */
+    private static final class Node {
+        private final String label;
+        private final char[] firstChars;
+        private final Node[] children;
+        private final int[] top;
+
+        private Node(String label, char[] firstChars, Node[] children, int[] top) {
+            this.label = label;
+            this.firstChars = firstChars;
+            this.children = children;
+            this.top = top;
+        }
+
+        private Node child(char first) {
+            int index = Arrays.binarySearch(firstChars, first);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    private static final class Key {
+        private final String text;
+        private final int rank;
+
+        private Key(String text, int rank) {
+            this.text = text;
+            this.rank = rank;
+        }
+    }
+
+    /**
+     * Monta a trie compactada recursivamente sobre intervalos da lista ordenada de chaves:
+     * todas as chaves de um intervalo compartilham o rótulo até o nó, e os filhos são os
+     * subintervalos com o mesmo caractere seguinte
+     */
+    private static final class Builder {
+        private final List<Key> keys;
+        private final int topK;
+
+        private Builder(List<Key> keys, int topK) {
+            this.keys = keys;
+            this.topK = topK;
+        }
+
+        private Node node(String label, int from, int to, int depth) {
+            if (from == to) {
+                return new Node(label, NO_LABELS, NO_CHILDREN, NO_ENTRIES);
+            }
+            // Chaves ordenadas: o prefixo comum do intervalo é o da primeira com a última
+            int end = depth;
+            String first = keys.get(from).text;
+            String last = keys.get(to - 1).text;
+            if (!label.isEmpty() || depth > 0) {
+                int limit = Math.min(first.length(), last.length());
+                while (end < limit && first.charAt(end) == last.charAt(end)) {
+                    end++;
+                }
+            }
+            String fullLabel = label.isEmpty() && depth == 0 ? "" : label + first.substring(depth, end);
+
+            // Chaves que terminam neste nó vêm antes das mais longas
+            int i = from;
+            List<Integer> ending = new ArrayList<>();
+            while (i < to && keys.get(i).text.length() == end) {
+                ending.add(keys.get(i).rank);
+                i++;
+            }
+
+            List<Character> labels = new ArrayList<>();
+            List<Node> nodes = new ArrayList<>();
+            while (i < to) {
+                char next = keys.get(i).text.charAt(end);
+                int groupEnd = i + 1;
+                while (groupEnd < to && keys.get(groupEnd).text.charAt(end) == next) {
+                    groupEnd++;
+                }
+                labels.add(next);
+                nodes.add(node(String.valueOf(next), i, groupEnd, end + 1));
+                i = groupEnd;
+            }
+
+            char[] firstChars = new char[labels.size()];
+            for (int c = 0; c < firstChars.length; c++) {
+                firstChars[c] = labels.get(c);
+            }
+            Node[] children = nodes.toArray(NO_CHILDREN);
+            return new Node(fullLabel, firstChars, children, top(ending, children));
+        }
+
+        /**
+         * Os K menores números distintos entre as chaves que terminam no nó e os melhores dos filhos;
+         * com um único filho e nada terminando aqui, a lista do filho é reaproveitada
+         */
+        private int[] top(List<Integer> ending, Node[] children) {
+            if (ending.isEmpty() && children.length == 1) {
+                return children[0].top;
+            }
+            int size = ending.size();
+            for (Node child : children) {
+                size += child.top.length;
+            }
+            int[] all = new int[size];
+            int n = 0;
+            for (int rank : ending) {
+                all[n++] = rank;
+            }
+            for (Node child : children) {
+                System.arraycopy(child.top, 0, all, n, child.top.length);
+                n += child.top.length;
+            }
+            Arrays.sort(all);
+            int[] best = new int[Math.min(topK, size)];
+            int count = 0;
+            for (int j = 0; j < all.length && count < best.length; j++) {
+                if (count == 0 || best[count - 1] != all[j]) {
+                    best[count++] = all[j];
+                }
+            }
+            return count == best.length ? best : Arrays.copyOf(best, count);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.faq.service;
+
+import com.faq.analytics.AnalyticsRecorder;
+import com.faq.analytics.TimeGranularity;
+import com.faq.dto.TimeSeriesPoint;
+import com.faq.dto.TimeSeriesResponse;
+import com.faq.model.AnalyticsMetric;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Séries temporais de visualizações e votos, lidas dos baldes de analytics.
+ *
+ * Minutos vêm apenas da memória; horas vêm de faq_analytics_hourly somadas aos minutos ainda
+ * não gravados; dias fechados vêm de faq_analytics_daily e os dias abertos são montados a
+ * partir das horas. O custo de uma consulta é proporcional ao número de baldes, não de eventos.
+ */
+@Service
+public class AnalyticsService {
+
+    /**
+     * Quantidade máxima de baldes em uma série
+     */
+    public static final int MAX_POINTS = 1000;
+
+    private static final String HOURLY_SERIES_SQL =
+            "SELECT bucket_start, SUM(event_count) FROM faq_analytics_hourly " +
+            "WHERE metric = ? AND bucket_start >= ? AND bucket_start < ?";
+
+    private static final String DAILY_SERIES_SQL =
+            "SELECT bucket_start, SUM(event_count) FROM faq_analytics_daily " +
+            "WHERE metric = ? AND bucket_start >= ? AND bucket_start < ?";
+
+    private static final String BY_FAQ = " AND faq_id = ?";
+
+    private static final String GROUP_BY_BUCKET = " GROUP BY bucket_start";
+
+    @Autowired
+    private AnalyticsRecorder recorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Série da métrica no intervalo [from, to], com um ponto por balde (zero quando não houve
+     * eventos). Sem faqId, soma todos os FAQs. Sem from/to, usa o período padrão da granularidade.
+     */
+    @Transactional(readOnly = true)
+    public TimeSeriesResponse timeSeries(Long faqId, String metricName, String granularityName,
+                                         LocalDateTime from, LocalDateTime to) {
+        AnalyticsMetric metric = parseMetric(metricName);
+        TimeGranularity granularity = TimeGranularity.parse(granularityName);
+        LocalDateTime end = granularity.next(granularity.truncate(to != null ? to : LocalDateTime.now()));
+        LocalDateTime start = granularity.truncate(from != null ? from : end.minus(granularity.getDefaultSpan()));
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("O início do período deve ser anterior ao fim");
+        }
+
+        Map<LocalDateTime, Long> counts = new LinkedHashMap<>();
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = granularity.next(bucket)) {
+            if (counts.size() == MAX_POINTS) {
+                throw new IllegalArgumentException("Período muito longo: máximo de " + MAX_POINTS + " pontos por série");
+            }
+            counts.put(bucket, 0L);
+        }
+
+        switch (granularity) {
+            case MINUTE:
+                recorder.minuteCounts(faqId, metric, start, end, false).forEach(counts::put);
+                break;
+            case HOUR:
+                addHourly(counts, granularity, faqId, metric, start, end);
+                break;
+            case DAY:
+                LocalDateTime openFrom = LocalDate.now().atStartOfDay().minusDays(AnalyticsRecorder.OPEN_DAYS - 1);
+                LocalDateTime closedEnd = end.isBefore(openFrom) ? end : openFrom;
+                if (start.isBefore(closedEnd)) {
+                    add(counts, granularity, query(DAILY_SERIES_SQL, faqId, metric, start, closedEnd));
+                }
+                LocalDateTime openStart = start.isAfter(openFrom) ? start : openFrom;
+                if (openStart.isBefore(end)) {
+                    addHourly(counts, granularity, faqId, metric, openStart, end);
+                }
+                break;
+        }
+
+        List<TimeSeriesPoint> points = new ArrayList<>(counts.size());
+        counts.forEach((bucket, count) -> points.add(new TimeSeriesPoint(bucket, count)));
+        return new TimeSeriesResponse(faqId, metric.name(), granularity.name(), start, end, points);
+    }
+
+    /**
+     * Horas gravadas mais os minutos ainda em memória, agregados na granularidade da série
+     */
+    private void addHourly(Map<LocalDateTime, Long> counts, TimeGranularity granularity, Long faqId,
+                           AnalyticsMetric metric, LocalDateTime from, LocalDateTime to) {
+        add(counts, granularity, query(HOURLY_SERIES_SQL, faqId, metric, from, to));
+        add(counts, granularity, recorder.minuteCounts(faqId, metric, from, to, true));
+    }
+
+    private static void add(Map<LocalDateTime, Long> counts, TimeGranularity granularity,
+                            Map<LocalDateTime, Long> values) {
+        values.forEach((time, count) -> counts.merge(granularity.truncate(time), count, Long::sum));
+    }
+
+    private Map<LocalDateTime, Long> query(String sql, Long faqId, AnalyticsMetric metric,
+                                           LocalDateTime from, LocalDateTime to) {
+        List<Object> args = new ArrayList<>(List.of(metric.name(), Timestamp.valueOf(from), Timestamp.valueOf(to)));
+        if (faqId != null) {
+            sql += BY_FAQ;
+            args.add(faqId);
+        }
+        Map<LocalDateTime, Long> values = new LinkedHashMap<>();
+        jdbcTemplate.query(sql + GROUP_BY_BUCKET, rs -> {
+            values.put(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2));
+        }, args.toArray());
+        return values;
+    }
+
+    private static AnalyticsMetric parseMetric(String value) {
+        try {
+            return AnalyticsMetric.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Métrica inválida: " + value
+                    + " (use view, feedback_positive ou feedback_negative)");
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.faq.service;
+
+import com.faq.dto.CategoryDTO;
+import com.faq.dto.FaqCursor;
+import com.faq.dto.FaqDTO;
+import com.faq.dto.FaqPageResponse;
+import com.faq.dto.FaqSummaryDTO;
+import com.faq.dto.SuggestionDTO;
+import com.faq.search.RelatedFaqIndex;
+import com.faq.search.SuggestionIndex;
+import com.faq.snapshot.CatalogSnapshot;
+import com.faq.snapshot.CatalogSnapshotHolder;
+import com.faq.trending.TrendingTracker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Leituras públicas do catálogo.
+ *
+ * No modo faq.read.mode=snapshot as respostas vêm do retrato imutável em memória, sem
+ * transação e sem conexão do pool. Nos demais modos, ou enquanto o primeiro retrato não
+ * está pronto, delega para FaqService e CategoryService (e seus caches).
+ */
+@Service
+public class CatalogReadService {
+
+    @Autowired
+    private CatalogSnapshotHolder snapshotHolder;
+
+    @Autowired
+    private FaqService faqService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TrendingTracker trendingTracker;
+
+    @Autowired
+    private RelatedFaqIndex relatedFaqIndex;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    /**
+     * Busca todos os FAQs ativos
+     */
+    public List<FaqDTO> findAllActive() {
+        CatalogSnapshot snapshot = servingSnapshot();
+        return snapshot != null ? snapshot.activeFaqs() : faqService.findAllActive();
+    }
+
+    /**
+     * Busca FAQs ativos por categoria
+     */
+    public List<FaqDTO> findByCategory(Long categoryId) {
+        CatalogSnapshot snapshot = servingSnapshot();
+        return snapshot != null ? snapshot.faqsByCategory(categoryId) : faqService.findByCategory(categoryId);
+    }
+
+    /**
+     * Página de FAQs ativos a partir do cursor
+     */
+    public FaqPageResponse findActivePage(String cursor, Integer limit) {
+        CatalogSnapshot snapshot = servingSnapshot();
+        if (snapshot == null) {
+            return faqService.findActivePage(cursor, limit);
+        }
+        int size = FaqCursor.pageSize(limit);
+        FaqCursor position = FaqCursor.decode(cursor, FaqCursor.Order.RECENT);
+        return FaqCursor.toPage(snapshot.activeAfter(position, size + 1), size, FaqCursor.Order.RECENT);
+    }
+
+    /**
+     * Página de FAQs ativos de uma categoria a partir do cursor
+     */
+    public FaqPageResponse findByCategoryPage(Long categoryId, String cursor, Integer limit) {
+        CatalogSnapshot snapshot = servingSnapshot();
+        if (snapshot == null) {
+            return faqService.findByCategoryPage(categoryId, cursor, limit);
+        }
+        int size = FaqCursor.pageSize(limit);
+        FaqCursor position = FaqCursor.decode(cursor, FaqCursor.Order.RECENT);
+        return FaqCursor.toPage(snapshot.categoryAfter(categoryId, position, size + 1), size,
+                FaqCursor.Order.RECENT);
+    }
+
+    /**
+     * Página de FAQs com visualizações, mais visualizados primeiro, a partir do cursor
+     */
+    public FaqPageResponse findMostViewedPage(String cursor, Integer limit) {
+        CatalogSnapshot snapshot = servingSnapshot();
+        if (snapshot == null) {
+            return faqService.findMostViewedPage(cursor, limit);
+        }
+        int size = FaqCursor.pageSize(limit);
+        FaqCursor position = FaqCursor.decode(cursor, FaqCursor.Order.MOST_VIEWED);
+        List<FaqDTO> faqs = snapshot.activeAfter(position, size + 1)
+                .stream()
+                .filter(faq -> faq.getViewCount() != null && faq.getViewCount() > 0)
+                .collect(Collectors.toList());
+        return FaqCursor.toPage(faqs, size, FaqCursor.Order.MOST_VIEWED);
+    }
+
+    /**
+     * Total de FAQs ativos
+     */
+    public long countActive() {
+        CatalogSnapshot snapshot = servingSnapshot();
+        return snapshot != null ? snapshot.size() : faqService.countActive();
+    }
+
+    /**
+     * Total de FAQs ativos de uma categoria
+     */
+    public long countActiveByCategory(Long categoryId) {
+        CatalogSnapshot snapshot = servingSnapshot();
+        return snapshot != null ? snapshot.faqsByCategory(categoryId).size() : faqService.countActiveByCategory(categoryId);
+    }
+
+    /**
+     * Busca FAQs mais visualizados
+     */
+    public List<FaqDTO> findMostViewed(int limit) {
+        CatalogSnapshot snapshot = servingSnapshot();
+        return snapshot != null ? snapshot.mostViewed(limit) : faqService.findMostViewed(limit);
+    }
+
+    /**
+     * Busca FAQs em alta, sempre da memória; lista vazia até o ranking ser construído na subida
+     */
+    public List<FaqDTO> findTrending(int limit, Long categoryId) {
+        return trendingTracker.isReady() ? trendingTracker.top(limit, categoryId) : List.of();
+    }
+
+    /**
+     * Sugestões de autocompletar para o prefixo, sempre da memória; lista vazia até a trie ser construída
+     */
+    public List<SuggestionDTO> findSuggestions(String prefix, int limit) {
+        return suggestionIndex.suggest(prefix, limit);
+    }
+
+    /**
+     * Busca FAQs mais recentes
+     */
+    public List<FaqDTO> findRecent(int limit) {
+        CatalogSnapshot snapshot = servingSnapshot();
+        return snapshot != null ? snapshot.recent(limit) : faqService.findRecent(limit);
+    }
+
+    /**
+     * Busca FAQs relacionados: pelos vizinhos pré-calculados do índice de similaridade quando
+     * faq.related.engine=similarity, ou pelos FAQs da mesma categoria mais visualizados.
+     * FAQs inativos, sem termos em comum com outros ou com menos vizinhos que o limite são
+     * completados com os da mesma categoria.
+     */
+    public List<FaqSummaryDTO> findRelated(Long faqId, int limit) {
+        if (!relatedFaqIndex.isServing()) {
+            return findRelatedInCategory(faqId, limit);
+        }
+        List<FaqSummaryDTO> neighbours = relatedFaqIndex.related(faqId, limit);
+        if (neighbours.size() >= limit) {
+            return neighbours;
+        }
+        List<FaqSummaryDTO> related = new ArrayList<>(neighbours);
+        Set<Long> included = new HashSet<>();
+        neighbours.forEach(faq -> included.add(faq.getId()));
+        // Pede também os que podem coincidir com os vizinhos, para completar o limite
+        for (FaqSummaryDTO faq : findRelatedInCategory(faqId, limit + neighbours.size())) {
+            if (related.size() == limit) {
+                break;
+            }
+            if (included.add(faq.getId())) {
+                related.add(faq);
+            }
+        }
+        return related;
+    }
+
+    private List<FaqSummaryDTO> findRelatedInCategory(Long faqId, int limit) {
+        CatalogSnapshot snapshot = servingSnapshot();
+        return snapshot != null ? snapshot.related(faqId, limit) : faqService.findRelated(faqId, limit);
+    }
+
+    /**
+     * Busca categorias que possuem FAQs ativos
+     */
+    public List<CategoryDTO> findCategoriesWithActiveFaqs() {
+        CatalogSnapshot snapshot = servingSnapshot();
+        return snapshot != null ? snapshot.categoriesWithActiveFaqs() : categoryService.findCategoriesWithActiveFaqs();
+    }
+
+    private CatalogSnapshot servingSnapshot() {
+        return snapshotHolder.isServing() ? snapshotHolder.get() : null;
+    }
+}
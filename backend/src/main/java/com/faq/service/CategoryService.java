@@ -1,15 +1,23 @@
 package com.faq.service;
 
+import com.faq.cache.CacheNames;
 import com.faq.dto.CategoryDTO;
 import com.faq.dto.FaqSummaryDTO;
+import com.faq.event.CategoryChangedEvent;
 import com.faq.model.Category;
 import com.faq.model.Faq;
 import com.faq.repository.CategoryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -20,15 +28,16 @@ public class CategoryService {
     @Autowired
     private CategoryRepository categoryRepository;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     /**
      * Busca todas as categorias
      */
+    @Cacheable(CacheNames.ALL_CATEGORIES)
     @Transactional(readOnly = true)
     public List<CategoryDTO> findAll() {
-        return categoryRepository.findAllByOrderByNameAsc()
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(categoryRepository.findAllByOrderByNameAsc());
     }
     
     /**
@@ -43,12 +52,10 @@ public class CategoryService {
     /**
      * Busca categorias com FAQs ativos
      */
+    @Cacheable(CacheNames.CATEGORIES_WITH_FAQS)
     @Transactional(readOnly = true)
     public List<CategoryDTO> findCategoriesWithActiveFaqs() {
-        return categoryRepository.findCategoriesWithActiveFaqs()
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(categoryRepository.findCategoriesWithActiveFaqs());
     }
     
     /**
@@ -60,10 +67,7 @@ public class CategoryService {
             return findAll();
         }
         
-        return categoryRepository.findByNameOrDescriptionContainingIgnoreCase(searchTerm.trim())
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(categoryRepository.findByNameOrDescriptionContainingIgnoreCase(searchTerm.trim()));
     }
     
     /**
@@ -77,7 +81,9 @@ public class CategoryService {
         
         Category category = convertToEntity(categoryDTO);
         Category savedCategory = categoryRepository.save(category);
-        return convertToDTO(savedCategory);
+        CategoryDTO savedDTO = convertToDTO(savedCategory);
+        eventPublisher.publishEvent(new CategoryChangedEvent(CategoryChangedEvent.ChangeType.CREATED, savedDTO.getId(), savedDTO));
+        return savedDTO;
     }
     
     /**
@@ -97,7 +103,9 @@ public class CategoryService {
         existingCategory.setDescription(categoryDTO.getDescription());
         
         Category updatedCategory = categoryRepository.save(existingCategory);
-        return convertToDTO(updatedCategory);
+        CategoryDTO updatedDTO = convertToDTO(updatedCategory);
+        eventPublisher.publishEvent(new CategoryChangedEvent(CategoryChangedEvent.ChangeType.UPDATED, id, updatedDTO));
+        return updatedDTO;
     }
     
     /**
@@ -113,6 +121,7 @@ public class CategoryService {
         }
         
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(CategoryChangedEvent.ChangeType.DELETED, id, null));
     }
     
     /**
@@ -124,9 +133,45 @@ public class CategoryService {
     }
     
     /**
-     * Converte Entity para DTO
+     * Converte uma lista de categorias para DTO carregando os resumos dos FAQs de todas elas
+     * em uma única consulta, em vez de inicializar a coleção faqs de cada categoria
      */
-    private CategoryDTO convertToDTO(Category category) {
+    private List<CategoryDTO> convertToDTOs(List<Category> categories) {
+        if (categories.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<Long> categoryIds = categories.stream()
+                .map(Category::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<FaqSummaryDTO>> activeSummaries = new HashMap<>();
+        for (Object[] row : categoryRepository.findFaqSummariesByCategoryIds(categoryIds)) {
+            // A lista é criada para toda categoria com FAQs, mesmo que nenhum esteja ativo
+            List<FaqSummaryDTO> summaries = activeSummaries.computeIfAbsent((Long) row[0], id -> new ArrayList<>());
+            if (Boolean.TRUE.equals(row[4])) {
+                summaries.add(new FaqSummaryDTO(
+                        (Long) row[1],
+                        (String) row[2],
+                        (Integer) row[3],
+                        (Boolean) row[4],
+                        (LocalDateTime) row[5],
+                        (LocalDateTime) row[6]));
+            }
+        }
+        
+        return categories.stream()
+                .map(category -> {
+                    CategoryDTO dto = convertToBasicDTO(category);
+                    dto.setFaqs(activeSummaries.get(category.getId()));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Converte os campos próprios da categoria, sem os FAQs
+     */
+    private CategoryDTO convertToBasicDTO(Category category) {
         CategoryDTO dto = new CategoryDTO();
         dto.setId(category.getId());
         dto.setName(category.getName());
@@ -134,6 +179,14 @@ public class CategoryService {
         dto.setDisplayOrder(category.getDisplayOrder());
         dto.setCreatedAt(category.getCreatedAt());
         dto.setUpdatedAt(category.getUpdatedAt());
+        return dto;
+    }
+    
+    /**
+     * Converte Entity para DTO
+     */
+    private CategoryDTO convertToDTO(Category category) {
+        CategoryDTO dto = convertToBasicDTO(category);
         
         // Incluir FAQs ativos se existirem
         if (category.getFaqs() != null && !category.getFaqs().isEmpty()) {
@@ -0,0 +1,185 @@
+package com.faq.service;
+
+import com.faq.dto.FaqDTO;
+import com.faq.repository.FaqRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Escrita em stream de FAQs para /faqs/export e para GET /faqs?stream=true.
+ *
+ * Os FAQs são lidos por um cursor do banco (projeção em DTO, fora do contexto de persistência,
+ * buscada em blocos de FaqRepository.STREAM_FETCH_SIZE linhas) e serializados direto na
+ * resposta, um a um. Nenhuma lista é montada, então a memória usada não depende do tamanho do
+ * catálogo. O cursor fica aberto, em uma transação somente leitura, enquanto o cliente consome
+ * a resposta; se ele desconectar, a escrita falha e o cursor é fechado.
+ */
+@Service
+public class FaqExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(FaqExportService.class);
+
+    private static final String[] CSV_COLUMNS = {
+            "id", "question", "answer", "categoryId", "categoryName", "priority",
+            "isActive", "viewCount", "createdAt", "updatedAt"
+    };
+
+    @Autowired
+    private FaqRepository faqRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Formatos aceitos por /faqs/export
+     */
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format parse(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Formato de exportação inválido: " + value + " (use ndjson ou csv)");
+            }
+        }
+    }
+
+    /**
+     * Exporta os FAQs, ordenados por ID, no formato informado.
+     * Em NDJSON cada linha é um FaqDTO, aceito de volta por POST /faqs/bulk.
+     */
+    public void export(Format format, boolean includeInactive, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        long written = inReadOnlyTransaction(() -> {
+            try (Stream<FaqDTO> faqs = faqRepository.streamFaqDTOsForExport(includeInactive)) {
+                return format == Format.CSV ? writeCsv(faqs, out) : writeNdjson(faqs, out);
+            }
+        });
+        log.info("Exportação {}: {} FAQs em {} ms", format, written, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Escreve os FAQs ativos como um array JSON, no mesmo formato e ordem de GET /faqs
+     */
+    public void writeActiveAsJsonArray(OutputStream out) throws IOException {
+        inReadOnlyTransaction(() -> {
+            try (Stream<FaqDTO> faqs = faqRepository.streamActiveFaqDTOs();
+                 SequenceWriter writer = streamingWriter(objectMapper.writer()).writeValuesAsArray(out)) {
+                long count = 0;
+                for (FaqDTO faq : (Iterable<FaqDTO>) faqs::iterator) {
+                    writer.write(faq);
+                    count++;
+                }
+                return count;
+            }
+        });
+    }
+
+    private long writeNdjson(Stream<FaqDTO> faqs, OutputStream out) throws IOException {
+        ObjectWriter lineWriter = streamingWriter(objectMapper.writer())
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .withRootValueSeparator("\n");
+        long count = 0;
+        try (SequenceWriter writer = lineWriter.writeValues(out)) {
+            for (FaqDTO faq : (Iterable<FaqDTO>) faqs::iterator) {
+                writer.write(faq);
+                count++;
+            }
+        }
+        // O separador só é escrito entre valores; termina a última linha também
+        if (count > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        return count;
+    }
+
+    private long writeCsv(Stream<FaqDTO> faqs, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvRow(writer, (Object[]) CSV_COLUMNS);
+        long count = 0;
+        for (FaqDTO faq : (Iterable<FaqDTO>) faqs::iterator) {
+            writeCsvRow(writer, faq.getId(), faq.getQuestion(), faq.getAnswer(), faq.getCategoryId(),
+                    faq.getCategoryName(), faq.getPriority(), faq.getIsActive(), faq.getViewCount(),
+                    faq.getCreatedAt(), faq.getUpdatedAt());
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Linha CSV (RFC 4180): campos com separador, aspas ou quebras de linha ficam entre aspas
+     */
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i] == null ? "" : values[i].toString();
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Sem flush a cada valor (o buffer da resposta envia os dados quando enche) e sem fechar
+     * a resposta ao terminar, o que fica a cargo do servidor
+     */
+    private static ObjectWriter streamingWriter(ObjectWriter writer) {
+        return writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private long inReadOnlyTransaction(StreamingWork work) throws IOException {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        try {
+            Long count = template.execute(status -> {
+                try {
+                    return work.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return count != null ? count : 0;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface StreamingWork {
+        long run() throws IOException;
+    }
+}
@@ -0,0 +1,293 @@
+package com.faq.service;
+
+import com.faq.dto.BulkImportErrorDTO;
+import com.faq.dto.BulkImportResponse;
+import com.faq.dto.FaqDTO;
+import com.faq.event.FaqsImportedEvent;
+import com.faq.event.RemoteChangeEvent;
+import com.faq.model.Category;
+import com.faq.repository.CategoryRepository;
+import com.faq.repository.FaqRepository;
+import com.faq.search.DuplicateQuestionIndex;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Importação em massa de FAQs (POST /faqs/bulk).
+ *
+ * O corpo é lido item a item com o parser de streaming do Jackson, aceitando um array JSON ou
+ * um objeto por linha (NDJSON), de modo que a memória usada não depende do tamanho do arquivo.
+ * As categorias são carregadas uma vez, perguntas repetidas dentro do próprio arquivo ou já
+ * cadastradas são rejeitadas, e os itens válidos são gravados em lotes JDBC de
+ * faq.bulk.batch-size linhas, cada lote na sua transação junto com os contadores de feedback
+ * dos FAQs gravados. Ao final as estruturas em memória
+ * são reconstruídas uma única vez, em segundo plano, em vez de um evento por FAQ.
+ */
+@Service
+public class FaqImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(FaqImportService.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO faqs (question, answer, view_count, is_active, priority, created_at, updated_at, category_id) " +
+            "VALUES (?, ?, 0, ?, ?, ?, ?, ?)";
+
+    // Mesmos limites das anotações de validação de Faq
+    private static final int MIN_QUESTION_LENGTH = 5;
+    private static final int MAX_QUESTION_LENGTH = 500;
+    private static final int MIN_ANSWER_LENGTH = 10;
+    private static final int MAX_ANSWER_LENGTH = 3000;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private FaqRepository faqRepository;
+
+    @Autowired
+    private DuplicateQuestionIndex duplicateIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private FeedbackCounterService feedbackCounterService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${faq.bulk.batch-size:500}")
+    private int batchSize;
+
+    @Value("${faq.bulk.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    private final AtomicBoolean resyncPending = new AtomicBoolean(false);
+    private final ExecutorService resyncExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "faq-import-resync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Importa os FAQs do corpo da requisição e informa, por item, os que foram rejeitados.
+     * Um erro de sintaxe interrompe a leitura; os itens anteriores a ele continuam importados.
+     */
+    public BulkImportResponse importFaqs(InputStream body) throws IOException {
+        long start = System.nanoTime();
+        BulkImportResponse response = new BulkImportResponse();
+        Map<Long, Category> categories = new HashMap<>();
+        categoryRepository.findAll().forEach(category -> categories.put(category.getId(), category));
+        Set<String> seenQuestions = new HashSet<>();
+        List<PendingFaq> batch = new ArrayList<>(batchSize);
+
+        int index = 0;
+        try (MappingIterator<FaqDTO> items = objectMapper.readerFor(FaqDTO.class).readValues(body)) {
+            while (true) {
+                FaqDTO item;
+                try {
+                    if (!items.hasNextValue()) {
+                        break;
+                    }
+                    item = items.nextValue();
+                } catch (JsonParseException e) {
+                    reject(response, index, null, "JSON inválido, leitura interrompida: " + e.getOriginalMessage());
+                    break;
+                } catch (JsonProcessingException e) {
+                    // Item com tipos incompatíveis: o iterador descarta o restante dele e segue
+                    reject(response, index++, null, "Item inválido: " + e.getOriginalMessage());
+                    continue;
+                }
+
+                String error = validate(item, categories, seenQuestions);
+                if (error != null) {
+                    reject(response, index, item.getQuestion(), error);
+                } else {
+                    batch.add(new PendingFaq(index, item));
+                    if (batch.size() >= batchSize) {
+                        insert(batch, response);
+                    }
+                }
+                index++;
+            }
+        }
+        insert(batch, response);
+        response.setReceived(index);
+
+        if (response.getImported() > 0) {
+            // Transação apenas para o NOTIFY às demais réplicas, emitido antes do commit
+            new TransactionTemplate(transactionManager).executeWithoutResult(
+                    status -> eventPublisher.publishEvent(new FaqsImportedEvent(response.getImported())));
+            scheduleResync();
+        }
+        response.setElapsedMs((System.nanoTime() - start) / 1_000_000);
+        log.info("Importação em massa: {} itens lidos, {} importados, {} rejeitados em {} ms",
+                response.getReceived(), response.getImported(), response.getFailed(), response.getElapsedMs());
+        return response;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resyncExecutor.shutdownNow();
+    }
+
+    /**
+     * Reconstrói índices, caches e rankings em segundo plano, como numa ressincronização entre
+     * réplicas; até lá as leituras em memória ainda não mostram os FAQs importados.
+     * Importações seguidas resultam em uma única reconstrução pendente.
+     */
+    private void scheduleResync() {
+        if (!resyncPending.compareAndSet(false, true)) {
+            return;
+        }
+        resyncExecutor.execute(() -> {
+            resyncPending.set(false);
+            try {
+                eventPublisher.publishEvent(RemoteChangeEvent.resync());
+            } catch (RuntimeException e) {
+                log.warn("Falha ao reconstruir as estruturas em memória após a importação", e);
+            }
+        });
+    }
+
+    /**
+     * Mensagem de erro do item, ou null se ele puder ser gravado
+     */
+    private String validate(FaqDTO item, Map<Long, Category> categories, Set<String> seenQuestions) {
+        if (item == null) {
+            return "Item vazio";
+        }
+        String question = item.getQuestion() == null ? "" : item.getQuestion().trim();
+        String answer = item.getAnswer() == null ? "" : item.getAnswer().trim();
+        if (question.length() < MIN_QUESTION_LENGTH || question.length() > MAX_QUESTION_LENGTH) {
+            return "Pergunta deve ter entre " + MIN_QUESTION_LENGTH + " e " + MAX_QUESTION_LENGTH + " caracteres";
+        }
+        if (answer.length() < MIN_ANSWER_LENGTH || answer.length() > MAX_ANSWER_LENGTH) {
+            return "Resposta deve ter entre " + MIN_ANSWER_LENGTH + " e " + MAX_ANSWER_LENGTH + " caracteres";
+        }
+        if (item.getCategoryId() == null) {
+            return "Categoria é obrigatória";
+        }
+        if (!categories.containsKey(item.getCategoryId())) {
+            return "Categoria não encontrada com ID: " + item.getCategoryId();
+        }
+        if (!seenQuestions.add(question.toLowerCase(Locale.ROOT))) {
+            return "Pergunta repetida no arquivo de importação";
+        }
+        boolean exists = duplicateIndex.isReady()
+                ? duplicateIndex.hasExactDuplicate(question, null)
+                : faqRepository.existsByQuestionIgnoreCaseAndIsActiveTrue(question);
+        if (exists) {
+            return "Já existe um FAQ com esta pergunta";
+        }
+        item.setQuestion(question);
+        item.setAnswer(answer);
+        return null;
+    }
+
+    /**
+     * Grava o lote em uma única transação; se o banco recusar o lote, todos os seus itens são rejeitados
+     */
+    private void insert(List<PendingFaq> batch, BulkImportResponse response) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                KeyHolder keys = new GeneratedKeyHolder();
+                jdbcTemplate.batchUpdate(
+                        connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                FaqDTO faq = batch.get(i).faq;
+                                ps.setString(1, faq.getQuestion());
+                                ps.setString(2, faq.getAnswer());
+                                ps.setBoolean(3, faq.getIsActive() == null || faq.getIsActive());
+                                ps.setInt(4, faq.getPriority() != null ? faq.getPriority() : 1);
+                                ps.setTimestamp(5, now);
+                                ps.setTimestamp(6, now);
+                                ps.setLong(7, faq.getCategoryId());
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return batch.size();
+                            }
+                        },
+                        keys);
+                // Contadores de feedback dos FAQs do lote, na mesma transação
+                List<Long> ids = new ArrayList<>(batch.size());
+                keys.getKeyList().forEach(key -> ids.add(((Number) key.get("id")).longValue()));
+                feedbackCounterService.createCounters(ids);
+            });
+            response.setImported(response.getImported() + batch.size());
+        } catch (DataAccessException e) {
+            log.warn("Lote de {} FAQs recusado pelo banco: {}", batch.size(), e.getMostSpecificCause().getMessage());
+            for (PendingFaq pending : batch) {
+                reject(response, pending.index, pending.faq.getQuestion(),
+                        "Lote recusado pelo banco: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+        batch.clear();
+    }
+
+    private void reject(BulkImportResponse response, int index, String question, String message) {
+        response.setFailed(response.getFailed() + 1);
+        if (response.getErrors().size() < maxReportedErrors) {
+            response.getErrors().add(new BulkImportErrorDTO(index, question, message));
+        } else {
+            response.setErrorsTruncated(true);
+        }
+    }
+
+    private static final class PendingFaq {
+        private final int index;
+        private final FaqDTO faq;
+
+        private PendingFaq(int index, FaqDTO faq) {
+            this.index = index;
+            this.faq = faq;
+        }
+    }
+}
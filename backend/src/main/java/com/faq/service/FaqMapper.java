@@ -0,0 +1,49 @@
+package com.faq.service;
+
+import com.faq.dto.FaqDTO;
+import com.faq.model.Faq;
+
+/**
+ * Conversões entre a entidade Faq e seus DTOs, compartilhadas pelos serviços e índices em memória
+ */
+public final class FaqMapper {
+    
+    private FaqMapper() {
+    }
+    
+    /**
+     * Converte Entity para DTO
+     */
+    public static FaqDTO toDTO(Faq faq) {
+        FaqDTO dto = new FaqDTO();
+        dto.setId(faq.getId());
+        dto.setQuestion(faq.getQuestion());
+        dto.setAnswer(faq.getAnswer());
+        dto.setViewCount(faq.getViewCount());
+        dto.setIsActive(faq.getIsActive());
+        dto.setPriority(faq.getPriority());
+        dto.setCreatedAt(faq.getCreatedAt());
+        dto.setUpdatedAt(faq.getUpdatedAt());
+        dto.setCategoryId(faq.getCategory().getId());
+        dto.setCategoryName(faq.getCategory().getName());
+        return dto;
+    }
+    
+    /**
+     * Cria uma cópia do DTO, para que estruturas em memória nunca exponham suas próprias instâncias
+     */
+    public static FaqDTO copy(FaqDTO source) {
+        FaqDTO dto = new FaqDTO();
+        dto.setId(source.getId());
+        dto.setQuestion(source.getQuestion());
+        dto.setAnswer(source.getAnswer());
+        dto.setViewCount(source.getViewCount());
+        dto.setIsActive(source.getIsActive());
+        dto.setPriority(source.getPriority());
+        dto.setCreatedAt(source.getCreatedAt());
+        dto.setUpdatedAt(source.getUpdatedAt());
+        dto.setCategoryId(source.getCategoryId());
+        dto.setCategoryName(source.getCategoryName());
+        return dto;
+    }
+}
@@ -1,20 +1,36 @@
 package com.faq.service;
 
+import com.faq.cache.CacheNames;
+import com.faq.dto.CategoryFacetDTO;
+import com.faq.dto.DuplicateCandidateDTO;
+import com.faq.dto.DuplicatePairDTO;
+import com.faq.dto.FaqCursor;
 import com.faq.dto.FaqDTO;
+import com.faq.dto.FaqPageResponse;
 import com.faq.dto.FaqSummaryDTO;
 import com.faq.dto.ViewStatsResponse;
+import com.faq.event.FaqChangedEvent;
 import com.faq.model.Category;
 import com.faq.model.Faq;
 import com.faq.repository.CategoryRepository;
 import com.faq.repository.FaqRepository;
+import com.faq.search.DuplicateQuestionIndex;
+import com.faq.search.FaqSearchIndex;
+import com.faq.search.FullTextSearchSupport;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -29,15 +45,54 @@ public class FaqService {
     @Autowired
     private CategoryRepository categoryRepository;
     
+    @Autowired
+    private FaqSearchIndex searchIndex;
+    
+    @Autowired
+    private FullTextSearchSupport fullTextSearch;
+    
+    @Autowired
+    private DuplicateQuestionIndex duplicateIndex;
+    
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * Mecanismo de busca: "index" (índice invertido em memória), "fulltext" (busca textual
+     * do PostgreSQL) ou "database" (LIKE no banco)
+     */
+    @Value("${faq.search.engine:index}")
+    private String searchEngine;
+    
+    /**
+     * Ordena as buscas sem paginação por relevância (BM25, prioridade e popularidade)
+     * em vez de pela data de criação
+     */
+    @Value("${faq.search.ranking.enabled:true}")
+    private boolean rankingEnabled;
+    
+    /**
+     * Limite opcional de resultados de uma busca ordenada por relevância; 0 ordena todos os
+     * resultados, de modo que a resposta confere com as contagens de facets=true
+     */
+    @Value("${faq.search.ranking.max-results:0}")
+    private int rankingMaxResults;
+    
+    /**
+     * Chave do total de FAQs com visualizações no cache de contagens
+     */
+    public static final String COUNT_WITH_VIEWS_KEY = "withViews";
+    
     /**
      * Busca todos os FAQs ativos
      */
+    @Cacheable(CacheNames.ACTIVE_FAQS)
     @Transactional(readOnly = true)
     public List<FaqDTO> findAllActive() {
-        return faqRepository.findByIsActiveTrueOrderByCreatedAtDesc()
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return faqRepository.findActiveFaqDTOs();
     }
     
     /**
@@ -45,75 +100,224 @@ public class FaqService {
      */
     @Transactional(readOnly = true)
     public Optional<FaqDTO> findById(Long id) {
-        return faqRepository.findById(id)
+        return faqRepository.findByIdWithCategory(id)
                 .map(this::convertToDTO);
     }
     
     /**
-     * Busca FAQ por ID e incrementa visualizações
+     * Busca FAQ por ID e incrementa visualizações.
+     * A visualização é acumulada no ViewCountBuffer e gravada em lote; o DTO vem do índice
+     * em memória (quando pronto) com as visualizações pendentes somadas ao contador.
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Optional<FaqDTO> findByIdAndIncrementViews(Long id) {
-        Optional<Faq> faqOpt = faqRepository.findById(id);
-        if (faqOpt.isPresent() && faqOpt.get().getIsActive()) {
-            faqRepository.incrementViewCount(id);
-            // Recarregar para obter o viewCount atualizado
-            return faqRepository.findById(id).map(this::convertToDTO);
+        Optional<FaqDTO> faqOpt = searchIndex.isReady()
+                ? searchIndex.get(id)
+                : faqRepository.findByIdWithCategory(id).map(this::convertToDTO);
+        if (faqOpt.isEmpty() || !Boolean.TRUE.equals(faqOpt.get().getIsActive())) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        
+        viewCountBuffer.increment(id);
+        FaqDTO faq = faqOpt.get();
+        int persistedViews = faq.getViewCount() == null ? 0 : faq.getViewCount();
+        faq.setViewCount(persistedViews + (int) viewCountBuffer.pending(id));
+        return Optional.of(faq);
     }
     
     /**
      * Busca FAQs por categoria
      */
+    @Cacheable(CacheNames.FAQS_BY_CATEGORY)
     @Transactional(readOnly = true)
     public List<FaqDTO> findByCategory(Long categoryId) {
-        return faqRepository.findByCategoryIdAndIsActiveTrueOrderByCreatedAtDesc(categoryId)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return faqRepository.findActiveFaqDTOsByCategory(categoryId);
     }
     
     /**
-     * Busca FAQs por termo de pesquisa
+     * Busca FAQs por termo de pesquisa.
+     * Com o índice em memória pronto a busca não abre transação nem usa conexão do pool.
+     * Com fuzzy, termos com erros de digitação também casam; a busca aproximada é sempre
+     * feita no índice em memória, qualquer que seja faq.search.engine.
+     * Com faq.search.ranking.enabled, retorna os resultados mais relevantes primeiro (todos, a
+     * menos que faq.search.ranking.max-results imponha um limite).
      */
-    @Transactional(readOnly = true)
-    public List<FaqDTO> searchFaqs(String searchTerm) {
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<FaqDTO> searchFaqs(String searchTerm, boolean fuzzy) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             return findAllActive();
         }
         
-        return faqRepository.searchActiveFaqs(searchTerm.trim())
+        if (useSearchIndex(fuzzy)) {
+            return useRanking()
+                    ? searchIndex.searchRanked(searchTerm, null, fuzzy, rankingLimit())
+                    : indexSearch(searchTerm, null, fuzzy);
+        }
+        
+        boolean fullText = useFullTextSearch();
+        List<Faq> faqs = fullText
+                ? faqRepository.fullTextSearchActiveFaqs(searchTerm.trim())
+                : faqRepository.searchActiveFaqs(searchTerm.trim());
+        return rankIfEnabled(faqs
                 .stream()
                 .map(this::convertToDTO)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()), searchTerm, fullText);
     }
     
     /**
      * Busca FAQs por categoria e termo de pesquisa
      */
-    @Transactional(readOnly = true)
-    public List<FaqDTO> searchFaqsByCategory(Long categoryId, String searchTerm) {
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<FaqDTO> searchFaqsByCategory(Long categoryId, String searchTerm, boolean fuzzy) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             return findByCategory(categoryId);
         }
         
-        return faqRepository.searchActiveFaqsByCategory(categoryId, searchTerm.trim())
+        if (useSearchIndex(fuzzy)) {
+            return useRanking()
+                    ? searchIndex.searchRanked(searchTerm, categoryId, fuzzy, rankingLimit())
+                    : indexSearch(searchTerm, categoryId, fuzzy);
+        }
+        
+        boolean fullText = useFullTextSearch();
+        List<Faq> faqs = fullText
+                ? faqRepository.fullTextSearchActiveFaqsByCategory(categoryId, searchTerm.trim())
+                : faqRepository.searchActiveFaqsByCategory(categoryId, searchTerm.trim());
+        return rankIfEnabled(faqs
+                .stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList()), searchTerm, fullText);
+    }
+    
+    /**
+     * Contagem por categoria dos FAQs ativos que casam com a pesquisa, calculada sobre os bitmaps
+     * do índice em memória qualquer que seja faq.search.engine; vazia enquanto o índice não está pronto
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<CategoryFacetDTO> searchFacets(String searchTerm, boolean fuzzy) {
+        return searchIndex.isReady() ? searchIndex.facets(searchTerm, fuzzy) : List.of();
+    }
+    
+    /**
+     * Página de FAQs ativos, do mais recente para o mais antigo, a partir do cursor
+     */
+    @Transactional(readOnly = true)
+    public FaqPageResponse findActivePage(String cursor, Integer limit) {
+        FaqCursor position = FaqCursor.decode(cursor, FaqCursor.Order.RECENT);
+        int size = FaqCursor.pageSize(limit);
+        List<FaqDTO> faqs = faqRepository.findActivePageAfter(position.getCreatedAt(), position.getId(),
+                        PageRequest.of(0, size + 1))
                 .stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
+        return FaqCursor.toPage(faqs, size, FaqCursor.Order.RECENT);
     }
     
     /**
-     * Busca FAQs mais visualizados
+     * Página de FAQs ativos de uma categoria a partir do cursor
      */
     @Transactional(readOnly = true)
-    public List<FaqDTO> findMostViewed(int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        return faqRepository.findMostViewedActiveFaqs()
+    public FaqPageResponse findByCategoryPage(Long categoryId, String cursor, Integer limit) {
+        FaqCursor position = FaqCursor.decode(cursor, FaqCursor.Order.RECENT);
+        int size = FaqCursor.pageSize(limit);
+        List<FaqDTO> faqs = faqRepository.findActivePageByCategoryAfter(categoryId, position.getCreatedAt(),
+                        position.getId(), PageRequest.of(0, size + 1))
                 .stream()
-                .limit(limit)
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
+        return FaqCursor.toPage(faqs, size, FaqCursor.Order.RECENT);
+    }
+    
+    /**
+     * Página de FAQs com visualizações, mais visualizados primeiro, a partir do cursor
+     */
+    @Transactional(readOnly = true)
+    public FaqPageResponse findMostViewedPage(String cursor, Integer limit) {
+        FaqCursor position = FaqCursor.decode(cursor, FaqCursor.Order.MOST_VIEWED);
+        int size = FaqCursor.pageSize(limit);
+        List<FaqDTO> faqs = faqRepository.findMostViewedPageAfter(position.getViewCount(), position.getCreatedAt(),
+                        position.getId(), PageRequest.of(0, size + 1))
+                .stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+        return FaqCursor.toPage(faqs, size, FaqCursor.Order.MOST_VIEWED);
+    }
+    
+    /**
+     * Página da busca por termo (e opcionalmente categoria), do mais recente para o mais antigo.
+     * Paginada, a busca textual também segue essa ordem em vez da ordem por relevância.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public FaqPageResponse searchPage(String searchTerm, Long categoryId, boolean fuzzy, String cursor, Integer limit) {
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return categoryId != null
+                    ? findByCategoryPage(categoryId, cursor, limit)
+                    : findActivePage(cursor, limit);
+        }
+        
+        FaqCursor position = FaqCursor.decode(cursor, FaqCursor.Order.RECENT);
+        int size = FaqCursor.pageSize(limit);
+        if (useSearchIndex(fuzzy)) {
+            return FaqCursor.toPage(searchIndex.searchPage(searchTerm, categoryId, fuzzy, position, size + 1),
+                    size, FaqCursor.Order.RECENT);
+        }
+        
+        String term = searchTerm.trim();
+        List<Faq> faqs;
+        if (useFullTextSearch()) {
+            faqs = categoryId != null
+                    ? faqRepository.fullTextSearchActivePageByCategoryAfter(categoryId, term,
+                            position.getCreatedAt(), position.getId(), size + 1)
+                    : faqRepository.fullTextSearchActivePageAfter(term, position.getCreatedAt(), position.getId(),
+                            size + 1);
+        } else {
+            faqs = categoryId != null
+                    ? faqRepository.searchActivePageByCategoryAfter(categoryId, term, position.getCreatedAt(),
+                            position.getId(), PageRequest.of(0, size + 1))
+                    : faqRepository.searchActivePageAfter(term, position.getCreatedAt(), position.getId(),
+                            PageRequest.of(0, size + 1));
+        }
+        return FaqCursor.toPage(faqs.stream().map(this::convertToDTO).collect(Collectors.toList()),
+                size, FaqCursor.Order.RECENT);
+    }
+    
+    /**
+     * Total de FAQs ativos, servido do cache de contagens
+     */
+    @Cacheable(value = CacheNames.FAQ_COUNTS, key = "'active'")
+    @Transactional(readOnly = true)
+    public long countActive() {
+        return faqRepository.countByIsActiveTrue();
+    }
+    
+    /**
+     * Total de FAQs ativos de uma categoria, servido do cache de contagens
+     */
+    @Cacheable(value = CacheNames.FAQ_COUNTS, key = "'category:' + #categoryId")
+    @Transactional(readOnly = true)
+    public long countActiveByCategory(Long categoryId) {
+        return faqRepository.countActiveFaqsByCategory(categoryId);
+    }
+    
+    /**
+     * Total de FAQs ativos com visualizações, servido do cache de contagens
+     */
+    @Cacheable(value = CacheNames.FAQ_COUNTS, key = "'" + COUNT_WITH_VIEWS_KEY + "'")
+    @Transactional(readOnly = true)
+    public long countWithViews() {
+        return faqRepository.countActiveWithViews();
+    }
+    
+    /**
+     * Busca FAQs mais visualizados
+     */
+    @Cacheable(CacheNames.MOST_VIEWED_FAQS)
+    @Transactional(readOnly = true)
+    public List<FaqDTO> findMostViewed(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return faqRepository.findMostViewedActiveFaqs(Limit.of(limit));
     }
     
     /**
@@ -143,31 +347,25 @@ public class FaqService {
     /**
      * Busca FAQs mais recentes
      */
+    @Cacheable(CacheNames.RECENT_FAQS)
     @Transactional(readOnly = true)
     public List<FaqDTO> findRecent(int limit) {
-        return faqRepository.findRecentActiveFaqs()
-                .stream()
-                .limit(limit)
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        if (limit <= 0) {
+            return List.of();
+        }
+        return faqRepository.findRecentActiveFaqs(Limit.of(limit));
     }
     
     /**
      * Busca FAQs relacionados
      */
+    @Cacheable(CacheNames.RELATED_FAQS)
     @Transactional(readOnly = true)
     public List<FaqSummaryDTO> findRelated(Long faqId, int limit) {
-        Optional<Faq> faqOpt = faqRepository.findById(faqId);
-        if (faqOpt.isEmpty()) {
+        if (limit <= 0) {
             return List.of();
         }
-        
-        Faq faq = faqOpt.get();
-        return faqRepository.findRelatedFaqs(faq.getCategory().getId(), faqId)
-                .stream()
-                .limit(limit)
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+        return faqRepository.findRelatedFaqs(faqId, Limit.of(limit));
     }
     
     /**
@@ -179,15 +377,15 @@ public class FaqService {
                 .orElseThrow(() -> new IllegalArgumentException("Categoria não encontrada com ID: " + faqDTO.getCategoryId()));
         
         // Validar se já existe FAQ com a mesma pergunta
-        if (faqRepository.existsByQuestionIgnoreCaseAndIsActiveTrue(faqDTO.getQuestion())) {
-            throw new IllegalArgumentException("Já existe um FAQ ativo com esta pergunta");
-        }
+        validateUniqueQuestion(faqDTO.getQuestion(), null);
         
         Faq faq = convertToEntity(faqDTO);
         faq.setCategory(category);
         
         Faq savedFaq = faqRepository.save(faq);
-        return convertToDTO(savedFaq);
+        FaqDTO savedDTO = convertToDTO(savedFaq);
+        eventPublisher.publishEvent(new FaqChangedEvent(FaqChangedEvent.ChangeType.CREATED, savedDTO.getId(), savedDTO));
+        return withPossibleDuplicates(savedDTO);
     }
     
     /**
@@ -201,6 +399,12 @@ public class FaqService {
         Category category = categoryRepository.findById(faqDTO.getCategoryId())
                 .orElseThrow(() -> new IllegalArgumentException("Categoria não encontrada com ID: " + faqDTO.getCategoryId()));
         
+        boolean activeAfterUpdate = faqDTO.getIsActive() != null ? faqDTO.getIsActive() : existingFaq.getIsActive();
+        if (activeAfterUpdate) {
+            validateUniqueQuestion(faqDTO.getQuestion(), id);
+        }
+        
+        Long previousCategoryId = existingFaq.getCategory().getId();
         existingFaq.setQuestion(faqDTO.getQuestion());
         existingFaq.setAnswer(faqDTO.getAnswer());
         existingFaq.setCategory(category);
@@ -209,7 +413,61 @@ public class FaqService {
         }
         
         Faq updatedFaq = faqRepository.save(existingFaq);
-        return convertToDTO(updatedFaq);
+        FaqDTO updatedDTO = convertToDTO(updatedFaq);
+        eventPublisher.publishEvent(new FaqChangedEvent(FaqChangedEvent.ChangeType.UPDATED, id, updatedDTO, previousCategoryId));
+        return withPossibleDuplicates(updatedDTO);
+    }
+    
+    /**
+     * Busca FAQs ativos com pergunta parecida, para aviso antes de salvar
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<DuplicateCandidateDTO> findPossibleDuplicates(String question, Long excludeId) {
+        if (question == null || question.isBlank()) {
+            return List.of();
+        }
+        return duplicateIndex.findSimilar(question, excludeId);
+    }
+    
+    /**
+     * Relatório de pares de FAQs ativos com perguntas quase duplicadas em todo o catálogo
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<DuplicatePairDTO> findDuplicatePairs(Double minSimilarity, int limit) {
+        if (minSimilarity != null && (minSimilarity <= 0 || minSimilarity > 1)) {
+            throw new IllegalArgumentException("Similaridade mínima deve estar entre 0 e 1");
+        }
+        return duplicateIndex.findDuplicatePairs(minSimilarity, limit);
+    }
+    
+    /**
+     * Rejeita a pergunta se outro FAQ ativo já a usa; consulta o índice em memória
+     * e só recorre ao banco enquanto ele não foi construído
+     */
+    private void validateUniqueQuestion(String question, Long excludeId) {
+        boolean exists;
+        if (duplicateIndex.isReady()) {
+            exists = duplicateIndex.hasExactDuplicate(question, excludeId);
+        } else if (excludeId == null) {
+            exists = faqRepository.existsByQuestionIgnoreCaseAndIsActiveTrue(question);
+        } else {
+            exists = faqRepository.existsByQuestionIgnoreCaseAndIsActiveTrueAndIdNot(question, excludeId);
+        }
+        if (exists) {
+            throw new IllegalArgumentException("Já existe um FAQ ativo com esta pergunta");
+        }
+    }
+    
+    /**
+     * Anexa à resposta os FAQs com pergunta quase igual, sem bloquear a gravação
+     */
+    private FaqDTO withPossibleDuplicates(FaqDTO saved) {
+        List<DuplicateCandidateDTO> duplicates = findPossibleDuplicates(saved.getQuestion(), saved.getId());
+        FaqDTO response = FaqMapper.copy(saved);
+        if (!duplicates.isEmpty()) {
+            response.setPossibleDuplicates(duplicates);
+        }
+        return response;
     }
     
     /**
@@ -221,49 +479,77 @@ public class FaqService {
         }
         
         faqRepository.updateActiveStatus(id, isActive);
+        faqRepository.findByIdWithCategory(id).map(this::convertToDTO).ifPresent(faq -> eventPublisher.publishEvent(
+                new FaqChangedEvent(FaqChangedEvent.ChangeType.STATUS_CHANGED, id, faq, faq.getCategoryId())));
     }
     
     /**
      * Remove FAQ
      */
     public void delete(Long id) {
-        if (!faqRepository.existsById(id)) {
-            throw new IllegalArgumentException("FAQ não encontrado com ID: " + id);
-        }
+        Faq faq = faqRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("FAQ não encontrado com ID: " + id));
+        Long categoryId = faq.getCategory().getId();
         
-        faqRepository.deleteById(id);
+        faqRepository.delete(faq);
+        eventPublisher.publishEvent(FaqChangedEvent.deleted(id, categoryId));
+    }
+    
+    /**
+     * Verifica se as buscas devem ser respondidas pelo índice em memória
+     */
+    private boolean useSearchIndex(boolean fuzzy) {
+        return (fuzzy || "index".equalsIgnoreCase(searchEngine)) && searchIndex.isReady();
+    }
+    
+    /**
+     * O ranking usa as estatísticas de termos do índice em memória, mesmo quando a busca LIKE é
+     * feita no banco; a busca textual do PostgreSQL mantém o ts_rank (ver rankIfEnabled)
+     */
+    private boolean useRanking() {
+        return rankingEnabled && searchIndex.isReady();
+    }
+    
+    /**
+     * A busca textual do PostgreSQL já devolve os resultados por ts_rank, que pontua os radicais
+     * casados pelo dicionário (stemming). O BM25 do índice só conhece os termos exatos e
+     * rebaixaria esses FAQs, então eles mantêm a ordem do banco, cortada por max-results.
+     */
+    private List<FaqDTO> rankIfEnabled(List<FaqDTO> faqs, String searchTerm, boolean fullText) {
+        if (!useRanking()) {
+            return faqs;
+        }
+        if (fullText) {
+            return faqs.size() > rankingLimit() ? new ArrayList<>(faqs.subList(0, rankingLimit())) : faqs;
+        }
+        return searchIndex.rank(faqs, searchTerm, rankingLimit());
+    }
+    
+    /**
+     * Só um limite configurado restringe o heap do ranking; sem ele todos os resultados são ordenados
+     */
+    private int rankingLimit() {
+        return rankingMaxResults > 0 ? rankingMaxResults : Integer.MAX_VALUE;
+    }
+    
+    private List<FaqDTO> indexSearch(String searchTerm, Long categoryId, boolean fuzzy) {
+        return fuzzy
+                ? searchIndex.searchFuzzy(searchTerm, categoryId)
+                : searchIndex.search(searchTerm, categoryId);
+    }
+    
+    /**
+     * Verifica se as buscas devem usar a busca textual do PostgreSQL (índices GIN)
+     */
+    private boolean useFullTextSearch() {
+        return "fulltext".equalsIgnoreCase(searchEngine) && fullTextSearch.isAvailable();
     }
     
     /**
      * Converte Entity para DTO
      */
     private FaqDTO convertToDTO(Faq faq) {
-        FaqDTO dto = new FaqDTO();
-        dto.setId(faq.getId());
-        dto.setQuestion(faq.getQuestion());
-        dto.setAnswer(faq.getAnswer());
-        dto.setViewCount(faq.getViewCount());
-        dto.setIsActive(faq.getIsActive());
-        dto.setPriority(faq.getPriority());
-        dto.setCreatedAt(faq.getCreatedAt());
-        dto.setUpdatedAt(faq.getUpdatedAt());
-        dto.setCategoryId(faq.getCategory().getId());
-        dto.setCategoryName(faq.getCategory().getName());
-        return dto;
-    }
-    
-    /**
-     * Converte Entity para SummaryDTO
-     */
-    private FaqSummaryDTO convertToSummaryDTO(Faq faq) {
-        return new FaqSummaryDTO(
-                faq.getId(),
-                faq.getQuestion(),
-                faq.getViewCount(),
-                faq.getIsActive(),
-                faq.getCreatedAt(),
-                faq.getUpdatedAt()
-        );
+        return FaqMapper.toDTO(faq);
     }
     
     /**
@@ -0,0 +1,204 @@
+package com.faq.service;
+
+import com.faq.event.FaqChangedEvent;
+import com.faq.model.Feedback;
+import com.faq.model.FeedbackCounter;
+import com.faq.repository.FeedbackCounterRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Mantém a tabela faq_feedback_counters, a forma desnormalizada das contagens de feedbacks.
+ *
+ * A linha de cada FAQ é criada na mesma transação que o FAQ (cadastro e importação em massa).
+ * Os votos são aplicados como deltas na mesma transação que grava o feedback, de modo que
+ * contadores e feedbacks são confirmados ou desfeitos juntos. A reconciliação recalcula os
+ * contadores a partir de feedbacks e corrige qualquer divergência.
+ */
+@Service
+@Transactional
+public class FeedbackCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedbackCounterService.class);
+
+    private static final String INSERT_MISSING_SQL =
+            "INSERT INTO faq_feedback_counters (faq_id, positive_count, negative_count, updated_at) " +
+            "SELECT f.id, 0, 0, CURRENT_TIMESTAMP FROM faqs f " +
+            "WHERE NOT EXISTS (SELECT 1 FROM faq_feedback_counters c WHERE c.faq_id = f.id)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO faq_feedback_counters (faq_id, positive_count, negative_count, updated_at) " +
+            "VALUES (?, 0, 0, CURRENT_TIMESTAMP)";
+
+    // Primeiro voto: parâmetros faq_id, contagens iniciais e (no upsert) os deltas
+    private static final String UPSERT_POSTGRESQL_SQL =
+            "INSERT INTO faq_feedback_counters (faq_id, positive_count, negative_count, updated_at) " +
+            "VALUES (?, ?, ?, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (faq_id) DO UPDATE SET " +
+            "positive_count = faq_feedback_counters.positive_count + ?, " +
+            "negative_count = faq_feedback_counters.negative_count + ?, " +
+            "updated_at = CURRENT_TIMESTAMP";
+
+    private static final String INSERT_VOTE_SQL =
+            "INSERT INTO faq_feedback_counters (faq_id, positive_count, negative_count, updated_at) " +
+            "VALUES (?, ?, ?, CURRENT_TIMESTAMP)";
+
+    private static final String DELETE_ORPHANS_SQL =
+            "DELETE FROM faq_feedback_counters " +
+            "WHERE NOT EXISTS (SELECT 1 FROM faqs f WHERE f.id = faq_feedback_counters.faq_id)";
+
+    private static final String POSITIVE_COUNT =
+            "(SELECT COUNT(*) FROM feedbacks fb WHERE fb.faq_id = c.faq_id AND fb.feedback_type = 'POSITIVE')";
+
+    private static final String NEGATIVE_COUNT =
+            "(SELECT COUNT(*) FROM feedbacks fb WHERE fb.faq_id = c.faq_id AND fb.feedback_type = 'NEGATIVE')";
+
+    private static final String CORRECT_SQL =
+            "UPDATE faq_feedback_counters c SET " +
+            "positive_count = " + POSITIVE_COUNT + ", " +
+            "negative_count = " + NEGATIVE_COUNT + ", " +
+            "updated_at = CURRENT_TIMESTAMP " +
+            "WHERE c.positive_count <> " + POSITIVE_COUNT + " OR c.negative_count <> " + NEGATIVE_COUNT;
+
+    @Autowired
+    private FeedbackCounterRepository counterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private boolean postgresql = false;
+
+    /**
+     * No PostgreSQL o primeiro voto usa INSERT ... ON CONFLICT, já que um comando que falha
+     * invalida a transação inteira; nos demais bancos (H2) a chave duplicada é tratada na aplicação
+     */
+    @PostConstruct
+    public void detectDatabase() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        postgresql = "PostgreSQL".equalsIgnoreCase(product);
+    }
+
+    /**
+     * Aplica um voto aos contadores do FAQ: previous é o voto anterior do usuário (null se novo)
+     * e current o voto atual (null se removido). Trocar POSITIVE por NEGATIVE move uma unidade
+     * de um contador para o outro.
+     */
+    public void recordVote(Long faqId, Feedback.FeedbackType previous, Feedback.FeedbackType current) {
+        if (previous == current) {
+            return;
+        }
+        long positiveDelta = delta(Feedback.FeedbackType.POSITIVE, previous, current);
+        long negativeDelta = delta(Feedback.FeedbackType.NEGATIVE, previous, current);
+        if (counterRepository.addToCounters(faqId, positiveDelta, negativeDelta) == 0) {
+            createCountersWithVote(faqId, positiveDelta, negativeDelta);
+        }
+    }
+
+    /**
+     * Primeiro voto de um FAQ gravado fora da aplicação e ainda não reconciliado. Dois primeiros
+     * votos simultâneos não falham nem se sobrescrevem: quem perde a corrida pela inserção
+     * soma o seu delta à linha criada pelo outro.
+     */
+    private void createCountersWithVote(Long faqId, long positiveDelta, long negativeDelta) {
+        long positive = Math.max(0, positiveDelta);
+        long negative = Math.max(0, negativeDelta);
+        if (postgresql) {
+            jdbcTemplate.update(UPSERT_POSTGRESQL_SQL, faqId, positive, negative, positiveDelta, negativeDelta);
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_VOTE_SQL, faqId, positive, negative);
+        } catch (DuplicateKeyException e) {
+            counterRepository.addToCounters(faqId, positiveDelta, negativeDelta);
+        }
+    }
+
+    /**
+     * Cria as linhas zeradas dos FAQs recém-gravados, na transação que os gravou
+     */
+    public void createCounters(List<Long> faqIds) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, faqIds, faqIds.size(), (ps, faqId) -> ps.setLong(1, faqId));
+    }
+
+    /**
+     * Zera os contadores após a remoção de todos os feedbacks do FAQ
+     */
+    public void reset(Long faqId) {
+        counterRepository.resetCounters(faqId);
+    }
+
+    /**
+     * Contadores do FAQ, lidos de uma única linha
+     */
+    @Transactional(readOnly = true)
+    public Optional<FeedbackCounter> findByFaqId(Long faqId) {
+        return counterRepository.findById(faqId);
+    }
+
+    /**
+     * Cria os contadores de um FAQ novo e remove os de um FAQ excluído, dentro da transação
+     * do cadastro ou da exclusão
+     */
+    @EventListener
+    public void onFaqChanged(FaqChangedEvent event) {
+        if (event.getChangeType() == FaqChangedEvent.ChangeType.CREATED) {
+            createCounters(List.of(event.getFaqId()));
+        } else if (event.getChangeType() == FaqChangedEvent.ChangeType.DELETED) {
+            counterRepository.deleteByFaqId(event.getFaqId());
+        }
+    }
+
+    /**
+     * Reconcilia na subida, o que também preenche a tabela em bancos já existentes
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    /**
+     * Recalcula os contadores a partir de feedbacks: cria as linhas ausentes, remove as de FAQs
+     * excluídos e corrige as que divergem. Retorna quantas linhas foram afetadas em cada etapa.
+     */
+    @Scheduled(cron = "${faq.feedback.counters.reconcile-cron:0 30 3 * * *}")
+    public Map<String, Integer> reconcile() {
+        int created = jdbcTemplate.update(INSERT_MISSING_SQL);
+        int removed = jdbcTemplate.update(DELETE_ORPHANS_SQL);
+        int corrected = jdbcTemplate.update(CORRECT_SQL);
+        if (corrected > 0) {
+            log.warn("Reconciliação de contadores de feedback corrigiu {} FAQs", corrected);
+        }
+        log.info("Contadores de feedback reconciliados: {} criados, {} removidos, {} corrigidos",
+                created, removed, corrected);
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        result.put("created", created);
+        result.put("removed", removed);
+        result.put("corrected", corrected);
+        return result;
+    }
+
+    private static long delta(Feedback.FeedbackType type, Feedback.FeedbackType previous,
+                              Feedback.FeedbackType current) {
+        return (current == type ? 1 : 0) - (previous == type ? 1 : 0);
+    }
+}
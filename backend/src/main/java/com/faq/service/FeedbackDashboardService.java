@@ -0,0 +1,222 @@
+package com.faq.service;
+
+import com.faq.event.FaqChangedEvent;
+import com.faq.event.FeedbackChangedEvent;
+import com.faq.event.RemoteChangeEvent;
+import com.faq.repository.FeedbackCounterRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Painel de feedback do administrador, pré-calculado em segundo plano e servido da memória.
+ *
+ * Um job periódico recalcula o painel quando houve votos desde a última execução, percorrendo
+ * faq_feedback_counters (uma linha por FAQ, não por voto) e mantendo apenas os K primeiros de
+ * cada ranking em heaps limitados. A resposta mantém as chaves usadas pela página de feedback
+ * e acrescenta as taxas e o instante em que foi gerada.
+ */
+@Service
+public class FeedbackDashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedbackDashboardService.class);
+
+    /**
+     * Ordem de ranking: maior contagem primeiro e, no empate, menor id
+     */
+    private static final Comparator<RankedFaq> RANKING = Comparator
+            .comparingLong((RankedFaq faq) -> faq.count).reversed()
+            .thenComparingLong(faq -> faq.faqId);
+
+    @Autowired
+    private FeedbackCounterRepository counterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Quantidade de FAQs mantida em cada ranking (mais e menos curtidos)
+     */
+    @Value("${faq.feedback.dashboard.top-k:50}")
+    private int topK;
+
+    /**
+     * Idade máxima do painel mesmo sem votos, para refletir correções da reconciliação dos contadores
+     */
+    @Value("${faq.feedback.dashboard.max-age-ms:600000}")
+    private long maxAgeMs;
+
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+
+    private volatile Map<String, Object> current;
+    private volatile long computedAt;
+
+    /**
+     * Painel atual; calculado na hora apenas se ainda não existir
+     */
+    public Map<String, Object> current() {
+        Map<String, Object> dashboard = current;
+        if (dashboard == null) {
+            synchronized (this) {
+                if (current == null) {
+                    refresh();
+                }
+                dashboard = current;
+            }
+        }
+        return dashboard;
+    }
+
+    /**
+     * Primeiro cálculo após a reconciliação dos contadores feita na subida
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedbackChanged(FeedbackChangedEvent event) {
+        stale.set(true);
+    }
+
+    /**
+     * A pergunta exibida no ranking muda com a edição do FAQ, e FAQs excluídos saem dele
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFaqChanged(FaqChangedEvent event) {
+        stale.set(true);
+    }
+
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        stale.set(true);
+    }
+
+    /**
+     * Recalcula o painel se houve alterações desde o último cálculo ou se ele expirou
+     */
+    @Scheduled(fixedDelayString = "${faq.feedback.dashboard.refresh-interval-ms:30000}")
+    public void refreshIfStale() {
+        if (stale.get() || System.currentTimeMillis() - computedAt > maxAgeMs) {
+            refresh();
+        }
+    }
+
+    /**
+     * Recalcula o painel a partir dos contadores por FAQ
+     */
+    public synchronized void refresh() {
+        // Limpo antes da leitura: votos durante o cálculo marcam o painel para a próxima execução
+        stale.set(false);
+        long start = System.nanoTime();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        try {
+            current = readOnly.execute(status -> compute());
+            computedAt = System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            stale.set(true);
+            throw e;
+        }
+        log.debug("Painel de feedback recalculado em {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Map<String, Object> compute() {
+        int k = Math.max(1, topK);
+        // Min-heaps: a raiz é o pior dos K mantidos e é descartada quando surge um melhor
+        PriorityQueue<RankedFaq> mostLiked = new PriorityQueue<>(k + 1, RANKING.reversed());
+        PriorityQueue<RankedFaq> leastLiked = new PriorityQueue<>(k + 1, RANKING.reversed());
+        long totalPositive = 0;
+        long totalNegative = 0;
+
+        try (Stream<Object[]> rows = counterRepository.streamVotedCounters()) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                Long faqId = (Long) row[0];
+                String question = (String) row[1];
+                long positive = (Long) row[2];
+                long negative = (Long) row[3];
+                long total = positive + negative;
+                totalPositive += positive;
+                totalNegative += negative;
+                if (positive > 0) {
+                    offer(mostLiked, new RankedFaq(faqId, question, positive, ratio(positive, total)), k);
+                }
+                if (negative > 0) {
+                    offer(leastLiked, new RankedFaq(faqId, question, negative, ratio(negative, total)), k);
+                }
+            }
+        }
+
+        long totalFeedbacks = totalPositive + totalNegative;
+        Map<String, Object> dashboard = new LinkedHashMap<>();
+        dashboard.put("totalFeedbacks", totalFeedbacks);
+        dashboard.put("totalPositive", totalPositive);
+        dashboard.put("totalNegative", totalNegative);
+        dashboard.put("likeRate", ratio(totalPositive, totalFeedbacks));
+        dashboard.put("dislikeRate", ratio(totalNegative, totalFeedbacks));
+        // Cada item: [faqId, pergunta, votos, taxa do voto entre os votos do FAQ]
+        dashboard.put("mostLiked", ranked(mostLiked));
+        dashboard.put("leastLiked", ranked(leastLiked));
+        dashboard.put("topK", k);
+        dashboard.put("generatedAt", LocalDateTime.now());
+        return Collections.unmodifiableMap(dashboard);
+    }
+
+    private static void offer(PriorityQueue<RankedFaq> heap, RankedFaq faq, int k) {
+        heap.offer(faq);
+        if (heap.size() > k) {
+            heap.poll();
+        }
+    }
+
+    private static List<Object[]> ranked(PriorityQueue<RankedFaq> heap) {
+        List<RankedFaq> sorted = new ArrayList<>(heap);
+        sorted.sort(RANKING);
+        List<Object[]> rows = new ArrayList<>(sorted.size());
+        for (RankedFaq faq : sorted) {
+            rows.add(new Object[]{faq.faqId, faq.question, faq.count, faq.rate});
+        }
+        return Collections.unmodifiableList(rows);
+    }
+
+    private static double ratio(long part, long total) {
+        return total == 0 ? 0.0 : Math.round(part * 10000.0 / total) / 10000.0;
+    }
+
+    private static final class RankedFaq {
+        private final long faqId;
+        private final String question;
+        private final long count;
+        private final double rate;
+
+        private RankedFaq(long faqId, String question, long count, double rate) {
+            this.faqId = faqId;
+            this.question = question;
+            this.count = count;
+            this.rate = rate;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.faq.service;
 
 import com.faq.dto.FeedbackDTO;
+import com.faq.event.FeedbackChangedEvent;
 import com.faq.model.Faq;
 import com.faq.model.Feedback;
+import com.faq.model.FeedbackCounter;
 import com.faq.repository.FaqRepository;
 import com.faq.repository.FeedbackRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +28,15 @@ public class FeedbackService {
     @Autowired
     private FaqRepository faqRepository;
     
+    @Autowired
+    private FeedbackCounterService feedbackCounters;
+    
+    @Autowired
+    private FeedbackDashboardService feedbackDashboard;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     /**
      * Cria ou atualiza feedback
      */
@@ -33,14 +45,17 @@ public class FeedbackService {
         Faq faq = faqRepository.findById(feedbackDTO.getFaqId())
                 .orElseThrow(() -> new IllegalArgumentException("FAQ não encontrado com ID: " + feedbackDTO.getFaqId()));
         
-        // Verificar se já existe feedback do mesmo IP para este FAQ
-        Optional<Feedback> existingFeedback = feedbackRepository.findByFaqIdAndUserIp(
+        // Verificar se já existe feedback do mesmo IP para este FAQ; a linha fica travada até o
+        // commit para que o voto anterior descontado dos contadores seja o que está gravado
+        Optional<Feedback> existingFeedback = feedbackRepository.findForUpdateByFaqIdAndUserIp(
                 feedbackDTO.getFaqId(), feedbackDTO.getUserIp());
         
         Feedback feedback;
+        Feedback.FeedbackType previousType = null;
         if (existingFeedback.isPresent()) {
             // Atualizar feedback existente
             feedback = existingFeedback.get();
+            previousType = feedback.getFeedbackType();
             feedback.setFeedbackType(feedbackDTO.getFeedbackType());
         } else {
             // Criar novo feedback
@@ -49,6 +64,10 @@ public class FeedbackService {
         }
         
         Feedback savedFeedback = feedbackRepository.save(feedback);
+        feedbackCounters.recordVote(faq.getId(), previousType, savedFeedback.getFeedbackType());
+        eventPublisher.publishEvent(new FeedbackChangedEvent(
+                existingFeedback.isPresent() ? FeedbackChangedEvent.ChangeType.UPDATED : FeedbackChangedEvent.ChangeType.CREATED,
+                savedFeedback.getId(), faq.getId(), savedFeedback.getFeedbackType()));
         return convertToDTO(savedFeedback);
     }
     
@@ -64,14 +83,15 @@ public class FeedbackService {
     }
     
     /**
-     * Busca estatísticas de feedback por FAQ
+     * Busca estatísticas de feedback por FAQ, lidas da linha de contadores do FAQ
      */
     @Transactional(readOnly = true)
     public Map<String, Long> getFeedbackStats(Long faqId) {
+        Optional<FeedbackCounter> counter = feedbackCounters.findByFaqId(faqId);
         Map<String, Long> stats = new HashMap<>();
-        stats.put("positive", feedbackRepository.countPositiveFeedbacksByFaqId(faqId));
-        stats.put("negative", feedbackRepository.countNegativeFeedbacksByFaqId(faqId));
-        stats.put("total", feedbackRepository.countByFaqId(faqId));
+        stats.put("positive", counter.map(FeedbackCounter::getPositiveCount).orElse(0L));
+        stats.put("negative", counter.map(FeedbackCounter::getNegativeCount).orElse(0L));
+        stats.put("total", counter.map(FeedbackCounter::getTotalCount).orElse(0L));
         return stats;
     }
     
@@ -94,10 +114,12 @@ public class FeedbackService {
      * Remove feedback
      */
     public void deleteFeedback(Long feedbackId) {
-        if (!feedbackRepository.existsById(feedbackId)) {
-            throw new IllegalArgumentException("Feedback não encontrado com ID: " + feedbackId);
-        }
-        feedbackRepository.deleteById(feedbackId);
+        Feedback feedback = feedbackRepository.findById(feedbackId)
+                .orElseThrow(() -> new IllegalArgumentException("Feedback não encontrado com ID: " + feedbackId));
+        Long faqId = feedback.getFaq().getId();
+        feedbackRepository.delete(feedback);
+        feedbackCounters.recordVote(faqId, feedback.getFeedbackType(), null);
+        eventPublisher.publishEvent(new FeedbackChangedEvent(FeedbackChangedEvent.ChangeType.DELETED, feedbackId, faqId));
     }
     
     /**
@@ -105,33 +127,16 @@ public class FeedbackService {
      */
     public void deleteFeedbacksByFaq(Long faqId) {
         feedbackRepository.deleteByFaqId(faqId);
+        feedbackCounters.reset(faqId);
+        eventPublisher.publishEvent(new FeedbackChangedEvent(FeedbackChangedEvent.ChangeType.DELETED, null, faqId));
     }
     
     /**
-     * Busca estatísticas gerais de feedback para o painel administrativo
+     * Busca estatísticas gerais de feedback para o painel administrativo,
+     * servidas do painel pré-calculado em memória
      */
-    @Transactional(readOnly = true)
     public Map<String, Object> getAdminFeedbackStats() {
-        Map<String, Object> stats = new HashMap<>();
-        
-        // Estatísticas gerais
-        long totalFeedbacks = feedbackRepository.count();
-        long totalPositive = feedbackRepository.countByFeedbackType(Feedback.FeedbackType.POSITIVE);
-        long totalNegative = feedbackRepository.countByFeedbackType(Feedback.FeedbackType.NEGATIVE);
-        
-        stats.put("totalFeedbacks", totalFeedbacks);
-        stats.put("totalPositive", totalPositive);
-        stats.put("totalNegative", totalNegative);
-        
-        // FAQs mais curtidos (top 10)
-        List<Object[]> mostLiked = feedbackRepository.findMostLikedFaqs();
-        stats.put("mostLiked", mostLiked);
-        
-        // FAQs menos curtidos (top 10)
-        List<Object[]> leastLiked = feedbackRepository.findLeastLikedFaqs();
-        stats.put("leastLiked", leastLiked);
-        
-        return stats;
+        return feedbackDashboard.current();
     }
     
     /**
@@ -0,0 +1,129 @@
+package com.faq.service;
+
+import com.faq.event.ViewCountsFlushedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffer de escrita (write-behind) para o contador de visualizações.
+ *
+ * Cada visualização incrementa uma célula LongAdder do FAQ, sem lock e sem acesso ao banco.
+ * Periodicamente os valores acumulados são gravados com um único UPDATE em lote, de modo
+ * que N visualizações de um FAQ popular viram uma única atualização da linha por intervalo.
+ * No desligamento da aplicação o buffer é esvaziado antes do fechamento do pool de conexões.
+ */
+@Component
+public class ViewCountBuffer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ViewCountBuffer.class);
+
+    private static final String INCREMENT_SQL = "UPDATE faqs SET view_count = view_count + ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private volatile boolean running = false;
+
+    /**
+     * Registra uma visualização do FAQ
+     */
+    public void increment(Long faqId) {
+        LongAdder counter = pending.get(faqId);
+        if (counter == null) {
+            counter = pending.computeIfAbsent(faqId, id -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * Visualizações do FAQ ainda não gravadas no banco
+     */
+    public long pending(Long faqId) {
+        LongAdder counter = pending.get(faqId);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Grava no banco as visualizações acumuladas desde a última descarga.
+     * Os valores só saem do buffer depois de gravados e publicados: até o índice em memória
+     * receber o delta, pending() continua somando-o, e o contador lido não volta para trás.
+     */
+    @Scheduled(fixedDelayString = "${faq.views.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> increments = new HashMap<>();
+        // As células nunca são removidas: remover uma célula poderia perder incrementos concorrentes
+        pending.forEach((faqId, counter) -> {
+            long delta = counter.sum();
+            if (delta > 0) {
+                increments.put(faqId, delta);
+            }
+        });
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(increments.size());
+        increments.forEach((faqId, delta) -> batch.add(new Object[]{delta, faqId}));
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INCREMENT_SQL, batch));
+        } catch (RuntimeException e) {
+            // Os valores continuam no buffer para a próxima tentativa
+            log.warn("Falha ao gravar {} contadores de visualização; nova tentativa na próxima descarga: {}",
+                    increments.size(), e.getMessage());
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(new ViewCountsFlushedEvent(increments));
+        } finally {
+            // Desconta só o que foi gravado: incrementos feitos durante a descarga ficam para a próxima
+            increments.forEach((faqId, delta) -> pending.get(faqId).add(-delta));
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        flush();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Para depois do servidor web (que deixa de aceitar requisições antes) e
+     * antes da destruição dos beans, quando o DataSource é fechado
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,315 @@
+package com.faq.snapshot;
+
+import com.faq.dto.CategoryDTO;
+import com.faq.dto.FaqCursor;
+import com.faq.dto.FaqDTO;
+import com.faq.dto.FaqSummaryDTO;
+import com.faq.model.Category;
+import com.faq.service.FaqMapper;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Retrato imutável do catálogo público: todos os FAQs ativos e as categorias que os contêm,
+ * com as ordenações usadas pelos endpoints de leitura já calculadas.
+ *
+ * Nunca é alterado depois de construído; uma nova versão substitui a anterior por inteiro
+ * (ver CatalogSnapshotHolder), seja relida do banco ou derivada desta com novos contadores
+ * de visualização. Os DTOs são compartilhados entre requisições e não devem
+ * ser modificados por quem os recebe.
+ */
+public final class CatalogSnapshot {
+
+    static final Comparator<FaqDTO> BY_CREATED_AT = Comparator
+            .comparing(FaqDTO::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(FaqDTO::getId, Comparator.reverseOrder());
+
+    static final Comparator<FaqDTO> BY_VIEW_COUNT = Comparator
+            .comparing(FaqDTO::getViewCount, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(BY_CREATED_AT);
+
+    static final Comparator<FaqDTO> BY_PRIORITY = Comparator
+            .comparing(FaqDTO::getPriority, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(BY_CREATED_AT);
+
+    private final List<FaqDTO> byCreatedAt;
+    private final List<FaqDTO> byViewCount;
+    private final List<FaqDTO> byPriority;
+    private final Map<Long, List<FaqDTO>> byCategory;
+    private final Map<Long, List<FaqDTO>> byCategoryAndViewCount;
+    private final Map<Long, Long> categoryOfFaq;
+    private final List<CategoryDTO> categoriesWithActiveFaqs;
+    private final Instant builtAt;
+
+    private CatalogSnapshot(List<FaqDTO> byCreatedAt, List<FaqDTO> byViewCount, List<FaqDTO> byPriority,
+                            Map<Long, List<FaqDTO>> byCategory, Map<Long, List<FaqDTO>> byCategoryAndViewCount,
+                            Map<Long, Long> categoryOfFaq, List<CategoryDTO> categoriesWithActiveFaqs) {
+        this.byCreatedAt = byCreatedAt;
+        this.byViewCount = byViewCount;
+        this.byPriority = byPriority;
+        this.byCategory = byCategory;
+        this.byCategoryAndViewCount = byCategoryAndViewCount;
+        this.categoryOfFaq = categoryOfFaq;
+        this.categoriesWithActiveFaqs = categoriesWithActiveFaqs;
+        this.builtAt = Instant.now();
+    }
+
+    /**
+     * Monta o retrato a partir de todos os FAQs (ativos e inativos) e de todas as categorias
+     */
+    public static CatalogSnapshot build(List<FaqDTO> faqs, List<Category> categories) {
+        Map<Long, Long> categoryOfFaq = new HashMap<>(faqs.size() * 2);
+        List<FaqDTO> active = new ArrayList<>(faqs.size());
+        for (FaqDTO faq : faqs) {
+            categoryOfFaq.put(faq.getId(), faq.getCategoryId());
+            if (Boolean.TRUE.equals(faq.getIsActive())) {
+                active.add(faq);
+            }
+        }
+
+        Map<Long, List<FaqDTO>> byCategory = groupSorted(active, BY_CREATED_AT);
+        Map<Long, List<FaqDTO>> byCategoryAndViewCount = groupSorted(active, BY_VIEW_COUNT);
+
+        List<CategoryDTO> categoriesWithActiveFaqs = categories.stream()
+                .filter(category -> byCategory.containsKey(category.getId()))
+                .sorted(Comparator.comparing(Category::getName))
+                .map(category -> toCategoryDTO(category, byCategory.get(category.getId())))
+                .collect(Collectors.toUnmodifiableList());
+
+        return new CatalogSnapshot(
+                sorted(active, BY_CREATED_AT),
+                sorted(active, BY_VIEW_COUNT),
+                sorted(active, BY_PRIORITY),
+                byCategory,
+                byCategoryAndViewCount,
+                Collections.unmodifiableMap(categoryOfFaq),
+                categoriesWithActiveFaqs);
+    }
+
+    /**
+     * Cópia do retrato com novos contadores de visualização, sem reler o catálogo: os FAQs
+     * alterados são substituídos por cópias e só as ordenações por visualizações (geral e das
+     * categorias afetadas) são refeitas. Devolve o próprio retrato se nenhum contador mudou.
+     */
+    public CatalogSnapshot withViewCounts(Map<Long, Integer> viewCounts) {
+        Map<Long, FaqDTO> updated = new HashMap<>();
+        for (FaqDTO faq : byCreatedAt) {
+            Integer viewCount = viewCounts.get(faq.getId());
+            if (viewCount != null && !viewCount.equals(faq.getViewCount())) {
+                FaqDTO copy = FaqMapper.copy(faq);
+                copy.setViewCount(viewCount);
+                updated.put(faq.getId(), copy);
+            }
+        }
+        if (updated.isEmpty()) {
+            return this;
+        }
+
+        Set<Long> affectedCategories = new HashSet<>();
+        updated.values().forEach(faq -> affectedCategories.add(faq.getCategoryId()));
+        Map<Long, List<FaqDTO>> newByCategory = new HashMap<>(byCategory);
+        Map<Long, List<FaqDTO>> newByCategoryAndViewCount = new HashMap<>(byCategoryAndViewCount);
+        for (Long categoryId : affectedCategories) {
+            newByCategory.computeIfPresent(categoryId, (id, list) -> replaced(list, updated));
+            newByCategoryAndViewCount.computeIfPresent(categoryId,
+                    (id, list) -> sorted(replaced(list, updated), BY_VIEW_COUNT));
+        }
+        List<CategoryDTO> newCategories = categoriesWithActiveFaqs.stream()
+                .map(category -> affectedCategories.contains(category.getId())
+                        ? withSummaries(category, newByCategory.get(category.getId()))
+                        : category)
+                .collect(Collectors.toUnmodifiableList());
+
+        return new CatalogSnapshot(
+                replaced(byCreatedAt, updated),
+                sorted(replaced(byViewCount, updated), BY_VIEW_COUNT),
+                replaced(byPriority, updated),
+                Collections.unmodifiableMap(newByCategory),
+                Collections.unmodifiableMap(newByCategoryAndViewCount),
+                categoryOfFaq,
+                newCategories);
+    }
+
+    /**
+     * FAQs ativos, do mais recente para o mais antigo
+     */
+    public List<FaqDTO> activeFaqs() {
+        return byCreatedAt;
+    }
+
+    /**
+     * FAQs ativos de uma categoria, do mais recente para o mais antigo
+     */
+    public List<FaqDTO> faqsByCategory(Long categoryId) {
+        return byCategory.getOrDefault(categoryId, List.of());
+    }
+
+    /**
+     * Os N FAQs ativos mais recentes
+     */
+    public List<FaqDTO> recent(int limit) {
+        return head(byCreatedAt, limit);
+    }
+
+    /**
+     * Os N FAQs ativos mais visualizados
+     */
+    public List<FaqDTO> mostViewed(int limit) {
+        return head(byViewCount, limit);
+    }
+
+    /**
+     * Os N FAQs ativos de maior prioridade
+     */
+    public List<FaqDTO> highestPriority(int limit) {
+        return head(byPriority, limit);
+    }
+
+    /**
+     * FAQs ativos da mesma categoria do FAQ informado, mais visualizados primeiro
+     */
+    public List<FaqSummaryDTO> related(Long faqId, int limit) {
+        Long categoryId = categoryOfFaq.get(faqId);
+        if (categoryId == null) {
+            return List.of();
+        }
+        return byCategoryAndViewCount.getOrDefault(categoryId, List.of()).stream()
+                .filter(faq -> !faq.getId().equals(faqId))
+                .limit(Math.max(0, limit))
+                .map(CatalogSnapshot::toSummary)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Até N FAQs ativos posteriores ao cursor, na ordem do cursor (recentes ou mais visualizados)
+     */
+    public List<FaqDTO> activeAfter(FaqCursor cursor, int limit) {
+        List<FaqDTO> source = cursor.getOrder() == FaqCursor.Order.MOST_VIEWED ? byViewCount : byCreatedAt;
+        return after(source, cursor, limit);
+    }
+
+    /**
+     * Até N FAQs ativos da categoria posteriores ao cursor (createdAt, id)
+     */
+    public List<FaqDTO> categoryAfter(Long categoryId, FaqCursor cursor, int limit) {
+        return after(faqsByCategory(categoryId), cursor, limit);
+    }
+
+    /**
+     * Categorias com FAQs ativos, em ordem alfabética, com o resumo dos seus FAQs
+     */
+    public List<CategoryDTO> categoriesWithActiveFaqs() {
+        return categoriesWithActiveFaqs;
+    }
+
+    /**
+     * Número de FAQs ativos
+     */
+    public int size() {
+        return byCreatedAt.size();
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    /**
+     * As listas estão na ordem do cursor, então os itens posteriores a ele formam um sufixo
+     * contíguo, localizado por busca binária
+     */
+    private static List<FaqDTO> after(List<FaqDTO> list, FaqCursor cursor, int limit) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cursor.precedes(list.get(mid))) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return list.subList(low, Math.min(list.size(), low + Math.max(0, limit)));
+    }
+
+    private static List<FaqDTO> head(List<FaqDTO> list, int limit) {
+        return list.subList(0, Math.max(0, Math.min(limit, list.size())));
+    }
+
+    private static List<FaqDTO> sorted(List<FaqDTO> faqs, Comparator<FaqDTO> order) {
+        List<FaqDTO> copy = new ArrayList<>(faqs);
+        copy.sort(order);
+        return Collections.unmodifiableList(copy);
+    }
+
+    private static Map<Long, List<FaqDTO>> groupSorted(List<FaqDTO> faqs, Comparator<FaqDTO> order) {
+        Map<Long, List<FaqDTO>> grouped = faqs.stream()
+                .filter(faq -> Objects.nonNull(faq.getCategoryId()))
+                .collect(Collectors.groupingBy(FaqDTO::getCategoryId));
+        Map<Long, List<FaqDTO>> result = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((categoryId, list) -> result.put(categoryId, sorted(list, order)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * A mesma lista, na mesma ordem, com os FAQs alterados trocados pelas suas cópias
+     */
+    private static List<FaqDTO> replaced(List<FaqDTO> list, Map<Long, FaqDTO> updated) {
+        List<FaqDTO> copy = new ArrayList<>(list.size());
+        for (FaqDTO faq : list) {
+            copy.add(updated.getOrDefault(faq.getId(), faq));
+        }
+        return Collections.unmodifiableList(copy);
+    }
+
+    private static CategoryDTO withSummaries(CategoryDTO source, List<FaqDTO> activeFaqs) {
+        CategoryDTO dto = new CategoryDTO();
+        dto.setId(source.getId());
+        dto.setName(source.getName());
+        dto.setDescription(source.getDescription());
+        dto.setDisplayOrder(source.getDisplayOrder());
+        dto.setCreatedAt(source.getCreatedAt());
+        dto.setUpdatedAt(source.getUpdatedAt());
+        dto.setFaqs(summaries(activeFaqs));
+        return dto;
+    }
+
+    private static CategoryDTO toCategoryDTO(Category category, List<FaqDTO> activeFaqs) {
+        CategoryDTO dto = new CategoryDTO();
+        dto.setId(category.getId());
+        dto.setName(category.getName());
+        dto.setDescription(category.getDescription());
+        dto.setDisplayOrder(category.getDisplayOrder());
+        dto.setCreatedAt(category.getCreatedAt());
+        dto.setUpdatedAt(category.getUpdatedAt());
+        dto.setFaqs(summaries(activeFaqs));
+        return dto;
+    }
+
+    private static List<FaqSummaryDTO> summaries(List<FaqDTO> activeFaqs) {
+        return activeFaqs.stream()
+                .sorted(Comparator.comparing(FaqDTO::getId))
+                .map(CatalogSnapshot::toSummary)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static FaqSummaryDTO toSummary(FaqDTO faq) {
+        return new FaqSummaryDTO(
+                faq.getId(),
+                faq.getQuestion(),
+                faq.getViewCount(),
+                faq.getIsActive(),
+                faq.getCreatedAt(),
+                faq.getUpdatedAt()
+        );
+    }
+}
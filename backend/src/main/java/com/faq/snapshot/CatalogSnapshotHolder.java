@@ -0,0 +1,204 @@
+package com.faq.snapshot;
+
+import com.faq.dto.FaqDTO;
+import com.faq.event.CategoryChangedEvent;
+import com.faq.event.FaqChangedEvent;
+import com.faq.event.RemoteChangeEvent;
+import com.faq.event.ViewCountsFlushedEvent;
+import com.faq.model.Category;
+import com.faq.repository.CategoryRepository;
+import com.faq.repository.FaqRepository;
+import com.faq.service.FaqMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Mantém o CatalogSnapshot atual quando faq.read.mode=snapshot.
+ *
+ * O retrato é reconstruído em uma thread própria e publicado com uma troca atômica de
+ * referência: requisições em andamento continuam lendo a versão anterior, inteira e
+ * consistente. Várias alterações seguidas resultam em uma única reconstrução. Novas
+ * visualizações não reconstroem o retrato: apenas os contadores alterados são aplicados.
+ */
+@Component
+public class CatalogSnapshotHolder {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotHolder.class);
+
+    /**
+     * FAQs por consulta ao reler os contadores de visualização
+     */
+    private static final int VIEW_COUNT_CHUNK = 500;
+
+    @Autowired
+    private FaqRepository faqRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${faq.read.mode:cache}")
+    private String readMode;
+
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean(false);
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Indica se as leituras públicas devem ser atendidas pelo retrato
+     */
+    public boolean isServing() {
+        return "snapshot".equalsIgnoreCase(readMode) && current.get() != null;
+    }
+
+    /**
+     * Retrato atual, ou null enquanto o primeiro ainda não foi construído
+     */
+    public CatalogSnapshot get() {
+        return current.get();
+    }
+
+    /**
+     * Constrói o primeiro retrato de forma síncrona, antes de a aplicação receber tráfego
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (isEnabled()) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFaqChanged(FaqChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    /**
+     * As ordenações por visualizações dependem dos contadores gravados pelo ViewCountBuffer.
+     * Só os contadores dos FAQs visualizados são relidos, na thread das reconstruções, e o
+     * retrato atual é derivado com eles; o catálogo não é relido a cada descarga.
+     */
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        List<Long> faqIds = new ArrayList<>(event.getIncrements().keySet());
+        rebuilder.execute(() -> {
+            try {
+                applyViewCounts(faqIds);
+            } catch (RuntimeException e) {
+                log.warn("Falha ao atualizar as visualizações do retrato do catálogo; mantendo a versão anterior", e);
+            }
+        });
+    }
+
+    /**
+     * Relê os contadores dos FAQs informados e publica o retrato atual com eles. Os valores são
+     * absolutos, então aplicá-los depois de uma reconstrução que já os incluía não conta em dobro.
+     */
+    void applyViewCounts(List<Long> faqIds) {
+        CatalogSnapshot snapshot = current.get();
+        if (snapshot == null || faqIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> viewCounts = new HashMap<>(faqIds.size() * 2);
+        for (int from = 0; from < faqIds.size(); from += VIEW_COUNT_CHUNK) {
+            List<Long> chunk = faqIds.subList(from, Math.min(faqIds.size(), from + VIEW_COUNT_CHUNK));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT id, view_count FROM faqs WHERE id IN (" + placeholders + ")",
+                    (RowCallbackHandler) rs -> viewCounts.put(rs.getLong(1), rs.getInt(2)), chunk.toArray());
+        }
+        current.set(snapshot.withViewCounts(viewCounts));
+    }
+
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        if (event.getEntityType() != RemoteChangeEvent.EntityType.FEEDBACK) {
+            scheduleRebuild();
+        }
+    }
+
+    /**
+     * Agenda uma reconstrução; pedidos feitos enquanto outra está na fila são descartados
+     */
+    public void scheduleRebuild() {
+        if (!isEnabled() || !rebuildPending.compareAndSet(false, true)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            // Liberado antes da leitura para que alterações feitas durante ela agendem nova rodada
+            rebuildPending.set(false);
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("Falha ao reconstruir o retrato do catálogo; mantendo a versão anterior", e);
+            }
+        });
+    }
+
+    /**
+     * Lê o catálogo completo do banco e publica o novo retrato
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        CatalogSnapshot snapshot = readOnly.execute(status -> {
+            List<FaqDTO> faqs = faqRepository.findAllWithCategory()
+                    .stream()
+                    .map(FaqMapper::toDTO)
+                    .collect(Collectors.toList());
+            List<Category> categories = categoryRepository.findAll();
+            return CatalogSnapshot.build(faqs, categories);
+        });
+        current.set(snapshot);
+        log.debug("Retrato do catálogo reconstruído com {} FAQs ativos em {} ms",
+                snapshot.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private boolean isEnabled() {
+        return "snapshot".equalsIgnoreCase(readMode);
+    }
+}
@@ -0,0 +1,202 @@
+package com.faq.sync;
+
+import com.faq.event.RemoteChangeEvent;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Escuta o canal NOTIFY em uma conexão dedicada (fora do pool Hikari) e republica
+ * as escritas das outras réplicas como RemoteChangeEvent, para que índices e caches
+ * locais sejam atualizados sem depender de expiração por tempo.
+ *
+ * Se a conexão cair, notificações podem ter sido perdidas: ao reconectar é publicada
+ * uma ressincronização completa.
+ *
+ * Mensagens com versão anterior à última aplicada para a mesma entidade chegaram fora de
+ * ordem e são descartadas (a versão vem do relógio da réplica que escreveu, então as réplicas
+ * precisam de relógios sincronizados). Os eventos são aplicados em ordem por uma thread
+ * própria: recarregar índices pode levar segundos e a thread de escuta precisa continuar
+ * lendo o canal.
+ */
+@Component
+@ConditionalOnProperty(name = "faq.sync.notify.enabled", havingValue = "true")
+public class ChangeNotificationListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeNotificationListener.class);
+
+    /**
+     * Tipo das notificações que pedem ressincronização completa, como após uma importação em massa
+     */
+    static final String RESYNC = "RESYNC";
+
+    private static final int POLL_TIMEOUT_MS = 5000;
+    private static final long RECONNECT_DELAY_MS = 5000;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ReplicaIdentity replicaIdentity;
+
+    @Value("${faq.sync.notify.channel:faq_changes}")
+    private String channel;
+
+    private volatile boolean running = false;
+    private volatile Connection connection;
+    private Thread worker;
+
+    /**
+     * Última versão aplicada por entidade ("FAQ:42"); acessado só pela thread de escuta
+     */
+    private final Map<String, Long> appliedVersions = new HashMap<>();
+
+    private final ExecutorService applier = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "faq-change-applier");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::listenLoop, "faq-change-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        closeQuietly();
+        applier.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        boolean firstConnection = true;
+        while (running) {
+            try {
+                connection = DriverManager.getConnection(
+                        dataSourceProperties.determineUrl(),
+                        dataSourceProperties.determineUsername(),
+                        dataSourceProperties.determinePassword());
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Escutando alterações de outras réplicas no canal '{}'", channel);
+                if (!firstConnection) {
+                    apply(RemoteChangeEvent.resync());
+                }
+                firstConnection = false;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Conexão de escuta do canal '{}' perdida: {}", channel, e.getMessage());
+                }
+            } finally {
+                closeQuietly();
+            }
+            sleepBeforeReconnect();
+        }
+    }
+
+    void dispatch(String payload) {
+        String[] parts = payload.split(":");
+        if (parts.length != 4 || replicaIdentity.getId().equals(parts[3])) {
+            return;
+        }
+        if (RESYNC.equals(parts[0])) {
+            apply(RemoteChangeEvent.resync());
+            return;
+        }
+        RemoteChangeEvent event;
+        try {
+            event = new RemoteChangeEvent(
+                    RemoteChangeEvent.EntityType.valueOf(parts[0]),
+                    Long.valueOf(parts[1]),
+                    Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            log.warn("Notificação ignorada '{}': {}", payload, e.getMessage());
+            return;
+        }
+        String entity = event.getEntityType() + ":" + event.getEntityId();
+        Long applied = appliedVersions.get(entity);
+        if (applied != null && event.getVersion() < applied) {
+            log.debug("Notificação fora de ordem descartada '{}' (versão aplicada {})", payload, applied);
+            return;
+        }
+        appliedVersions.put(entity, event.getVersion());
+        apply(event);
+    }
+
+    private void apply(RemoteChangeEvent event) {
+        applier.execute(() -> {
+            try {
+                eventPublisher.publishEvent(event);
+            } catch (RuntimeException e) {
+                log.warn("Falha ao aplicar notificação {}", event, e);
+            }
+        });
+    }
+
+    private void sleepBeforeReconnect() {
+        if (!running) {
+            return;
+        }
+        try {
+            Thread.sleep(RECONNECT_DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void closeQuietly() {
+        Connection current = connection;
+        connection = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException ignored) {
+                // conexão já encerrada
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.faq.sync;
+
+import com.faq.event.CategoryChangedEvent;
+import com.faq.event.FaqChangedEvent;
+import com.faq.event.FaqsImportedEvent;
+import com.faq.event.FeedbackChangedEvent;
+import com.faq.event.RemoteChangeEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Publica cada escrita local no canal NOTIFY do PostgreSQL para as demais réplicas.
+ *
+ * O NOTIFY é emitido dentro da própria transação da escrita: o PostgreSQL só o entrega
+ * após o commit, e nunca se a transação for desfeita.
+ * Formato da mensagem: TIPO:id:versão:origem (ex.: FAQ:42:1718000000000:3f9a1c2e).
+ * A versão (updatedAt da entidade, ou o instante da escrita) permite ao ChangeNotificationListener
+ * descartar mensagens que chegam depois de uma mais nova da mesma entidade.
+ */
+@Component
+@ConditionalOnProperty(name = "faq.sync.notify.enabled", havingValue = "true")
+public class ChangeNotificationPublisher {
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private ReplicaIdentity replicaIdentity;
+    
+    @Value("${faq.sync.notify.channel:faq_changes}")
+    private String channel;
+    
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onFaqChanged(FaqChangedEvent event) {
+        LocalDateTime updatedAt = event.getFaq() != null ? event.getFaq().getUpdatedAt() : null;
+        notify(RemoteChangeEvent.EntityType.FAQ, event.getFaqId(), updatedAt);
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        LocalDateTime updatedAt = event.getCategory() != null ? event.getCategory().getUpdatedAt() : null;
+        notify(RemoteChangeEvent.EntityType.CATEGORY, event.getCategoryId(), updatedAt);
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onFeedbackChanged(FeedbackChangedEvent event) {
+        notify(RemoteChangeEvent.EntityType.FEEDBACK, event.getFaqId(), null);
+    }
+    
+    /**
+     * Importações em massa não notificam FAQ a FAQ: as réplicas recebem um pedido de ressincronização
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onFaqsImported(FaqsImportedEvent event) {
+        String payload = ChangeNotificationListener.RESYNC + ":0:" + System.currentTimeMillis() + ":" + replicaIdentity.getId();
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+    }
+    
+    private void notify(RemoteChangeEvent.EntityType entityType, Long id, LocalDateTime updatedAt) {
+        long version = updatedAt != null
+                ? updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli()
+                : System.currentTimeMillis();
+        String payload = entityType + ":" + id + ":" + version + ":" + replicaIdentity.getId();
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+    }
+}
@@ -0,0 +1,18 @@
+package com.faq.sync;
+
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Identificador aleatório desta instância, usado para ignorar as próprias notificações
+ */
+@Component
+public class ReplicaIdentity {
+    
+    private final String id = UUID.randomUUID().toString().substring(0, 8);
+    
+    public String getId() {
+        return id;
+    }
+}
@@ -0,0 +1,334 @@
+package com.faq.trending;
+
+import com.faq.dto.FaqDTO;
+import com.faq.event.CategoryChangedEvent;
+import com.faq.event.FaqChangedEvent;
+import com.faq.event.FeedbackChangedEvent;
+import com.faq.event.RemoteChangeEvent;
+import com.faq.event.ViewCountsFlushedEvent;
+import com.faq.model.AnalyticsMetric;
+import com.faq.model.Feedback;
+import com.faq.repository.FaqRepository;
+import com.faq.service.FaqMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Ranking em memória dos FAQs em alta, por uma pontuação com decaimento exponencial.
+ *
+ * Cada visualização ou voto soma peso * 2^((t - t0) / meia-vida) à pontuação do FAQ (decaimento
+ * "para frente", com t0 fixo na construção). Como todas as pontuações decaem pelo mesmo fator,
+ * a ordem entre elas não muda com o passar do tempo e nada precisa ser recalculado: um evento
+ * novo simplesmente vale mais que um antigo. As pontuações são guardadas em escala logarítmica
+ * para que o termo exponencial não estoure.
+ *
+ * Os FAQs pontuados ficam em conjuntos ordenados (geral e por categoria) indexados pelo mapa de
+ * entradas, de modo que atualizar um FAQ custa O(log n) e ler os K primeiros custa O(K).
+ * Na subida a pontuação é reconstruída a partir de faq_analytics_hourly.
+ */
+@Component
+public class TrendingTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingTracker.class);
+
+    private static final String SEED_SQL =
+            "SELECT faq_id, metric, bucket_start, event_count FROM faq_analytics_hourly WHERE bucket_start >= ?";
+
+    private static final Comparator<ScoredFaq> HOTTEST_FIRST = Comparator
+            .comparingDouble((ScoredFaq entry) -> entry.logScore).reversed()
+            .thenComparingLong(entry -> entry.faq.getId());
+
+    @Autowired
+    private FaqRepository faqRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${faq.trending.half-life:PT6H}")
+    private Duration halfLife;
+
+    @Value("${faq.trending.view-weight:1.0}")
+    private double viewWeight;
+
+    @Value("${faq.trending.positive-feedback-weight:3.0}")
+    private double positiveFeedbackWeight;
+
+    @Value("${faq.trending.negative-feedback-weight:0.5}")
+    private double negativeFeedbackWeight;
+
+    /**
+     * Quantas meias-vidas de faq_analytics_hourly são lidas na reconstrução; eventos mais antigos
+     * valeriam menos de 1/2^n de um evento atual
+     */
+    @Value("${faq.trending.seed-half-lives:8}")
+    private int seedHalfLives;
+
+    private final Map<Long, ScoredFaq> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<ScoredFaq> ranking = new ConcurrentSkipListSet<>(HOTTEST_FIRST);
+    private final Map<Long, NavigableSet<ScoredFaq>> rankingByCategory = new ConcurrentHashMap<>();
+
+    /**
+     * FAQs ativos conhecidos, inclusive os ainda sem eventos
+     */
+    private final Map<Long, FaqDTO> activeFaqs = new ConcurrentHashMap<>();
+
+    private final Instant landmark = Instant.now();
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Recarrega os FAQs ativos e refaz as pontuações a partir dos baldes horários de analytics
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        entries.clear();
+        ranking.clear();
+        rankingByCategory.clear();
+        activeFaqs.clear();
+        faqRepository.findAllWithCategory()
+                .stream()
+                .filter(faq -> Boolean.TRUE.equals(faq.getIsActive()))
+                .map(FaqMapper::toDTO)
+                .forEach(faq -> activeFaqs.put(faq.getId(), faq));
+
+        LocalDateTime now = LocalDateTime.now();
+        Duration window = halfLife.multipliedBy(Math.max(1, seedHalfLives));
+        Duration halfBucket = Duration.ofMinutes(30);
+        jdbcTemplate.query(SEED_SQL, rs -> {
+            AnalyticsMetric metric = AnalyticsMetric.valueOf(rs.getString(2));
+            // Sem o instante exato de cada evento, considera o meio da hora
+            LocalDateTime time = rs.getTimestamp(3).toLocalDateTime().plus(halfBucket);
+            add(rs.getLong(1), weight(metric) * rs.getLong(4), time.isAfter(now) ? now : time);
+        }, Timestamp.valueOf(now.minus(window)));
+
+        ready = true;
+        log.info("Ranking de FAQs em alta reconstruído com {} FAQs pontuados em {} ms",
+                entries.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Indica se o ranking já foi construído
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Os FAQs em alta, do mais quente para o menos, opcionalmente de uma categoria
+     */
+    public List<FaqDTO> top(int limit, Long categoryId) {
+        NavigableSet<ScoredFaq> source = categoryId == null ? ranking : rankingByCategory.get(categoryId);
+        if (source == null || limit <= 0) {
+            return List.of();
+        }
+        List<FaqDTO> faqs = new ArrayList<>(Math.min(limit, entries.size()));
+        for (ScoredFaq entry : source) {
+            if (faqs.size() == limit) {
+                break;
+            }
+            faqs.add(FaqMapper.copy(entry.faq));
+        }
+        return faqs;
+    }
+
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        event.getIncrements().forEach((faqId, count) -> {
+            addViews(faqId, count);
+            add(faqId, viewWeight * count, now);
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedbackChanged(FeedbackChangedEvent event) {
+        if (event.getFeedbackType() == null) {
+            return;
+        }
+        AnalyticsMetric metric = event.getFeedbackType() == Feedback.FeedbackType.POSITIVE
+                ? AnalyticsMetric.FEEDBACK_POSITIVE : AnalyticsMetric.FEEDBACK_NEGATIVE;
+        add(event.getFaqId(), weight(metric), LocalDateTime.now());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFaqChanged(FaqChangedEvent event) {
+        if (event.getChangeType() == FaqChangedEvent.ChangeType.DELETED) {
+            remove(event.getFaqId());
+        } else if (event.getFaq() != null) {
+            put(event.getFaq());
+        }
+    }
+
+    /**
+     * Atualiza o nome da categoria dos FAQs mantidos após a categoria ser renomeada
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.getChangeType() != CategoryChangedEvent.ChangeType.UPDATED || event.getCategory() == null) {
+            return;
+        }
+        String name = event.getCategory().getName();
+        activeFaqs.values().stream()
+                .filter(faq -> event.getCategoryId().equals(faq.getCategoryId()) && !name.equals(faq.getCategoryName()))
+                .map(FaqMapper::copy)
+                .forEach(faq -> {
+                    faq.setCategoryName(name);
+                    put(faq);
+                });
+    }
+
+    /**
+     * Alterações de FAQs em outras réplicas são recarregadas do banco; as visualizações e votos
+     * de outras réplicas só entram na próxima reconstrução
+     */
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        if (event.isResync() || event.getEntityType() == RemoteChangeEvent.EntityType.CATEGORY) {
+            rebuild();
+        } else if (event.getEntityType() == RemoteChangeEvent.EntityType.FAQ) {
+            faqRepository.findByIdWithCategory(event.getEntityId())
+                    .map(FaqMapper::toDTO)
+                    .ifPresentOrElse(this::put, () -> remove(event.getEntityId()));
+        }
+    }
+
+    /**
+     * Inclui ou atualiza um FAQ, mantendo sua pontuação; FAQs inativos saem do ranking
+     */
+    public synchronized void put(FaqDTO faq) {
+        if (!Boolean.TRUE.equals(faq.getIsActive())) {
+            remove(faq.getId());
+            return;
+        }
+        FaqDTO stored = FaqMapper.copy(faq);
+        activeFaqs.put(faq.getId(), stored);
+        ScoredFaq previous = entries.get(faq.getId());
+        if (previous != null) {
+            replace(previous, new ScoredFaq(stored, previous.logScore));
+        }
+    }
+
+    /**
+     * Remove um FAQ e sua pontuação
+     */
+    public synchronized void remove(Long faqId) {
+        activeFaqs.remove(faqId);
+        ScoredFaq previous = entries.remove(faqId);
+        if (previous != null) {
+            unlink(previous);
+        }
+    }
+
+    /**
+     * Soma um evento de peso weight ocorrido em time à pontuação do FAQ
+     */
+    private synchronized void add(Long faqId, double weight, LocalDateTime time) {
+        FaqDTO faq = activeFaqs.get(faqId);
+        if (faq == null || weight <= 0) {
+            return;
+        }
+        double logWeight = Math.log(weight) + decayExponent(time);
+        ScoredFaq previous = entries.get(faqId);
+        double logScore = previous == null ? logWeight : logSumExp(previous.logScore, logWeight);
+        replace(previous, new ScoredFaq(faq, logScore));
+    }
+
+    /**
+     * Mantém o viewCount do DTO guardado, como no índice de busca
+     */
+    private synchronized void addViews(Long faqId, long count) {
+        FaqDTO faq = activeFaqs.get(faqId);
+        if (faq == null) {
+            return;
+        }
+        FaqDTO updated = FaqMapper.copy(faq);
+        updated.setViewCount((updated.getViewCount() == null ? 0 : updated.getViewCount()) + (int) count);
+        activeFaqs.put(faqId, updated);
+        ScoredFaq previous = entries.get(faqId);
+        if (previous != null) {
+            replace(previous, new ScoredFaq(updated, previous.logScore));
+        }
+    }
+
+    /**
+     * As entradas são imutáveis: uma alteração sai dos conjuntos ordenados e volta com a nova chave
+     */
+    private void replace(ScoredFaq previous, ScoredFaq updated) {
+        if (previous != null) {
+            unlink(previous);
+        }
+        entries.put(updated.faq.getId(), updated);
+        ranking.add(updated);
+        rankingByCategory.computeIfAbsent(updated.faq.getCategoryId(),
+                id -> new ConcurrentSkipListSet<>(HOTTEST_FIRST)).add(updated);
+    }
+
+    private void unlink(ScoredFaq entry) {
+        ranking.remove(entry);
+        NavigableSet<ScoredFaq> category = rankingByCategory.get(entry.faq.getCategoryId());
+        if (category != null) {
+            category.remove(entry);
+        }
+    }
+
+    /**
+     * ln(2^((t - t0) / meia-vida)), o logaritmo do fator que valoriza eventos recentes
+     */
+    private double decayExponent(LocalDateTime time) {
+        double elapsed = Duration.between(landmark, time.atZone(ZoneId.systemDefault()).toInstant()).toMillis();
+        return Math.log(2) * elapsed / halfLife.toMillis();
+    }
+
+    private double weight(AnalyticsMetric metric) {
+        switch (metric) {
+            case FEEDBACK_POSITIVE:
+                return positiveFeedbackWeight;
+            case FEEDBACK_NEGATIVE:
+                return negativeFeedbackWeight;
+            default:
+                return viewWeight;
+        }
+    }
+
+    /**
+     * ln(e^a + e^b) sem calcular as exponenciais diretamente
+     */
+    private static double logSumExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    private static final class ScoredFaq {
+        private final FaqDTO faq;
+        private final double logScore;
+
+        private ScoredFaq(FaqDTO faq, double logScore) {
+            this.faq = faq;
+            this.logScore = logScore;
+        }
+    }
+}
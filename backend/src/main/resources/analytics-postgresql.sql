@@ -0,0 +1,28 @@
+-- Baldes de analytics de visualizações e votos (faq_analytics_hourly e faq_analytics_daily)
+-- Execute no banco faqdb quando o schema não é gerenciado pelo Hibernate (perfil prod):
+--   psql -U postgres -d faqdb -f src/main/resources/analytics-postgresql.sql
+--
+-- Os eventos são agregados por minuto em memória e somados às linhas horárias a cada minuto;
+-- um job horário recalcula os dias abertos em faq_analytics_daily a partir das horas e remove
+-- as linhas além da retenção (faq.analytics.hourly-retention-days e daily-retention-days).
+-- Sem chave estrangeira para faqs: o histórico de FAQs excluídos sai pela retenção.
+
+CREATE TABLE IF NOT EXISTS faq_analytics_hourly (
+    faq_id BIGINT NOT NULL,
+    metric VARCHAR(32) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    event_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (faq_id, metric, bucket_start)
+);
+
+CREATE TABLE IF NOT EXISTS faq_analytics_daily (
+    faq_id BIGINT NOT NULL,
+    metric VARCHAR(32) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    event_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (faq_id, metric, bucket_start)
+);
+
+-- Séries de todos os FAQs (sem faq_id) percorrem apenas o intervalo pedido
+CREATE INDEX IF NOT EXISTS idx_faq_analytics_hourly_metric_start ON faq_analytics_hourly(metric, bucket_start);
+CREATE INDEX IF NOT EXISTS idx_faq_analytics_daily_metric_start ON faq_analytics_daily(metric, bucket_start);
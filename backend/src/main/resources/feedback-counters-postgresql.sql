@@ -0,0 +1,15 @@
+-- Contadores de feedback por FAQ (faq_feedback_counters)
+-- Execute no banco faqdb quando o schema não é gerenciado pelo Hibernate (perfil prod):
+--   psql -U postgres -d faqdb -f src/main/resources/feedback-counters-postgresql.sql
+--
+-- Uma linha por FAQ com os totais de votos positivos e negativos, atualizada na mesma
+-- transação que grava cada feedback. O preenchimento inicial é feito pela reconciliação
+-- que a aplicação executa ao subir (ou por POST /api/feedback/admin/counters/reconcile).
+
+CREATE TABLE IF NOT EXISTS faq_feedback_counters (
+    faq_id BIGINT PRIMARY KEY,
+    positive_count BIGINT NOT NULL DEFAULT 0,
+    negative_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (faq_id) REFERENCES faqs(id) ON DELETE CASCADE
+);
@@ -0,0 +1,31 @@
+-- Busca textual (full-text search) para o mecanismo de busca "fulltext"
+-- Execute como superusuário (ou dono do banco) no banco faqdb:
+--   psql -U postgres -d faqdb -f src/main/resources/fulltext-search-postgresql.sql
+--
+-- Cria a configuração faq_portuguese (stemmer português + remoção de acentos),
+-- de modo que "cartao" encontre "cartão", e recria os índices GIN usados por
+-- FaqRepository.fullTextSearchActiveFaqs / fullTextSearchActiveFaqsByCategory.
+-- As expressões dos índices precisam ser idênticas às das consultas.
+
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_ts_config WHERE cfgname = 'faq_portuguese') THEN
+        CREATE TEXT SEARCH CONFIGURATION faq_portuguese (COPY = portuguese);
+        ALTER TEXT SEARCH CONFIGURATION faq_portuguese
+            ALTER MAPPING FOR hword, hword_part, word WITH unaccent, portuguese_stem;
+    END IF;
+END
+$$;
+
+-- Índices antigos com a configuração 'english' nunca eram usados pelas consultas
+DROP INDEX IF EXISTS idx_faqs_question_search;
+DROP INDEX IF EXISTS idx_faqs_answer_search;
+DROP INDEX IF EXISTS idx_categories_name_search;
+
+CREATE INDEX IF NOT EXISTS idx_faqs_question_search ON faqs USING gin(to_tsvector('faq_portuguese', question));
+CREATE INDEX IF NOT EXISTS idx_faqs_answer_search ON faqs USING gin(to_tsvector('faq_portuguese', answer));
+CREATE INDEX IF NOT EXISTS idx_categories_name_search ON categories USING gin(to_tsvector('faq_portuguese', name));
+
+ANALYZE faqs;
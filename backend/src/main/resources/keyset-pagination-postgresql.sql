@@ -0,0 +1,16 @@
+-- Índices da paginação por cursor (keyset) de /faqs, /faqs/category/{id} e /faqs/views
+-- Execute no banco faqdb quando o schema não é gerenciado pelo Hibernate (perfil prod):
+--   psql -U postgres -d faqdb -f src/main/resources/keyset-pagination-postgresql.sql
+--
+-- Cada índice cobre o filtro e a ordenação completa de uma consulta "*PageAfter" do
+-- FaqRepository, de modo que cada página é uma leitura de intervalo do índice,
+-- sem OFFSET e sem ordenação, qualquer que seja a profundidade da página.
+
+CREATE INDEX IF NOT EXISTS idx_faqs_active_created_id
+    ON faqs (is_active, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_faqs_category_active_created_id
+    ON faqs (category_id, is_active, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_faqs_active_views_created_id
+    ON faqs (is_active, view_count, created_at, id);
@@ -46,6 +46,32 @@ CREATE TABLE IF NOT EXISTS feedbacks (
     FOREIGN KEY (faq_id) REFERENCES faqs(id) ON DELETE CASCADE
 );
 
+-- Feedback counters (one row per FAQ, kept in sync with feedbacks)
+CREATE TABLE IF NOT EXISTS faq_feedback_counters (
+    faq_id BIGINT PRIMARY KEY,
+    positive_count BIGINT NOT NULL DEFAULT 0,
+    negative_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (faq_id) REFERENCES faqs(id) ON DELETE CASCADE
+);
+
+-- Analytics buckets (views and votes per hour and per day)
+CREATE TABLE IF NOT EXISTS faq_analytics_hourly (
+    faq_id BIGINT NOT NULL,
+    metric VARCHAR(32) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    event_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (faq_id, metric, bucket_start)
+);
+
+CREATE TABLE IF NOT EXISTS faq_analytics_daily (
+    faq_id BIGINT NOT NULL,
+    metric VARCHAR(32) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    event_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (faq_id, metric, bucket_start)
+);
+
 -- Indexes for better performance
 CREATE INDEX IF NOT EXISTS idx_categories_active ON categories(active);
 CREATE INDEX IF NOT EXISTS idx_categories_display_order ON categories(display_order);
@@ -54,11 +80,26 @@ CREATE INDEX IF NOT EXISTS idx_faqs_active ON faqs(active);
 CREATE INDEX IF NOT EXISTS idx_faqs_priority ON faqs(priority);
 CREATE INDEX IF NOT EXISTS idx_faqs_view_count ON faqs(view_count);
 CREATE INDEX IF NOT EXISTS idx_faqs_created_at ON faqs(created_at);
+CREATE INDEX IF NOT EXISTS idx_faq_analytics_hourly_metric_start ON faq_analytics_hourly(metric, bucket_start);
+CREATE INDEX IF NOT EXISTS idx_faq_analytics_daily_metric_start ON faq_analytics_daily(metric, bucket_start);
+
+-- Full-text search configuration (português, sem acentos)
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_ts_config WHERE cfgname = 'faq_portuguese') THEN
+        CREATE TEXT SEARCH CONFIGURATION faq_portuguese (COPY = portuguese);
+        ALTER TEXT SEARCH CONFIGURATION faq_portuguese
+            ALTER MAPPING FOR hword, hword_part, word WITH unaccent, portuguese_stem;
+    END IF;
+END
+$$;
 
--- Full-text search indexes
-CREATE INDEX IF NOT EXISTS idx_faqs_question_search ON faqs USING gin(to_tsvector('english', question));
-CREATE INDEX IF NOT EXISTS idx_faqs_answer_search ON faqs USING gin(to_tsvector('english', answer));
-CREATE INDEX IF NOT EXISTS idx_categories_name_search ON categories USING gin(to_tsvector('english', name));
+-- Full-text search indexes (must match the expressions used in FaqRepository)
+CREATE INDEX IF NOT EXISTS idx_faqs_question_search ON faqs USING gin(to_tsvector('faq_portuguese', question));
+CREATE INDEX IF NOT EXISTS idx_faqs_answer_search ON faqs USING gin(to_tsvector('faq_portuguese', answer));
+CREATE INDEX IF NOT EXISTS idx_categories_name_search ON categories USING gin(to_tsvector('faq_portuguese', name));
 
 -- Function to update updated_at timestamp
 CREATE OR REPLACE FUNCTION update_updated_at_column()
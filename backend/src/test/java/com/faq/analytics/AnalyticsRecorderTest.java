@@ -0,0 +1,161 @@
+package com.faq.analytics;
+
+import com.faq.model.AnalyticsMetric;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Baldes de minuto gravados em faq_analytics_hourly sem contagem dupla, consolidação dos dias
+ * abertos em faq_analytics_daily e retenção de cada nível
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class AnalyticsRecorderTest {
+
+    // Sem FAQ correspondente: as tabelas de analytics não têm chave estrangeira. Cada teste usa
+    // o seu id, pois os baldes de minuto do contexto compartilhado sobrevivem entre os testes.
+    private static final long FIRST_ID = 990000L;
+    private static final AtomicLong NEXT_ID = new AtomicLong(FIRST_ID);
+
+    @Autowired
+    private AnalyticsRecorder recorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long faqId;
+
+    @BeforeEach
+    void setUp() {
+        faqId = NEXT_ID.incrementAndGet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM faq_analytics_hourly WHERE faq_id > ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM faq_analytics_daily WHERE faq_id > ?", FIRST_ID);
+    }
+
+    @Test
+    void pendingMinutesAreAddedToHourlyRowsOnce() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        recorder.record(faqId, AnalyticsMetric.VIEW, 3);
+        recorder.record(faqId, AnalyticsMetric.VIEW, 2);
+        recorder.record(faqId, AnalyticsMetric.FEEDBACK_POSITIVE, 1);
+        // Ignorados: sem FAQ ou sem eventos
+        recorder.record(null, AnalyticsMetric.VIEW, 4);
+        recorder.record(faqId, AnalyticsMetric.VIEW, 0);
+
+        assertThat(pendingSum(now, AnalyticsMetric.VIEW)).isEqualTo(5);
+
+        recorder.persistBefore(LocalDateTime.MAX);
+
+        assertThat(hourlySum(AnalyticsMetric.VIEW)).isEqualTo(5);
+        assertThat(hourlySum(AnalyticsMetric.FEEDBACK_POSITIVE)).isEqualTo(1);
+        assertThat(pendingSum(now, AnalyticsMetric.VIEW)).isZero();
+        // Os baldes gravados continuam disponíveis para as séries por minuto
+        assertThat(recorder.minuteCounts(faqId, AnalyticsMetric.VIEW, now.minusMinutes(1), now.plusMinutes(2), false)
+                .values().stream().mapToLong(Long::longValue).sum()).isEqualTo(5);
+
+        recorder.persistBefore(LocalDateTime.MAX);
+        assertThat(hourlySum(AnalyticsMetric.VIEW)).isEqualTo(5);
+
+        // Evento que chega a um minuto já gravado entra na próxima gravação, uma única vez
+        recorder.record(faqId, AnalyticsMetric.VIEW, 4);
+        assertThat(pendingSum(now, AnalyticsMetric.VIEW)).isEqualTo(4);
+        recorder.persistBefore(LocalDateTime.MAX);
+        recorder.persistBefore(LocalDateTime.MAX);
+        assertThat(hourlySum(AnalyticsMetric.VIEW)).isEqualTo(9);
+        assertThat(pendingSum(now, AnalyticsMetric.VIEW)).isZero();
+    }
+
+    @Test
+    void existingHourlyRowIsIncrementedInPlace() {
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        insertHourly(hour, 10);
+        recorder.record(faqId, AnalyticsMetric.VIEW, 4);
+
+        recorder.persistBefore(LocalDateTime.MAX);
+
+        assertThat(hourlySum(AnalyticsMetric.VIEW)).isEqualTo(14);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM faq_analytics_hourly WHERE faq_id = ?",
+                Integer.class, faqId)).isEqualTo(1);
+    }
+
+    @Test
+    void rollupRecalculatesOpenDaysOnly() {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        LocalDateTime yesterday = today.minusDays(1);
+        LocalDateTime closedDay = today.minusDays(5);
+        insertHourly(yesterday.plusHours(10), 4);
+        insertHourly(yesterday.plusHours(15), 6);
+        insertHourly(closedDay.plusHours(9), 7);
+        // Valor diário anterior do dia aberto é substituído; o do dia fechado é mantido
+        insertDaily(yesterday, 1);
+        insertDaily(closedDay, 42);
+
+        recorder.rollup();
+
+        assertThat(daily(yesterday)).isEqualTo(10);
+        assertThat(daily(closedDay)).isEqualTo(42);
+        assertThat(daily(today)).isNull();
+    }
+
+    @Test
+    void rollupPurgesRowsBeyondRetention() {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        insertHourly(today.minusDays(20).plusHours(8), 3);
+        insertHourly(today.minusDays(3).plusHours(8), 2);
+        insertDaily(today.minusDays(800), 5);
+        insertDaily(today.minusDays(100), 6);
+
+        Map<String, Integer> result = recorder.rollup();
+
+        assertThat(result.get("hourlyPurged")).isGreaterThanOrEqualTo(1);
+        assertThat(result.get("dailyPurged")).isGreaterThanOrEqualTo(1);
+        assertThat(hourlySum(AnalyticsMetric.VIEW)).isEqualTo(2);
+        assertThat(daily(today.minusDays(800))).isNull();
+        assertThat(daily(today.minusDays(100))).isEqualTo(6);
+    }
+
+    private long pendingSum(LocalDateTime now, AnalyticsMetric metric) {
+        return recorder.minuteCounts(faqId, metric, now.minusMinutes(1), now.plusMinutes(2), true)
+                .values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private long hourlySum(AnalyticsMetric metric) {
+        Long sum = jdbcTemplate.queryForObject("SELECT SUM(event_count) FROM faq_analytics_hourly " +
+                "WHERE faq_id = ? AND metric = ?", Long.class, faqId, metric.name());
+        return sum == null ? 0 : sum;
+    }
+
+    private Long daily(LocalDateTime day) {
+        return jdbcTemplate.query("SELECT event_count FROM faq_analytics_daily " +
+                        "WHERE faq_id = ? AND metric = ? AND bucket_start = ?",
+                rs -> rs.next() ? rs.getLong(1) : null, faqId, AnalyticsMetric.VIEW.name(), Timestamp.valueOf(day));
+    }
+
+    private void insertHourly(LocalDateTime hour, long count) {
+        jdbcTemplate.update("INSERT INTO faq_analytics_hourly (faq_id, metric, bucket_start, event_count) " +
+                "VALUES (?, ?, ?, ?)", faqId, AnalyticsMetric.VIEW.name(), Timestamp.valueOf(hour), count);
+    }
+
+    private void insertDaily(LocalDateTime day, long count) {
+        jdbcTemplate.update("INSERT INTO faq_analytics_daily (faq_id, metric, bucket_start, event_count) " +
+                "VALUES (?, ?, ?, ?)", faqId, AnalyticsMetric.VIEW.name(), Timestamp.valueOf(day), count);
+    }
+}
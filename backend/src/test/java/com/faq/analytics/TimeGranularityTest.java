@@ -0,0 +1,41 @@
+package com.faq.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Interpretação do parâmetro de granularidade e limites dos baldes de cada nível
+ */
+class TimeGranularityTest {
+
+    private static final LocalDateTime INSTANT = LocalDateTime.of(2024, 3, 1, 10, 42, 17);
+
+    @Test
+    void parsesIgnoringCaseAndSpaces() {
+        assertThat(TimeGranularity.parse("minute")).isEqualTo(TimeGranularity.MINUTE);
+        assertThat(TimeGranularity.parse(" Hour ")).isEqualTo(TimeGranularity.HOUR);
+        assertThat(TimeGranularity.parse("DAY")).isEqualTo(TimeGranularity.DAY);
+    }
+
+    @Test
+    void rejectsUnknownOrMissingValue() {
+        assertThatThrownBy(() -> TimeGranularity.parse("week")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimeGranularity.parse(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void truncatesAndAdvancesByItsUnit() {
+        assertThat(TimeGranularity.MINUTE.truncate(INSTANT)).isEqualTo(LocalDateTime.of(2024, 3, 1, 10, 42));
+        assertThat(TimeGranularity.HOUR.truncate(INSTANT)).isEqualTo(LocalDateTime.of(2024, 3, 1, 10, 0));
+        assertThat(TimeGranularity.DAY.truncate(INSTANT)).isEqualTo(LocalDateTime.of(2024, 3, 1, 0, 0));
+        // 2024 é bissexto
+        assertThat(TimeGranularity.DAY.next(LocalDateTime.of(2024, 2, 28, 0, 0)))
+                .isEqualTo(LocalDateTime.of(2024, 2, 29, 0, 0));
+        assertThat(TimeGranularity.HOUR.next(LocalDateTime.of(2024, 3, 1, 23, 0)))
+                .isEqualTo(LocalDateTime.of(2024, 3, 2, 0, 0));
+    }
+}
@@ -0,0 +1,174 @@
+package com.faq.cache;
+
+import com.faq.dto.CategoryDTO;
+import com.faq.dto.FaqDTO;
+import com.faq.dto.FaqSummaryDTO;
+import com.faq.service.CategoryService;
+import com.faq.service.FaqService;
+import com.faq.service.ViewCountBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uma descarga do ViewCountBuffer só remove as entradas ordenadas ou contadas por visualização
+ * (mais visualizados e total com visualizações); as demais listas sobrevivem, com o viewCount
+ * defasado no máximo por faq.cache.view-count-max-age
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class CatalogCacheInvalidatorTest {
+
+    // "Esqueci minha senha, como posso recuperá-la?", categoria 1 (Perguntas Gerais)
+    private static final Long FAQ_ID = 2L;
+    private static final Long CATEGORY_ID = 1L;
+    private static final Long SIBLING_FAQ_ID = 1L;
+
+    @Autowired
+    private FaqService faqService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${faq.cache.view-count-max-age}")
+    private Duration viewCountMaxAge;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void flushEvictsOnlyViewOrderedEntries() {
+        int before = warmCaches();
+
+        addViews(5);
+
+        // Sobrevivem à descarga, ainda com o contador anterior
+        assertThat(cached(CacheNames.ACTIVE_FAQS, SimpleKey.EMPTY)).isNotNull();
+        assertThat(cached(CacheNames.FAQS_BY_CATEGORY, CATEGORY_ID)).isNotNull();
+        assertThat(cached(CacheNames.RECENT_FAQS, 100)).isNotNull();
+        assertThat(cached(CacheNames.RELATED_FAQS, new SimpleKey(SIBLING_FAQ_ID, 10))).isNotNull();
+        assertThat(cached(CacheNames.ALL_CATEGORIES, SimpleKey.EMPTY)).isNotNull();
+        assertThat(cached(CacheNames.CATEGORIES_WITH_FAQS, SimpleKey.EMPTY)).isNotNull();
+        assertThat(cached(CacheNames.FAQ_COUNTS, "active")).isNotNull();
+        assertThat(viewCount(faqService.findAllActive())).isEqualTo(before);
+
+        // Removidas: a ordem e o total dependem das visualizações
+        assertThat(cached(CacheNames.MOST_VIEWED_FAQS, 100)).isNull();
+        assertThat(cached(CacheNames.FAQ_COUNTS, FaqService.COUNT_WITH_VIEWS_KEY)).isNull();
+        assertThat(viewCount(faqService.findMostViewed(100))).isEqualTo(before + 5);
+    }
+
+    @Test
+    void listsCarryingViewCountExpireAfterTheConfiguredMaxAge() {
+        for (String name : cacheManager.getCacheNames()) {
+            Optional<Duration> expiry = nativeCache(name).policy().expireAfterWrite()
+                    .map(policy -> policy.getExpiresAfter());
+            if (name.equals(CacheNames.FAQ_COUNTS)) {
+                assertThat(expiry).as(name).isEmpty();
+            } else {
+                assertThat(expiry).as(name).contains(viewCountMaxAge);
+            }
+        }
+    }
+
+    @Test
+    void expiredListsReloadTheFlushedViewCount() {
+        int before = warmCaches();
+        addViews(5);
+
+        for (String name : cacheManager.getCacheNames()) {
+            nativeCache(name).policy().expireAfterWrite()
+                    .ifPresent(policy -> policy.setExpiresAfter(Duration.ofNanos(1)));
+        }
+        try {
+            assertThat(viewCount(faqService.findAllActive())).isEqualTo(before + 5);
+            assertThat(viewCount(faqService.findByCategory(CATEGORY_ID))).isEqualTo(before + 5);
+            assertThat(viewCount(faqService.findRecent(100))).isEqualTo(before + 5);
+            assertThat(summaryViewCount(faqService.findRelated(SIBLING_FAQ_ID, 10))).isEqualTo(before + 5);
+            assertThat(summaryViewCount(categoryFaqs(categoryService.findAll()))).isEqualTo(before + 5);
+            assertThat(summaryViewCount(categoryFaqs(categoryService.findCategoriesWithActiveFaqs())))
+                    .isEqualTo(before + 5);
+        } finally {
+            for (String name : cacheManager.getCacheNames()) {
+                nativeCache(name).policy().expireAfterWrite()
+                        .ifPresent(policy -> policy.setExpiresAfter(viewCountMaxAge));
+            }
+        }
+    }
+
+    /**
+     * Carrega todas as listas no cache e devolve o viewCount atual do FAQ
+     */
+    private int warmCaches() {
+        int before = viewCount(faqService.findAllActive());
+        assertThat(viewCount(faqService.findByCategory(CATEGORY_ID))).isEqualTo(before);
+        assertThat(viewCount(faqService.findRecent(100))).isEqualTo(before);
+        assertThat(viewCount(faqService.findMostViewed(100))).isEqualTo(before);
+        assertThat(summaryViewCount(faqService.findRelated(SIBLING_FAQ_ID, 10))).isEqualTo(before);
+        assertThat(summaryViewCount(categoryFaqs(categoryService.findAll()))).isEqualTo(before);
+        assertThat(summaryViewCount(categoryFaqs(categoryService.findCategoriesWithActiveFaqs()))).isEqualTo(before);
+        faqService.countActive();
+        faqService.countWithViews();
+        return before;
+    }
+
+    private void addViews(int views) {
+        for (int i = 0; i < views; i++) {
+            viewCountBuffer.increment(FAQ_ID);
+        }
+        viewCountBuffer.flush();
+    }
+
+    private Cache.ValueWrapper cached(String cacheName, Object key) {
+        return cacheManager.getCache(cacheName).get(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(String name) {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cacheManager.getCache(name).getNativeCache();
+    }
+
+    private static List<FaqSummaryDTO> categoryFaqs(List<CategoryDTO> categories) {
+        return categories.stream()
+                .filter(category -> CATEGORY_ID.equals(category.getId()))
+                .map(CategoryDTO::getFaqs)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static int viewCount(List<FaqDTO> faqs) {
+        return faqs.stream()
+                .filter(faq -> FAQ_ID.equals(faq.getId()))
+                .map(FaqDTO::getViewCount)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static int summaryViewCount(List<FaqSummaryDTO> faqs) {
+        return faqs.stream()
+                .filter(faq -> FAQ_ID.equals(faq.getId()))
+                .map(FaqSummaryDTO::getViewCount)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,110 @@
+package com.faq.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Limite de conexões emprestadas: espera pela permissão, falha após o tempo limite, devolução
+ * no primeiro close e quando o pool recusa a conexão
+ */
+class ConcurrencyLimitedDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(100));
+    }
+
+    @Test
+    void failsLikeAnExhaustedPoolWhenNoPermitArrivesInTime() throws SQLException {
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("2 em uso");
+
+        first.close();
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    void waitingCallerGetsThePermitOfTheClosedConnection() throws Exception {
+        dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofSeconds(5));
+        Connection held = dataSource.getConnection();
+
+        CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (dataSource.getQueueLength() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(dataSource.getQueueLength()).isEqualTo(1);
+        assertThat(waiting).isNotDone();
+
+        held.close();
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void closingTwiceReturnsASinglePermit() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void refusedConnectionGivesThePermitBack() throws SQLException {
+        when(target.getConnection())
+                .thenThrow(new SQLException("pool fechado"))
+                .thenAnswer(invocation -> mock(Connection.class));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool fechado");
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+        assertThat(dataSource.getMaxConcurrent()).isEqualTo(2);
+    }
+
+    @Test
+    void otherCallsAndTheirErrorsReachTheRealConnection() throws SQLException {
+        Connection real = mock(Connection.class);
+        when(target.getConnection()).thenReturn(real);
+        when(real.isValid(1)).thenReturn(true);
+        when(real.getSchema()).thenThrow(new SQLException("sem schema"));
+
+        Connection connection = dataSource.getConnection();
+
+        assertThat(connection.isValid(1)).isTrue();
+        assertThatThrownBy(connection::getSchema).isInstanceOf(SQLException.class).hasMessage("sem schema");
+        connection.close();
+        verify(real).close();
+    }
+}
@@ -0,0 +1,112 @@
+package com.faq.config;
+
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis em processo para os testes do cache L2: guarda os bytes serializados pelo RedisCache
+ * real, conta as chamadas e pode simular o Redis fora do ar
+ */
+class InMemoryRedisCacheWriter implements RedisCacheWriter {
+
+    private final Map<String, byte[]> store = new ConcurrentHashMap<>();
+    private final Map<String, Duration> ttls = new ConcurrentHashMap<>();
+    private final AtomicInteger calls = new AtomicInteger();
+    private volatile boolean down = false;
+
+    /**
+     * Chaves guardadas ("faq:<cache>::<chave>")
+     */
+    Map<String, byte[]> store() {
+        return store;
+    }
+
+    /**
+     * Validade informada na última gravação de cada chave
+     */
+    Map<String, Duration> ttls() {
+        return ttls;
+    }
+
+    /**
+     * Operações recebidas até agora, inclusive as que falharam
+     */
+    int calls() {
+        return calls.get();
+    }
+
+    void setDown(boolean down) {
+        this.down = down;
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return store.get(access(key));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+        return CompletableFuture.completedFuture(get(name, key));
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        String access = access(key);
+        store.put(access, value);
+        ttls.put(access, ttl);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+        put(name, key, value, ttl);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        return store.putIfAbsent(access(key), value);
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        store.remove(access(key));
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        // O RedisCache só limpa com o padrão "<prefixo>*"
+        String prefix = access(pattern);
+        store.keySet().removeIf(key -> key.startsWith(prefix.substring(0, prefix.length() - 1)));
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return this;
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return CacheStatisticsCollector.none().getCacheStatistics(cacheName);
+    }
+
+    private String access(byte[] key) {
+        calls.incrementAndGet();
+        if (down) {
+            throw new RedisConnectionFailureException("Redis em memória marcado como fora do ar");
+        }
+        return new String(key, StandardCharsets.UTF_8);
+    }
+}
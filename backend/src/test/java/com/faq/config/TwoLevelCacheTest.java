@@ -0,0 +1,131 @@
+package com.faq.config;
+
+import com.faq.cache.CacheNames;
+import com.faq.cache.TwoLevelCache;
+import com.faq.cache.TwoLevelCacheManager;
+import com.faq.dto.FaqDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cache em dois níveis montado como no CacheConfig (Caffeine L1 + RedisCache L2 com os
+ * serializadores JSON reais), com o Redis trocado por um InMemoryRedisCacheWriter. Duas
+ * instâncias do gerenciador sobre o mesmo writer fazem o papel de duas réplicas.
+ */
+class TwoLevelCacheTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private InMemoryRedisCacheWriter redis;
+    private Cache replicaA;
+    private Cache replicaB;
+
+    @BeforeEach
+    void setUp() {
+        redis = new InMemoryRedisCacheWriter();
+        replicaA = twoLevelCacheManager().getCache(CacheNames.ACTIVE_FAQS);
+        replicaB = twoLevelCacheManager().getCache(CacheNames.ACTIVE_FAQS);
+        assertThat(replicaA).isInstanceOf(TwoLevelCache.class);
+    }
+
+    @Test
+    void l1HitDoesNotReachRedis() {
+        AtomicInteger loads = new AtomicInteger();
+        replicaA.get(SimpleKey.EMPTY, () -> load(loads));
+        int redisCalls = redis.calls();
+
+        List<FaqDTO> cached = replicaA.get(SimpleKey.EMPTY, () -> load(loads));
+
+        assertThat(cached).hasSize(1);
+        assertThat(loads).hasValue(1);
+        assertThat(redis.calls()).isEqualTo(redisCalls);
+    }
+
+    @Test
+    void l2HitIsDeserializedAndRepopulatesL1() {
+        AtomicInteger loads = new AtomicInteger();
+        List<FaqDTO> loaded = replicaA.get(SimpleKey.EMPTY, () -> load(loads));
+        String key = "faq:" + CacheNames.ACTIVE_FAQS + "::" + SimpleKey.EMPTY;
+        assertThat(redis.store()).containsKey(key);
+        // A lista carrega viewCount: no Redis também vale a validade curta, não a de segurança
+        assertThat(redis.ttls()).containsEntry(key, Duration.ofMinutes(5));
+
+        List<FaqDTO> fromRedis = replicaB.get(SimpleKey.EMPTY, () -> load(loads));
+        assertThat(loads).hasValue(1);
+        assertThat(fromRedis).usingRecursiveFieldByFieldElementComparator().isEqualTo(loaded);
+
+        int redisCalls = redis.calls();
+        assertThat(replicaB.get(SimpleKey.EMPTY)).isNotNull();
+        assertThat(redis.calls()).isEqualTo(redisCalls);
+    }
+
+    @Test
+    void evictAndClearReachRedis() {
+        replicaA.put(SimpleKey.EMPTY, List.of(faq()));
+        replicaA.put("other", List.of(faq()));
+        assertThat(redis.store()).hasSize(2);
+
+        replicaA.evict(SimpleKey.EMPTY);
+        assertThat(replicaA.get(SimpleKey.EMPTY)).isNull();
+        assertThat(replicaB.get(SimpleKey.EMPTY)).isNull();
+        assertThat(redis.store()).hasSize(1);
+
+        replicaA.clear();
+        assertThat(redis.store()).isEmpty();
+        assertThat(replicaB.get("other")).isNull();
+    }
+
+    @Test
+    void redisDownFallsBackToL1AndDatabase() {
+        redis.setDown(true);
+        AtomicInteger loads = new AtomicInteger();
+
+        List<FaqDTO> loaded = replicaA.get(SimpleKey.EMPTY, () -> load(loads));
+        assertThat(loaded).hasSize(1);
+        assertThat(loads).hasValue(1);
+
+        // Depois da primeira falha o L2 fica desligado: nem leituras nem invalidações vão ao Redis
+        int redisCalls = redis.calls();
+        assertThat(replicaA.get(SimpleKey.EMPTY, () -> load(loads))).isSameAs(loaded);
+        replicaA.put("other", List.of(faq()));
+        replicaA.evict("other");
+        replicaA.clear();
+        assertThat(redis.calls()).isEqualTo(redisCalls);
+        assertThat(replicaA.get(SimpleKey.EMPTY)).isNull();
+    }
+
+    private TwoLevelCacheManager twoLevelCacheManager() {
+        CacheConfig config = new CacheConfig();
+        ReflectionTestUtils.setField(config, "maximumWeight", 1000L);
+        ReflectionTestUtils.setField(config, "redisTtl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(config, "viewCountMaxAge", Duration.ofMinutes(5));
+        return new TwoLevelCacheManager(config.localCacheManager(), config.redisCacheManager(redis, objectMapper));
+    }
+
+    private static List<FaqDTO> load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return List.of(faq());
+    }
+
+    private static FaqDTO faq() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 10, 30);
+        return new FaqDTO(2L, "Esqueci minha senha, como posso recuperá-la?",
+                "Clique em \"Esqueci minha senha\" na página de login.", 5, true, 2,
+                createdAt, createdAt, 1L, "Perguntas Gerais");
+    }
+}
@@ -0,0 +1,83 @@
+package com.faq.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Orçamento de comandos SQL das listas públicas, lidas do banco (faq.read.mode=cache com os
+ * caches vazios). O orçamento não depende do número de FAQs ou categorias: voltar a
+ * inicializar f.category ou category.faqs por linha (N+1) estoura o limite e quebra o build.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "faq.read.mode=cache"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "test"})
+class ListEndpointStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest(name = "{0} em até {1} comando(s)")
+    @CsvSource({
+            // FAQs ativos com o nome da categoria, em uma projeção
+            "/faqs, 1",
+            "/faqs/category/1, 1",
+            // Categorias + resumos dos FAQs de todas elas
+            "/categories/with-faqs, 2",
+            "/categories, 2"
+    })
+    void listEndpointStaysWithinStatementBudget(String path, long budget) throws Exception {
+        mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(greaterThan(1)));
+
+        assertThat(statistics.getPrepareStatementCount())
+                .as("comandos SQL de GET %s", path)
+                .isLessThanOrEqualTo(budget);
+        assertThat(statistics.getEntityFetchCount())
+                .as("carregamentos lazy de GET %s", path)
+                .isZero();
+        assertThat(statistics.getCollectionFetchCount())
+                .as("coleções inicializadas em GET %s", path)
+                .isZero();
+    }
+}
@@ -0,0 +1,100 @@
+package com.faq.controller;
+
+import com.faq.dto.FaqDTO;
+import com.faq.search.FaqSearchIndex;
+import com.faq.service.FaqService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A busca sem paginação, ordenada por relevância, devolve todos os FAQs que casam com o termo,
+ * em qualquer mecanismo de busca, e o total confere com as contagens de facets=true
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "test"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UnpaginatedSearchTest {
+
+    // Mais que o antigo limite fixo de 100 resultados do ranking
+    private static final int MATCHES = 120;
+    private static final String TERM = "zanzibar";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FaqService faqService;
+
+    @Autowired
+    private FaqSearchIndex searchIndex;
+
+    private final List<Long> created = new ArrayList<>();
+
+    @BeforeAll
+    void createMatchingFaqs() {
+        for (int i = 0; i < MATCHES; i++) {
+            FaqDTO faq = new FaqDTO();
+            faq.setQuestion("Como funciona o plano " + TERM + " número " + i + "?");
+            faq.setAnswer("O plano " + TERM + " inclui o benefício " + i + ".");
+            faq.setCategoryId(i % 2 == 0 ? 1L : 3L);
+            created.add(faqService.create(faq).getId());
+        }
+    }
+
+    @AfterAll
+    void deleteMatchingFaqs() {
+        created.forEach(faqService::delete);
+    }
+
+    @AfterEach
+    void restoreEngine() {
+        useEngine("index");
+    }
+
+    @ParameterizedTest(name = "faq.search.engine={0}")
+    @ValueSource(strings = {"index", "database"})
+    void rankedSearchReturnsEveryMatchConsistentWithFacets(String engine) throws Exception {
+        useEngine(engine);
+
+        mockMvc.perform(get("/faqs/search").param("q", TERM).param("facets", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.faqs.length()").value(MATCHES))
+                .andExpect(jsonPath("$.facets[0].count").value(MATCHES / 2))
+                .andExpect(jsonPath("$.facets[1].count").value(MATCHES / 2));
+
+        mockMvc.perform(get("/faqs/search").param("q", TERM).param("categoryId", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(MATCHES / 2));
+    }
+
+    @Test
+    void explicitLimitStillBoundsTheRanking() {
+        assertThat(searchIndex.searchRanked(TERM, null, false, 10)).hasSize(10);
+    }
+
+    private void useEngine(String engine) {
+        Object target = AopTestUtils.getUltimateTargetObject(faqService);
+        ReflectionTestUtils.setField(target, "searchEngine", engine);
+    }
+}
@@ -0,0 +1,131 @@
+package com.faq.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Token do cursor de paginação: ida e volta por ordem, tokens inválidos ou de outra ordenação,
+ * comparação de posições e FAQs sem createdAt
+ */
+class FaqCursorTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 3, 15, 12, 0, 30, 123_000_000);
+
+    @Test
+    void recentCursorRoundTrips() {
+        FaqCursor cursor = FaqCursor.after(FaqCursor.Order.RECENT, faq(42L, NOON, 7));
+
+        FaqCursor decoded = FaqCursor.decode(cursor.encode(), FaqCursor.Order.RECENT);
+
+        assertThat(decoded.getOrder()).isEqualTo(FaqCursor.Order.RECENT);
+        assertThat(decoded.getCreatedAt()).isEqualTo(NOON);
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(decoded.getViewCount()).isNull();
+    }
+
+    @Test
+    void mostViewedCursorRoundTrips() {
+        FaqCursor cursor = FaqCursor.after(FaqCursor.Order.MOST_VIEWED, faq(42L, NOON, 7));
+
+        FaqCursor decoded = FaqCursor.decode(cursor.encode(), FaqCursor.Order.MOST_VIEWED);
+
+        assertThat(decoded.getViewCount()).isEqualTo(7);
+        assertThat(decoded.getCreatedAt()).isEqualTo(NOON);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void blankTokenStartsAtTheFirstPage() {
+        FaqCursor first = FaqCursor.decode(" ", FaqCursor.Order.MOST_VIEWED);
+
+        assertThat(first.precedes(faq(Long.MAX_VALUE - 1, LocalDateTime.of(9999, 1, 1, 0, 0), Integer.MAX_VALUE - 1)))
+                .isTrue();
+        assertThat(FaqCursor.decode(null, FaqCursor.Order.RECENT).getId()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void rejectsMalformedTokensAndTokensOfAnotherOrder() {
+        String recent = FaqCursor.after(FaqCursor.Order.RECENT, faq(1L, NOON, 0)).encode();
+        String garbage = Base64.getUrlEncoder().encodeToString("RECENT|ontem|1".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> FaqCursor.decode(recent, FaqCursor.Order.MOST_VIEWED))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FaqCursor.decode(garbage, FaqCursor.Order.RECENT))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FaqCursor.decode("não é base64!", FaqCursor.Order.RECENT))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void recentOrderComparesCreatedAtThenId() {
+        FaqCursor cursor = FaqCursor.after(FaqCursor.Order.RECENT, faq(10L, NOON, 0));
+
+        assertThat(cursor.precedes(faq(99L, NOON.minusSeconds(1), 0))).isTrue();
+        assertThat(cursor.precedes(faq(9L, NOON, 0))).isTrue();
+        assertThat(cursor.precedes(faq(10L, NOON, 0))).isFalse();
+        assertThat(cursor.precedes(faq(11L, NOON, 0))).isFalse();
+        assertThat(cursor.precedes(faq(1L, NOON.plusSeconds(1), 0))).isFalse();
+    }
+
+    @Test
+    void mostViewedOrderComparesViewsFirst() {
+        FaqCursor cursor = FaqCursor.after(FaqCursor.Order.MOST_VIEWED, faq(10L, NOON, 5));
+
+        assertThat(cursor.precedes(faq(99L, NOON.plusDays(1), 4))).isTrue();
+        assertThat(cursor.precedes(faq(1L, NOON.minusDays(1), 6))).isFalse();
+        assertThat(cursor.precedes(faq(9L, NOON, 5))).isTrue();
+        // Sem visualizações registradas conta como zero
+        assertThat(cursor.precedes(faq(99L, NOON, null))).isTrue();
+    }
+
+    @Test
+    void faqWithoutCreatedAtComesAfterEveryDatedFaq() {
+        FaqDTO undated = faq(5L, null, 0);
+        FaqCursor dated = FaqCursor.after(FaqCursor.Order.RECENT, faq(10L, NOON, 0));
+
+        assertThat(dated.precedes(undated)).isTrue();
+
+        FaqCursor afterUndated = FaqCursor.decode(FaqCursor.after(FaqCursor.Order.RECENT, undated).encode(),
+                FaqCursor.Order.RECENT);
+        assertThat(afterUndated.precedes(faq(4L, null, 0))).isTrue();
+        assertThat(afterUndated.precedes(faq(6L, null, 0))).isFalse();
+        assertThat(afterUndated.precedes(faq(1L, NOON, 0))).isFalse();
+    }
+
+    @Test
+    void toPageUsesTheExtraItemOnlyAsNextPageMarker() {
+        List<FaqDTO> fetched = List.of(faq(3L, NOON, 0), faq(2L, NOON, 0), faq(1L, NOON, 0));
+
+        FaqPageResponse page = FaqCursor.toPage(fetched, 2, FaqCursor.Order.RECENT);
+
+        assertThat(page.getFaqs()).extracting(FaqDTO::getId).containsExactly(3L, 2L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(FaqCursor.decode(page.getNextCursor(), FaqCursor.Order.RECENT).getId()).isEqualTo(2L);
+
+        FaqPageResponse last = FaqCursor.toPage(fetched, 3, FaqCursor.Order.RECENT);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        assertThat(FaqCursor.pageSize(null)).isEqualTo(FaqCursor.DEFAULT_PAGE_SIZE);
+        assertThat(FaqCursor.pageSize(0)).isEqualTo(1);
+        assertThat(FaqCursor.pageSize(1_000)).isEqualTo(FaqCursor.MAX_PAGE_SIZE);
+    }
+
+    private static FaqDTO faq(Long id, LocalDateTime createdAt, Integer viewCount) {
+        FaqDTO faq = new FaqDTO();
+        faq.setId(id);
+        faq.setCreatedAt(createdAt);
+        faq.setViewCount(viewCount);
+        return faq;
+    }
+}
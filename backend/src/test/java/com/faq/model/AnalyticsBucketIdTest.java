@@ -0,0 +1,41 @@
+package com.faq.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A JPA exige que a chave composta seja serializável; a versão da classe é fixa, e não
+ * calculada pelo compilador a cada alteração
+ */
+class AnalyticsBucketIdTest {
+
+    @Test
+    void declaresStableSerialVersionUid() {
+        assertThat(ObjectStreamClass.lookup(AnalyticsBucketId.class).getSerialVersionUID()).isEqualTo(1L);
+    }
+
+    @Test
+    void survivesSerializationRoundTrip() throws Exception {
+        AnalyticsBucketId id = new AnalyticsBucketId(2L, AnalyticsMetric.values()[0],
+                LocalDateTime.of(2024, 3, 1, 10, 0));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(id);
+        }
+        Object copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = in.readObject();
+        }
+
+        assertThat(copy).isEqualTo(id).hasSameHashCodeAs(id);
+    }
+}
@@ -0,0 +1,99 @@
+package com.faq.repository;
+
+import com.faq.dto.FaqDTO;
+import com.faq.dto.FaqSummaryDTO;
+import com.faq.model.Category;
+import com.faq.model.Faq;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Os widgets da página inicial (mais visualizados, recentes e relacionados) custam O(limit):
+ * uma única consulta, que devolve só limit linhas e nenhuma entidade, qualquer que seja o
+ * tamanho do catálogo
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({"dev", "test"})
+class FaqRepositoryBoundedQueriesTest {
+
+    private static final int CATALOG_SIZE = 200;
+    private static final int LIMIT = 5;
+
+    @Autowired
+    private FaqRepository faqRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long sourceFaqId;
+
+    @BeforeEach
+    void setUp() {
+        Category category = entityManager.persist(new Category("Catálogo grande", "FAQs gerados pelo teste"));
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            Faq faq = new Faq("Pergunta gerada número " + i + "?", "Resposta gerada para a pergunta " + i + ".", category);
+            faq.setViewCount(i);
+            Faq persisted = entityManager.persist(faq);
+            if (sourceFaqId == null) {
+                sourceFaqId = persisted.getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void mostViewedFetchesOnlyLimitRows() {
+        List<FaqDTO> faqs = faqRepository.findMostViewedActiveFaqs(Limit.of(LIMIT));
+
+        assertThat(faqs).hasSize(LIMIT);
+        assertThat(faqs.get(0).getViewCount()).isEqualTo(CATALOG_SIZE - 1);
+        assertBoundedBy(LIMIT);
+    }
+
+    @Test
+    void recentFetchesOnlyLimitRows() {
+        List<FaqDTO> faqs = faqRepository.findRecentActiveFaqs(Limit.of(LIMIT));
+
+        assertThat(faqs).hasSize(LIMIT);
+        assertBoundedBy(LIMIT);
+    }
+
+    @Test
+    void relatedResolvesCategoryAndFetchesOnlyLimitRowsInOneStatement() {
+        List<FaqSummaryDTO> faqs = faqRepository.findRelatedFaqs(sourceFaqId, Limit.of(LIMIT));
+
+        assertThat(faqs).hasSize(LIMIT);
+        assertThat(faqs).extracting(FaqSummaryDTO::getId).doesNotContain(sourceFaqId);
+        assertBoundedBy(LIMIT);
+    }
+
+    private void assertBoundedBy(int limit) {
+        assertThat(statistics.getPrepareStatementCount()).as("statements").isEqualTo(1);
+        long rowsFetched = Arrays.stream(statistics.getQueries())
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                .sum();
+        assertThat(rowsFetched).as("rows fetched").isEqualTo(limit);
+        assertThat(statistics.getEntityLoadCount()).as("entities loaded").isZero();
+    }
+}
@@ -0,0 +1,89 @@
+package com.faq.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Distância de Levenshtein e buscas da BK-tree: tolerância, ordem, limite e equivalência com
+ * uma varredura completa do vocabulário
+ */
+class BkTreeTest {
+
+    @Test
+    void levenshteinCountsInsertionsDeletionsAndSubstitutions() {
+        assertThat(BkTree.distance("senha", "senha")).isZero();
+        assertThat(BkTree.distance("senha", "sehna")).isEqualTo(2);
+        assertThat(BkTree.distance("senha", "senhas")).isEqualTo(1);
+        assertThat(BkTree.distance("cartao", "carta")).isEqualTo(1);
+        assertThat(BkTree.distance("boleto", "")).isEqualTo(6);
+        assertThat(BkTree.distance("kitten", "sitting")).isEqualTo(BkTree.distance("sitting", "kitten")).isEqualTo(3);
+    }
+
+    @Test
+    void searchReturnsClosestTermsFirstUpToTheLimit() {
+        BkTree tree = new BkTree();
+        for (String term : List.of("senha", "senhas", "sena", "cena", "cenas", "boleto", "senha")) {
+            tree.add(term);
+        }
+        tree.add("");
+        tree.add(null);
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(terms(tree.search("senha", 1, 10))).containsExactly("senha", "sena", "senhas");
+        assertThat(terms(tree.search("senha", 2, 10))).containsExactly("senha", "sena", "senhas", "cena");
+        assertThat(terms(tree.search("senha", 2, 2))).containsExactly("senha", "sena");
+        assertThat(tree.search("xyz", 1, 10)).isEmpty();
+        assertThat(new BkTree().search("senha", 2, 10)).isEmpty();
+    }
+
+    @Test
+    void matchesLinearScanOnRandomVocabulary() {
+        Random random = new Random(18);
+        Set<String> vocabulary = new LinkedHashSet<>();
+        while (vocabulary.size() < 3000) {
+            vocabulary.add(randomWord(random));
+        }
+        BkTree tree = new BkTree();
+        vocabulary.forEach(tree::add);
+
+        for (int q = 0; q < 200; q++) {
+            String query = randomWord(random);
+            for (int maxDistance = 1; maxDistance <= 2; maxDistance++) {
+                List<String> expected = new ArrayList<>();
+                for (String term : vocabulary) {
+                    if (BkTree.distance(query, term) <= maxDistance) {
+                        expected.add(term);
+                    }
+                }
+                String probe = query;
+                expected.sort(Comparator.comparingInt((String term) -> BkTree.distance(probe, term))
+                        .thenComparing(Comparator.naturalOrder()));
+
+                assertThat(terms(tree.search(query, maxDistance, Integer.MAX_VALUE)))
+                        .as("consulta %s, distância %d", query, maxDistance)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    private static String randomWord(Random random) {
+        int length = 3 + random.nextInt(5);
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append("aeiostnrc".charAt(random.nextInt(9)));
+        }
+        return word.toString();
+    }
+
+    private static List<String> terms(List<BkTree.Match> matches) {
+        return matches.stream().map(BkTree.Match::getTerm).toList();
+    }
+}
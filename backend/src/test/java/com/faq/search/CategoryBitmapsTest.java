@@ -0,0 +1,94 @@
+package com.faq.search;
+
+import com.faq.dto.FaqDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bitmaps por categoria: contagens da interseção com os resultados, mudanças de categoria e de
+ * estado em novas instâncias sem alterar as anteriores e equivalência entre build e with
+ */
+class CategoryBitmapsTest {
+
+    @Test
+    void countsOnlyActiveResultsPerCategory() {
+        CategoryBitmaps bitmaps = CategoryBitmaps.build(List.of(
+                faq(1L, 10L, true), faq(2L, 10L, true), faq(3L, 20L, true), faq(4L, 20L, false), faq(5L, 30L, true)));
+
+        BitSet results = bits(1, 3, 4);
+        bitmaps.retainActive(results);
+
+        assertThat(results).isEqualTo(bits(1, 3));
+        assertThat(bitmaps.countByCategory(results)).isEqualTo(Map.of(10L, 1, 20L, 1));
+        assertThat(bitmaps.firstIn(20L, bits(3, 4))).isEqualTo(3);
+        assertThat(bitmaps.firstIn(30L, bits(1))).isEqualTo(-1);
+        assertThat(bitmaps.firstIn(99L, bits(1))).isEqualTo(-1);
+    }
+
+    @Test
+    void changesReturnNewInstancesAndLeaveTheOldOnesIntact() {
+        CategoryBitmaps before = CategoryBitmaps.build(List.of(faq(1L, 10L, true), faq(2L, 10L, true)));
+
+        CategoryBitmaps moved = before.with(2L, 20L, true);
+        CategoryBitmaps deactivated = moved.with(1L, 10L, false);
+        CategoryBitmaps removed = deactivated.without(2L);
+
+        assertThat(before.countByCategory(bits(1, 2))).isEqualTo(Map.of(10L, 2));
+        assertThat(moved.countByCategory(bits(1, 2))).isEqualTo(Map.of(10L, 1, 20L, 1));
+        assertThat(deactivated.retainActive(bits(1, 2))).isEqualTo(bits(2));
+        assertThat(removed.retainActive(bits(1, 2))).isEqualTo(new BitSet());
+        assertThat(removed.countByCategory(bits(1, 2))).isEqualTo(Map.of(10L, 1));
+    }
+
+    @Test
+    void incrementalChangesMatchAFullBuild() {
+        Random random = new Random(20);
+        Map<Long, FaqDTO> faqs = new HashMap<>();
+        CategoryBitmaps incremental = CategoryBitmaps.EMPTY;
+        for (int step = 0; step < 2000; step++) {
+            long id = 1 + random.nextInt(300);
+            if (random.nextInt(10) == 0) {
+                faqs.remove(id);
+                incremental = incremental.without(id);
+            } else {
+                FaqDTO faq = faq(id, 1L + random.nextInt(6), random.nextInt(4) != 0);
+                faqs.put(id, faq);
+                incremental = incremental.with(id, faq.getCategoryId(), faq.getIsActive());
+            }
+        }
+        CategoryBitmaps built = CategoryBitmaps.build(new ArrayList<>(faqs.values()));
+
+        BitSet all = new BitSet();
+        all.set(0, 301);
+        BitSet sample = new BitSet();
+        random.ints(150, 1, 301).forEach(sample::set);
+        for (BitSet results : List.of(all, sample)) {
+            assertThat(incremental.countByCategory(incremental.retainActive((BitSet) results.clone())))
+                    .isEqualTo(built.countByCategory(built.retainActive((BitSet) results.clone())));
+        }
+    }
+
+    private static BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+
+    private static FaqDTO faq(Long id, Long categoryId, boolean active) {
+        FaqDTO faq = new FaqDTO();
+        faq.setId(id);
+        faq.setCategoryId(categoryId);
+        faq.setIsActive(active);
+        return faq;
+    }
+}
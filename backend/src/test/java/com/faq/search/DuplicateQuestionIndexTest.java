@@ -0,0 +1,138 @@
+package com.faq.search;
+
+import com.faq.dto.DuplicateCandidateDTO;
+import com.faq.dto.DuplicatePairDTO;
+import com.faq.dto.FaqDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MinHash/LSH das perguntas: duplicatas exatas, candidatos parecidos acima do limiar, pares do
+ * catálogo comparados com a similaridade de Jaccard exata e manutenção do índice
+ */
+class DuplicateQuestionIndexTest {
+
+    private static final String[] WORDS = {
+            "como", "alterar", "senha", "cartao", "boleto", "pagamento", "conta", "cadastro", "email",
+            "telefone", "endereco", "fatura", "limite", "pedido", "entrega", "devolucao", "cancelar", "plano"
+    };
+
+    private DuplicateQuestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DuplicateQuestionIndex();
+        ReflectionTestUtils.setField(index, "threshold", 0.6);
+    }
+
+    @Test
+    void exactDuplicateIgnoresCaseAndTheFaqItself() {
+        index.put(faq(1L, "Como redefinir minha senha?", true));
+
+        assertThat(index.hasExactDuplicate("COMO REDEFINIR MINHA SENHA?", null)).isTrue();
+        assertThat(index.hasExactDuplicate("Como redefinir minha senha?", 1L)).isFalse();
+        assertThat(index.hasExactDuplicate("Como redefinir minha senha agora?", null)).isFalse();
+    }
+
+    @Test
+    void findsSimilarQuestionsAboveTheThresholdMostSimilarFirst() {
+        index.put(faq(1L, "Como redefinir minha senha de acesso?", true));
+        index.put(faq(2L, "Como redefinir a minha senha?", true));
+        index.put(faq(3L, "Quais formas de pagamento são aceitas?", true));
+
+        List<DuplicateCandidateDTO> similar = index.findSimilar("Como redefinir minha senha?", null);
+
+        assertThat(similar).extracting(DuplicateCandidateDTO::getFaqId).containsExactly(2L, 1L);
+        assertThat(similar.get(0).getSimilarity()).isGreaterThan(similar.get(1).getSimilarity());
+        assertThat(similar).allSatisfy(candidate -> assertThat(candidate.getSimilarity()).isGreaterThanOrEqualTo(0.6));
+        assertThat(index.findSimilar("Como redefinir minha senha?", 2L))
+                .extracting(DuplicateCandidateDTO::getFaqId).containsExactly(1L);
+    }
+
+    @Test
+    void duplicatePairsMatchTheExactJaccardOfNearDuplicates() {
+        Random random = new Random(16);
+        List<String> questions = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            StringBuilder question = new StringBuilder();
+            for (int w = 0; w < 7; w++) {
+                question.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            questions.add(question.toString().trim());
+            // Quase duplicata: a mesma pergunta com uma palavra trocada no fim
+            questions.add(question.toString().trim().replaceAll("\\S+$", WORDS[random.nextInt(WORDS.length)]));
+        }
+        for (int i = 0; i < questions.size(); i++) {
+            index.put(faq((long) i, questions.get(i), true));
+        }
+
+        // Com 32 faixas de 4 valores, um par com Jaccard >= 0,8 escapa com probabilidade ~1e-7
+        double min = 0.8;
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < questions.size(); i++) {
+            for (int j = i + 1; j < questions.size(); j++) {
+                if (jaccard(shingles(questions.get(i)), shingles(questions.get(j))) >= min) {
+                    expected.add(i + "-" + j);
+                }
+            }
+        }
+        assertThat(expected).isNotEmpty();
+
+        List<DuplicatePairDTO> pairs = index.findDuplicatePairs(min, Integer.MAX_VALUE);
+
+        assertThat(pairs).extracting(pair -> pair.getFaqId() + "-" + pair.getOtherFaqId())
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(pairs).isSortedAccordingTo((a, b) -> Double.compare(b.getSimilarity(), a.getSimilarity()));
+        assertThat(index.findDuplicatePairs(min, 3)).hasSize(3);
+    }
+
+    @Test
+    void inactiveEditedAndRemovedFaqsLeaveTheIndex() {
+        index.put(faq(1L, "Como cancelar meu plano?", true));
+        index.put(faq(2L, "Como cancelar o meu plano?", true));
+        assertThat(index.findDuplicatePairs(null, 10)).hasSize(1);
+
+        index.put(faq(2L, "Como cancelar o meu plano?", false));
+        assertThat(index.findDuplicatePairs(null, 10)).isEmpty();
+
+        index.put(faq(2L, "Qual o prazo de entrega?", true));
+        assertThat(index.findSimilar("Como cancelar o meu plano?", null))
+                .extracting(DuplicateCandidateDTO::getFaqId).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.hasExactDuplicate("Como cancelar meu plano?", null)).isFalse();
+    }
+
+    private static Set<String> shingles(String question) {
+        String normalized = String.join(" ", TextNormalizer.tokenize(question));
+        Set<String> shingles = new HashSet<>();
+        for (int i = 0; i + 3 <= normalized.length(); i++) {
+            shingles.add(normalized.substring(i, i + 3));
+        }
+        return shingles;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        Set<String> intersection = new HashSet<>(a);
+        intersection.retainAll(b);
+        return (double) intersection.size() / (a.size() + b.size() - intersection.size());
+    }
+
+    private static FaqDTO faq(Long id, String question, boolean active) {
+        FaqDTO faq = new FaqDTO();
+        faq.setId(id);
+        faq.setQuestion(question);
+        faq.setIsActive(active);
+        return faq;
+    }
+}
@@ -0,0 +1,84 @@
+package com.faq.search;
+
+import com.faq.dto.FaqCursor;
+import com.faq.dto.FaqDTO;
+import com.faq.dto.FaqPageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Páginas da busca no índice: percorridas pelo cursor, entregam exatamente os resultados da
+ * busca completa, na mesma ordem, inclusive com datas repetidas, FAQs sem data e inativos
+ */
+class FaqSearchIndexPageTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 8, 0);
+
+    private FaqSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FaqSearchIndex();
+        ReflectionTestUtils.setField(index, "ranker", new SearchRanker());
+        ReflectionTestUtils.setField(index, "fuzzyMaxEdits", 2);
+        ReflectionTestUtils.setField(index, "fuzzyMaxExpansions", 50);
+        Random random = new Random(8);
+        for (long id = 1; id <= 300; id++) {
+            FaqDTO faq = new FaqDTO();
+            faq.setId(id);
+            faq.setQuestion(id % 3 == 0 ? "Como alterar a senha do cartão " + id + "?" : "Como emitir o boleto " + id + "?");
+            faq.setAnswer("Acesse a área do cliente.");
+            faq.setCategoryId(id % 2 == 0 ? 1L : 2L);
+            faq.setIsActive(id % 7 != 0);
+            // Poucas datas distintas, para que o desempate por id seja exercitado
+            faq.setCreatedAt(id % 50 == 0 ? null : BASE.plusHours(random.nextInt(20)));
+            index.put(faq);
+        }
+    }
+
+    @Test
+    void walkingThePagesReturnsTheFullSearchInOrder() {
+        assertPagesMatchFullSearch("senha", null, false, 7);
+        assertPagesMatchFullSearch("como", null, false, 20);
+        assertPagesMatchFullSearch("boleto", 2L, false, 9);
+        assertPagesMatchFullSearch("sehna", 1L, true, 4);
+    }
+
+    @Test
+    void pageHoldsOnlyTheRequestedNumberOfFaqs() {
+        List<FaqDTO> page = index.searchPage("como", null, false, FaqCursor.first(FaqCursor.Order.RECENT), 5);
+
+        assertThat(page).extracting(FaqDTO::getId)
+                .containsExactlyElementsOf(ids(index.search("como", null)).subList(0, 5));
+    }
+
+    private void assertPagesMatchFullSearch(String term, Long categoryId, boolean fuzzy, int size) {
+        List<Long> expected = ids(fuzzy ? index.searchFuzzy(term, categoryId) : index.search(term, categoryId));
+        assertThat(expected).isNotEmpty();
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            FaqCursor position = FaqCursor.decode(cursor, FaqCursor.Order.RECENT);
+            FaqPageResponse page = FaqCursor.toPage(index.searchPage(term, categoryId, fuzzy, position, size + 1),
+                    size, FaqCursor.Order.RECENT);
+            assertThat(page.getFaqs().size()).isLessThanOrEqualTo(size);
+            walked.addAll(ids(page.getFaqs()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(walked).as("busca %s", term).isEqualTo(expected);
+    }
+
+    private static List<Long> ids(List<FaqDTO> faqs) {
+        return faqs.stream().map(FaqDTO::getId).toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.faq.search;
+
+import com.faq.dto.SuggestionDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Consultas da trie compactada: prefixos que terminam no meio de uma aresta, só inícios de
+ * palavra, ordem de relevância e equivalência com uma varredura linear dos textos
+ */
+class SuggestionTrieTest {
+
+    private static final String[] WORDS = {
+            "senha", "sena", "senado", "cartao", "carta", "cadastro", "conta", "contato", "boleto",
+            "bolsa", "fatura", "faturamento", "login", "logout", "suporte", "suportar", "pagamento", "pix"
+    };
+
+    @Test
+    void prefixEndingInsideAnEdgeMatchesOnlyWordStarts() {
+        SuggestionTrie trie = SuggestionTrie.build(List.of(
+                suggestion(1, "Como redefinir minha senha?"),
+                suggestion(2, "Quais cartões são aceitos?")), 5);
+
+        assertThat(ids(trie.lookup("sen", 5))).containsExactly(1L);
+        assertThat(ids(trie.lookup("Cartõ", 5))).containsExactly(2L);
+        assertThat(ids(trie.lookup("senhx", 5))).isEmpty();
+        // "nha" está dentro de "senha", não no início de uma palavra
+        assertThat(ids(trie.lookup("nha", 5))).isEmpty();
+    }
+
+    @Test
+    void returnsMostRelevantFirstWithoutDuplicates() {
+        SuggestionTrie trie = SuggestionTrie.build(List.of(
+                suggestion(1, "Conta conjunta: como abrir uma conta?"),
+                suggestion(2, "Como encerrar a conta?"),
+                suggestion(3, "Contato com o suporte")), 5);
+
+        assertThat(ids(trie.lookup("cont", 5))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(trie.lookup("cont", 2))).containsExactly(1L, 2L);
+        assertThat(ids(trie.lookup("contat", 5))).containsExactly(3L);
+    }
+
+    @Test
+    void prefixLongerThanTheIndexedKeysIsFilteredByTheFullText() {
+        String question = "Instruções detalhadas para configuração de autenticação em dois fatores";
+        SuggestionTrie trie = SuggestionTrie.build(List.of(suggestion(1, question)), 5);
+        String longPrefix = SuggestionTrie.normalize(question);
+        assertThat(longPrefix.length()).isGreaterThan(SuggestionTrie.MAX_KEY_LENGTH);
+
+        assertThat(ids(trie.lookup(longPrefix, 5))).containsExactly(1L);
+        assertThat(ids(trie.lookup(longPrefix.substring(0, longPrefix.length() - 3) + "xyz", 5))).isEmpty();
+    }
+
+    @Test
+    void matchesLinearScanOnGeneratedCatalog() {
+        Random random = new Random(17);
+        List<SuggestionDTO> ranked = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int w = 0; w < 4; w++) {
+                text.append(WORDS[random.nextInt(WORDS.length)]).append(w == 3 ? "?" : " ");
+            }
+            ranked.add(suggestion(i, text.toString()));
+        }
+        int limit = 8;
+        SuggestionTrie trie = SuggestionTrie.build(ranked, limit);
+
+        for (String word : WORDS) {
+            for (int length = 1; length <= word.length(); length++) {
+                String prefix = word.substring(0, length);
+                assertThat(ids(trie.lookup(prefix, limit)))
+                        .as("prefixo %s", prefix)
+                        .isEqualTo(scan(ranked, prefix, limit));
+            }
+        }
+    }
+
+    private static List<Long> scan(List<SuggestionDTO> ranked, String prefix, int limit) {
+        List<Long> matches = new ArrayList<>();
+        for (SuggestionDTO suggestion : ranked) {
+            if (matches.size() == limit) {
+                break;
+            }
+            if (TextNormalizer.tokenize(suggestion.getText()).stream().anyMatch(token -> token.startsWith(prefix))) {
+                matches.add(suggestion.getId());
+            }
+        }
+        return matches;
+    }
+
+    private static SuggestionDTO suggestion(long id, String text) {
+        return new SuggestionDTO(SuggestionDTO.Type.QUESTION, id, text, 1L, "Perguntas Gerais");
+    }
+
+    private static List<Long> ids(List<SuggestionDTO> suggestions) {
+        return suggestions.stream().map(SuggestionDTO::getId).toList();
+    }
+}
@@ -0,0 +1,137 @@
+package com.faq.service;
+
+import com.faq.dto.FaqDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exportação em streaming: NDJSON legível de volta como FaqDTO, CSV com escape RFC 4180, filtro
+ * de inativos por ID e o array JSON na ordem de GET /faqs
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class FaqExportServiceTest {
+
+    private static final String MARKER = "Exportação de teste";
+
+    @Autowired
+    private FaqExportService exportService;
+
+    @Autowired
+    private FaqService faqService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long inactiveId;
+    private Long trickyId;
+
+    @BeforeEach
+    void setUp() {
+        FaqDTO inactive = new FaqDTO();
+        inactive.setQuestion(MARKER + ": FAQ desativado?");
+        inactive.setAnswer("Não aparece na exportação padrão.");
+        inactive.setCategoryId(1L);
+        inactiveId = faqService.create(inactive).getId();
+        faqService.updateActiveStatus(inactiveId, false);
+
+        FaqDTO tricky = new FaqDTO();
+        tricky.setQuestion(MARKER + ": vírgulas, \"aspas\" e quebras?");
+        tricky.setAnswer("Primeira linha, com vírgula\nsegunda linha com \"aspas\".");
+        tricky.setCategoryId(2L);
+        trickyId = faqService.create(tricky).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        faqService.delete(inactiveId);
+        faqService.delete(trickyId);
+    }
+
+    @Test
+    void ndjsonHasOneFaqPerLineOrderedById() throws IOException {
+        List<FaqDTO> active = readNdjson(export(FaqExportService.Format.NDJSON, false));
+        List<FaqDTO> all = readNdjson(export(FaqExportService.Format.NDJSON, true));
+
+        assertThat(active).extracting(FaqDTO::getId)
+                .isSorted()
+                .contains(trickyId)
+                .doesNotContain(inactiveId)
+                .hasSize(count("SELECT COUNT(*) FROM faqs WHERE is_active = TRUE"));
+        assertThat(all).extracting(FaqDTO::getId)
+                .contains(inactiveId)
+                .hasSize(count("SELECT COUNT(*) FROM faqs"));
+        FaqDTO exported = all.stream().filter(faq -> trickyId.equals(faq.getId())).findFirst().orElseThrow();
+        assertThat(exported.getAnswer()).isEqualTo("Primeira linha, com vírgula\nsegunda linha com \"aspas\".");
+        assertThat(exported.getCategoryId()).isEqualTo(2L);
+        assertThat(exported.getCategoryName()).isNotBlank();
+    }
+
+    @Test
+    void csvQuotesFieldsWithSeparatorsQuotesAndLineBreaks() throws IOException {
+        String csv = export(FaqExportService.Format.CSV, false);
+
+        assertThat(csv).startsWith("id,question,answer,categoryId,categoryName,priority,isActive,viewCount,createdAt,updatedAt\r\n");
+        assertThat(csv).contains(trickyId + ",\"" + MARKER + ": vírgulas, \"\"aspas\"\" e quebras?\"," +
+                "\"Primeira linha, com vírgula\nsegunda linha com \"\"aspas\"\".\",2,");
+        // Uma linha por FAQ mais o cabeçalho; a quebra dentro da resposta não termina a linha
+        assertThat(csv.split("\r\n")).hasSize(1 + count("SELECT COUNT(*) FROM faqs WHERE is_active = TRUE"));
+    }
+
+    @Test
+    void jsonArrayFollowsTheListOrder() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeActiveAsJsonArray(out);
+
+        FaqDTO[] faqs = objectMapper.readValue(out.toByteArray(), FaqDTO[].class);
+
+        assertThat(Arrays.stream(faqs).map(FaqDTO::getId).toList())
+                .isEqualTo(faqService.findAllActive().stream().map(FaqDTO::getId).toList());
+    }
+
+    @Test
+    void unknownFormatIsRejected() {
+        assertThat(FaqExportService.Format.parse(" Csv ")).isEqualTo(FaqExportService.Format.CSV);
+        assertThatThrownBy(() -> FaqExportService.Format.parse("xml"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ndjson ou csv");
+    }
+
+    private String export(FaqExportService.Format format, boolean includeInactive) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(format, includeInactive, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private List<FaqDTO> readNdjson(String ndjson) throws IOException {
+        assertThat(ndjson).endsWith("\n");
+        List<FaqDTO> faqs = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            faqs.add(objectMapper.readValue(line, FaqDTO.class));
+        }
+        return faqs;
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
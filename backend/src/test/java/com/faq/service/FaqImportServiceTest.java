@@ -0,0 +1,138 @@
+package com.faq.service;
+
+import com.faq.dto.BulkImportErrorDTO;
+import com.faq.dto.BulkImportResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Importação em massa: array JSON e NDJSON gravados em vários lotes, rejeições por item com o
+ * índice no arquivo, erro de sintaxe interrompendo a leitura e relatório de erros limitado
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class FaqImportServiceTest {
+
+    private static final String MARKER = "Importação de teste";
+
+    @Autowired
+    private FaqImportService importService;
+
+    @Autowired
+    private FaqService faqService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Object target;
+
+    @BeforeEach
+    void setUp() {
+        target = AopTestUtils.getUltimateTargetObject(importService);
+        // Lotes pequenos para que os testes atravessem mais de um lote
+        ReflectionTestUtils.setField(target, "batchSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(target, "batchSize", 500);
+        ReflectionTestUtils.setField(target, "maxReportedErrors", 1000);
+        jdbcTemplate.queryForList("SELECT id FROM faqs WHERE question LIKE ?", Long.class, MARKER + "%")
+                .forEach(faqService::delete);
+    }
+
+    @Test
+    void importsNdjsonAndJsonArraysAcrossBatches() throws IOException {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            ndjson.append(item("linha " + i, 1)).append('\n');
+        }
+
+        BulkImportResponse lines = importFaqs(ndjson.toString());
+        BulkImportResponse array = importFaqs("[" + item("array 0", 1) + "," + item("array 1", 3) + "," +
+                item("array 2", 3) + "]");
+
+        assertThat(lines.getReceived()).isEqualTo(5);
+        assertThat(lines.getImported()).isEqualTo(5);
+        assertThat(array.getImported()).isEqualTo(3);
+        assertThat(lines.getFailed() + array.getFailed()).isZero();
+        Integer withCounters = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM faqs f JOIN faq_feedback_counters c ON c.faq_id = f.id " +
+                "WHERE f.question LIKE ?", Integer.class, MARKER + "%");
+        assertThat(withCounters).isEqualTo(8);
+    }
+
+    @Test
+    void rejectsInvalidItemsReportingTheirPosition() throws IOException {
+        String body = String.join("\n",
+                item("válido 0", 1),
+                "{\"question\":\"Oi?\",\"answer\":\"Resposta longa o bastante.\",\"categoryId\":1}",
+                item("categoria inexistente", 999),
+                // Repete o item 0 com outra caixa
+                "{\"question\":\"" + MARKER.toUpperCase() + " VÁLIDO 0?\",\"answer\":\"Outra resposta qualquer.\",\"categoryId\":1}",
+                "{\"question\":\"Esqueci minha senha, como posso recuperá-la?\",\"answer\":\"Resposta repetida do catálogo.\",\"categoryId\":1}",
+                "{\"question\":\"" + MARKER + " prioridade?\",\"answer\":\"Prioridade não numérica.\",\"categoryId\":1,\"priority\":\"alta\"}",
+                item("válido 6", 2));
+
+        BulkImportResponse response = importFaqs(body);
+
+        assertThat(response.getReceived()).isEqualTo(7);
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(5);
+        assertThat(response.getErrors()).extracting(BulkImportErrorDTO::getIndex).containsExactly(1, 2, 3, 4, 5);
+        assertThat(response.getErrors()).extracting(BulkImportErrorDTO::getMessage)
+                .satisfiesExactly(
+                        message -> assertThat(message).startsWith("Pergunta deve ter"),
+                        message -> assertThat(message).startsWith("Categoria não encontrada"),
+                        message -> assertThat(message).isEqualTo("Pergunta repetida no arquivo de importação"),
+                        message -> assertThat(message).isEqualTo("Já existe um FAQ com esta pergunta"),
+                        message -> assertThat(message).startsWith("Item inválido"));
+    }
+
+    @Test
+    void syntaxErrorStopsReadingAndKeepsEarlierItems() throws IOException {
+        BulkImportResponse response = importFaqs(item("antes 0", 1) + "\n" + item("antes 1", 1) + "\n" +
+                item("antes 2", 1) + "\n{\"question\": ");
+
+        assertThat(response.getImported()).isEqualTo(3);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getErrors().get(0).getMessage()).startsWith("JSON inválido");
+    }
+
+    @Test
+    void reportedErrorsAreCappedButAllCounted() throws IOException {
+        ReflectionTestUtils.setField(target, "maxReportedErrors", 2);
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 4; i++) {
+            body.append(item("sem categoria " + i, 999)).append('\n');
+        }
+
+        BulkImportResponse response = importFaqs(body.toString());
+
+        assertThat(response.getFailed()).isEqualTo(4);
+        assertThat(response.getErrors()).hasSize(2);
+        assertThat(response.isErrorsTruncated()).isTrue();
+    }
+
+    private BulkImportResponse importFaqs(String body) throws IOException {
+        return importService.importFaqs(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String item(String suffix, long categoryId) {
+        return "{\"question\":\"" + MARKER + " " + suffix + "?\",\"answer\":\"Resposta importada " + suffix +
+                ".\",\"categoryId\":" + categoryId + "}";
+    }
+}
@@ -0,0 +1,121 @@
+package com.faq.service;
+
+import com.faq.dto.BulkImportResponse;
+import com.faq.dto.FaqDTO;
+import com.faq.model.Feedback;
+import com.faq.model.FeedbackCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Todo FAQ nasce com a sua linha em faq_feedback_counters, e o primeiro voto de um FAQ sem
+ * linha não perde incrementos nem falha quando chega junto com outros
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class FeedbackCounterServiceTest {
+
+    private static final String MARKER = "Contador de teste";
+
+    @Autowired
+    private FeedbackCounterService counterService;
+
+    @Autowired
+    private FaqService faqService;
+
+    @Autowired
+    private FaqImportService faqImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM faq_feedback_counters WHERE faq_id IN " +
+                "(SELECT id FROM faqs WHERE question LIKE ?)", MARKER + "%");
+        jdbcTemplate.update("DELETE FROM faqs WHERE question LIKE ?", MARKER + "%");
+    }
+
+    @Test
+    void createdFaqGetsZeroedCounters() {
+        FaqDTO faq = new FaqDTO();
+        faq.setQuestion(MARKER + ": como cadastrar um FAQ?");
+        faq.setAnswer("Pelo painel administrativo, informando a categoria.");
+        faq.setCategoryId(1L);
+
+        FaqDTO created = faqService.create(faq);
+
+        FeedbackCounter counter = counterService.findByFaqId(created.getId()).orElseThrow();
+        assertThat(counter.getPositiveCount()).isZero();
+        assertThat(counter.getNegativeCount()).isZero();
+    }
+
+    @Test
+    void bulkImportCreatesCountersForEveryInsertedFaq() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            body.append("{\"question\":\"").append(MARKER).append(" importado ").append(i).append("?\",")
+                    .append("\"answer\":\"Resposta importada número ").append(i).append(".\",")
+                    .append("\"categoryId\":1}\n");
+        }
+
+        BulkImportResponse response = faqImportService.importFaqs(
+                new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(response.getImported()).isEqualTo(3);
+        Integer withCounters = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM faqs f JOIN faq_feedback_counters c ON c.faq_id = f.id " +
+                "WHERE f.question LIKE ?", Integer.class, MARKER + "%");
+        assertThat(withCounters).isEqualTo(3);
+    }
+
+    @Test
+    void concurrentFirstVotesOnFaqWithoutCountersAreAllCounted() throws Exception {
+        // FAQ gravado fora da aplicação, ainda sem linha de contadores
+        jdbcTemplate.update("INSERT INTO faqs (question, answer, view_count, is_active, priority, " +
+                "created_at, updated_at, category_id) VALUES (?, ?, 0, TRUE, 1, CURRENT_TIMESTAMP, " +
+                "CURRENT_TIMESTAMP, 1)", MARKER + " sem linha?", "Resposta gravada direto no banco.");
+        Long faqId = jdbcTemplate.queryForObject("SELECT id FROM faqs WHERE question = ?", Long.class,
+                MARKER + " sem linha?");
+
+        int voters = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(voters);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> votes = new ArrayList<>();
+        try {
+            for (int i = 0; i < voters; i++) {
+                Feedback.FeedbackType type = i % 2 == 0 ? Feedback.FeedbackType.POSITIVE : Feedback.FeedbackType.NEGATIVE;
+                votes.add(executor.submit(() -> {
+                    start.await();
+                    counterService.recordVote(faqId, null, type);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> vote : votes) {
+                vote.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        FeedbackCounter counter = counterService.findByFaqId(faqId).orElseThrow();
+        assertThat(counter.getPositiveCount()).isEqualTo(voters / 2);
+        assertThat(counter.getNegativeCount()).isEqualTo(voters / 2);
+    }
+}
@@ -0,0 +1,75 @@
+package com.faq.service;
+
+import com.faq.event.FeedbackChangedEvent;
+import com.faq.repository.FeedbackCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Painel de feedback: rankings limitados aos K primeiros com desempate por id, taxas e
+ * recálculo só quando há votos novos ou o painel passou de faq.feedback.dashboard.max-age-ms
+ */
+class FeedbackDashboardServiceTest {
+
+    private final FeedbackCounterRepository counterRepository = mock(FeedbackCounterRepository.class);
+    private FeedbackDashboardService dashboard;
+
+    @BeforeEach
+    void setUp() {
+        dashboard = new FeedbackDashboardService();
+        ReflectionTestUtils.setField(dashboard, "counterRepository", counterRepository);
+        ReflectionTestUtils.setField(dashboard, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(dashboard, "topK", 2);
+        ReflectionTestUtils.setField(dashboard, "maxAgeMs", 600_000L);
+        // [faqId, pergunta, positivos, negativos]
+        when(counterRepository.streamVotedCounters()).thenAnswer(invocation -> Stream.of(
+                new Object[]{1L, "Como abrir conta?", 8L, 2L},
+                new Object[]{2L, "Como pagar boleto?", 3L, 3L},
+                new Object[]{3L, "Como trocar a senha?", 8L, 0L},
+                new Object[]{4L, "Como cancelar?", 0L, 5L}));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void keepsTheTopKOfEachRankingWithTotalsAndRates() {
+        Map<String, Object> current = dashboard.current();
+
+        assertThat(current.get("totalPositive")).isEqualTo(19L);
+        assertThat(current.get("totalNegative")).isEqualTo(10L);
+        assertThat(current.get("likeRate")).isEqualTo(0.6552);
+        List<Object[]> mostLiked = (List<Object[]>) current.get("mostLiked");
+        assertThat(mostLiked).extracting(row -> row[0]).containsExactly(1L, 3L);
+        assertThat(mostLiked.get(0)[3]).isEqualTo(0.8);
+        List<Object[]> leastLiked = (List<Object[]>) current.get("leastLiked");
+        assertThat(leastLiked).extracting(row -> row[0]).containsExactly(4L, 2L);
+    }
+
+    @Test
+    void recomputesOnlyWhenVotesChangedOrTheDashboardExpired() {
+        dashboard.current();
+        dashboard.refreshIfStale();
+        verify(counterRepository, times(1)).streamVotedCounters();
+
+        dashboard.onFeedbackChanged(new FeedbackChangedEvent(FeedbackChangedEvent.ChangeType.CREATED, 9L, 1L));
+        dashboard.refreshIfStale();
+        dashboard.refreshIfStale();
+        verify(counterRepository, times(2)).streamVotedCounters();
+
+        // Sem votos novos, um painel mais velho que max-age-ms é recalculado
+        ReflectionTestUtils.setField(dashboard, "computedAt", System.currentTimeMillis() - 600_001L);
+        dashboard.refreshIfStale();
+        verify(counterRepository, times(3)).streamVotedCounters();
+    }
+}
@@ -0,0 +1,96 @@
+package com.faq.service;
+
+import com.faq.dto.FeedbackDTO;
+import com.faq.model.Feedback;
+import com.faq.model.FeedbackCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Trocas de voto simultâneas do mesmo IP no mesmo FAQ deixam os contadores coerentes com o
+ * único voto gravado
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class FeedbackServiceTest {
+
+    private static final Long FAQ_ID = 1L;
+    private static final String USER_IP = "203.0.113.77";
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private FeedbackCounterService counterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        feedbackService.getUserFeedback(FAQ_ID, USER_IP)
+                .ifPresent(feedback -> feedbackService.deleteFeedback(feedback.getId()));
+    }
+
+    @Test
+    void concurrentFlipsBySameIpKeepCountersConsistent() throws Exception {
+        FeedbackCounter before = counterService.findByFaqId(FAQ_ID).orElseThrow();
+        feedbackService.createOrUpdateFeedback(vote(Feedback.FeedbackType.POSITIVE));
+
+        int threads = 16;
+        int flipsPerThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> flips = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                flips.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < flipsPerThread; i++) {
+                        feedbackService.createOrUpdateFeedback(vote((offset + i) % 2 == 0
+                                ? Feedback.FeedbackType.NEGATIVE : Feedback.FeedbackType.POSITIVE));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> flip : flips) {
+                flip.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Feedback.FeedbackType last = feedbackService.getUserFeedback(FAQ_ID, USER_IP).orElseThrow().getFeedbackType();
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM feedbacks WHERE faq_id = ? AND user_ip = ?", Integer.class, FAQ_ID, USER_IP);
+        FeedbackCounter after = counterService.findByFaqId(FAQ_ID).orElseThrow();
+
+        assertThat(rows).isEqualTo(1);
+        boolean positive = last == Feedback.FeedbackType.POSITIVE;
+        assertThat(after.getPositiveCount() - before.getPositiveCount()).isEqualTo(positive ? 1 : 0);
+        assertThat(after.getNegativeCount() - before.getNegativeCount()).isEqualTo(positive ? 0 : 1);
+    }
+
+    private static FeedbackDTO vote(Feedback.FeedbackType type) {
+        FeedbackDTO feedback = new FeedbackDTO();
+        feedback.setFaqId(FAQ_ID);
+        feedback.setUserIp(USER_IP);
+        feedback.setFeedbackType(type);
+        return feedback;
+    }
+}
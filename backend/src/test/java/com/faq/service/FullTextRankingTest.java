@@ -0,0 +1,95 @@
+package com.faq.service;
+
+import com.faq.dto.FaqDTO;
+import com.faq.model.Category;
+import com.faq.model.Faq;
+import com.faq.repository.FaqRepository;
+import com.faq.search.FaqSearchIndex;
+import com.faq.search.FullTextSearchSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Com a busca textual do PostgreSQL e o ranking ligados, a resposta mantém a ordem do ts_rank
+ * (inclusive FAQs casados só pelo radical) e o BM25 do índice fica restrito à busca LIKE
+ */
+class FullTextRankingTest {
+
+    private static final String TERM = "pagamentos";
+    private static final Long CATEGORY_ID = 3L;
+
+    private final FaqRepository faqRepository = mock(FaqRepository.class);
+    private final FaqSearchIndex searchIndex = mock(FaqSearchIndex.class);
+    private final FullTextSearchSupport fullTextSearch = mock(FullTextSearchSupport.class);
+    private FaqService faqService;
+
+    // Ordem do ts_rank: o primeiro casa "pagamento" só pelo radical, o terceiro tem o termo exato
+    private final List<Faq> tsRankOrder = List.of(
+            faq(11L, "Como faço um pagamento com cartão?"),
+            faq(12L, "Posso pagar com boleto?"),
+            faq(13L, "Quais pagamentos são aceitos?"));
+
+    @BeforeEach
+    void setUp() {
+        faqService = new FaqService();
+        ReflectionTestUtils.setField(faqService, "faqRepository", faqRepository);
+        ReflectionTestUtils.setField(faqService, "searchIndex", searchIndex);
+        ReflectionTestUtils.setField(faqService, "fullTextSearch", fullTextSearch);
+        ReflectionTestUtils.setField(faqService, "searchEngine", "fulltext");
+        ReflectionTestUtils.setField(faqService, "rankingEnabled", true);
+        when(searchIndex.isReady()).thenReturn(true);
+        when(fullTextSearch.isAvailable()).thenReturn(true);
+        when(faqRepository.fullTextSearchActiveFaqs(TERM)).thenReturn(tsRankOrder);
+        when(faqRepository.fullTextSearchActiveFaqsByCategory(CATEGORY_ID, TERM)).thenReturn(tsRankOrder);
+    }
+
+    @Test
+    void fullTextResultsKeepTheTsRankOrder() {
+        assertThat(ids(faqService.searchFaqs(TERM, false))).containsExactly(11L, 12L, 13L);
+        assertThat(ids(faqService.searchFaqsByCategory(CATEGORY_ID, TERM, false))).containsExactly(11L, 12L, 13L);
+        verify(searchIndex, never()).rank(anyList(), anyString(), anyInt());
+    }
+
+    @Test
+    void maxResultsStillCutsTheFullTextResponse() {
+        ReflectionTestUtils.setField(faqService, "rankingMaxResults", 2);
+
+        assertThat(ids(faqService.searchFaqs(TERM, false))).containsExactly(11L, 12L);
+    }
+
+    @Test
+    void likeSearchIsStillRankedByTheIndex() {
+        ReflectionTestUtils.setField(faqService, "searchEngine", "database");
+        when(faqRepository.searchActiveFaqs(TERM)).thenReturn(tsRankOrder);
+        List<FaqDTO> ranked = List.of(new FaqDTO());
+        when(searchIndex.rank(anyList(), any(), anyInt())).thenReturn(ranked);
+
+        assertThat(faqService.searchFaqs(TERM, false)).isSameAs(ranked);
+        verify(faqRepository, never()).fullTextSearchActiveFaqs(anyString());
+    }
+
+    private static Faq faq(Long id, String question) {
+        Category category = new Category("Pagamentos", "Formas de pagamento");
+        category.setId(CATEGORY_ID);
+        Faq faq = new Faq(question, "Resposta sobre " + question.toLowerCase(), category);
+        faq.setId(id);
+        return faq;
+    }
+
+    private static List<Long> ids(List<FaqDTO> faqs) {
+        return faqs.stream().map(FaqDTO::getId).toList();
+    }
+}
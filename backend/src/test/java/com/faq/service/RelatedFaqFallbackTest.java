@@ -0,0 +1,105 @@
+package com.faq.service;
+
+import com.faq.dto.FaqDTO;
+import com.faq.dto.FaqSummaryDTO;
+import com.faq.search.RelatedFaqIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Com o índice de similaridade servindo /faqs/{id}/related, FAQs sem vizinhos por conteúdo
+ * (sem termos em comum com outros, ou inativos) continuam recebendo os FAQs da mesma categoria
+ */
+@SpringBootTest(properties = {"faq.related.engine=similarity", "faq.read.mode=cache"})
+@ActiveProfiles({"dev", "test"})
+class RelatedFaqFallbackTest {
+
+    // Perguntas Gerais: três FAQs ativos no catálogo de teste
+    private static final Long CATEGORY_ID = 1L;
+    private static final int CATEGORY_SIZE = 3;
+
+    @Autowired
+    private CatalogReadService catalogReadService;
+
+    @Autowired
+    private FaqService faqService;
+
+    @Autowired
+    private RelatedFaqIndex relatedFaqIndex;
+
+    private Long isolatedFaqId;
+
+    @BeforeEach
+    void setUp() {
+        // Nenhum termo em comum com o restante do catálogo
+        FaqDTO faq = new FaqDTO();
+        faq.setQuestion("Xyzzy plugh quux frobnicar?");
+        faq.setAnswer("Grault garply waldo fred thud.");
+        faq.setCategoryId(CATEGORY_ID);
+        isolatedFaqId = faqService.create(faq).getId();
+        assertThat(relatedFaqIndex.isServing()).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        faqService.delete(isolatedFaqId);
+    }
+
+    @Test
+    void faqWithoutSharedTermsFallsBackToItsCategory() {
+        assertThat(relatedFaqIndex.related(isolatedFaqId, 5)).isEmpty();
+
+        List<FaqSummaryDTO> related = catalogReadService.findRelated(isolatedFaqId, 5);
+
+        assertThat(related)
+                .extracting(FaqSummaryDTO::getId)
+                .hasSize(CATEGORY_SIZE)
+                .doesNotContain(isolatedFaqId)
+                .containsExactlyElementsOf(ids(faqService.findRelated(isolatedFaqId, 5)));
+    }
+
+    @Test
+    void inactiveFaqFallsBackToItsCategory() {
+        faqService.updateActiveStatus(isolatedFaqId, false);
+
+        assertThat(catalogReadService.findRelated(isolatedFaqId, 5))
+                .extracting(FaqSummaryDTO::getId)
+                .hasSize(CATEGORY_SIZE)
+                .doesNotContain(isolatedFaqId);
+    }
+
+    @Test
+    void shortNeighbourListIsPaddedWithCategoryAfterTheNeighbours() {
+        // Único vizinho por conteúdo do FAQ isolado, em outra categoria
+        FaqDTO twin = new FaqDTO();
+        twin.setQuestion("Xyzzy plugh quux frobnicar novamente?");
+        twin.setAnswer("Grault garply waldo fred thud outra vez.");
+        twin.setCategoryId(3L);
+        Long twinId = faqService.create(twin).getId();
+        try {
+            assertThat(ids(relatedFaqIndex.related(isolatedFaqId, 5))).containsExactly(twinId);
+
+            List<FaqSummaryDTO> related = catalogReadService.findRelated(isolatedFaqId, 1 + CATEGORY_SIZE);
+
+            assertThat(ids(related))
+                    .hasSize(1 + CATEGORY_SIZE)
+                    .startsWith(twinId)
+                    .doesNotHaveDuplicates()
+                    .doesNotContain(isolatedFaqId);
+        } finally {
+            faqService.delete(twinId);
+        }
+    }
+
+    private static List<Long> ids(List<FaqSummaryDTO> faqs) {
+        return faqs.stream().map(FaqSummaryDTO::getId).toList();
+    }
+}
@@ -0,0 +1,119 @@
+package com.faq.service;
+
+import com.faq.event.ViewCountsFlushedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ciclo do buffer de visualizações: incremento, pendentes, descarga em lote e publicação,
+ * com os valores mantidos no buffer enquanto não forem gravados e publicados
+ */
+class ViewCountBufferTest {
+
+    private static final Long FAQ_ID = 7L;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final List<ViewCountsFlushedEvent> published = new ArrayList<>();
+    private final List<Long> pendingWhilePublishing = new ArrayList<>();
+    private ViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ViewCountBuffer();
+        ReflectionTestUtils.setField(buffer, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(buffer, "transactionTemplate",
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(buffer, "eventPublisher", (ApplicationEventPublisher) event -> {
+            published.add((ViewCountsFlushedEvent) event);
+            pendingWhilePublishing.add(buffer.pending(FAQ_ID));
+        });
+    }
+
+    @Test
+    void flushWritesOneBatchAndPublishesTheIncrements() {
+        buffer.increment(FAQ_ID);
+        buffer.increment(FAQ_ID);
+        buffer.increment(FAQ_ID);
+        assertThat(buffer.pending(FAQ_ID)).isEqualTo(3);
+
+        buffer.flush();
+
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).getIncrements()).isEqualTo(Map.of(FAQ_ID, 3L));
+        assertThat(buffer.pending(FAQ_ID)).isZero();
+    }
+
+    @Test
+    void incrementsStayVisibleUntilPublished() {
+        buffer.increment(FAQ_ID);
+        buffer.increment(FAQ_ID);
+
+        buffer.flush();
+
+        // Os ouvintes (índice em memória) recebem o delta enquanto ele ainda conta em pending()
+        assertThat(pendingWhilePublishing).containsExactly(2L);
+        assertThat(buffer.pending(FAQ_ID)).isZero();
+    }
+
+    @Test
+    void incrementsDuringTheFlushAreKeptForTheNextOne() {
+        ReflectionTestUtils.setField(buffer, "eventPublisher", (ApplicationEventPublisher) event -> {
+            published.add((ViewCountsFlushedEvent) event);
+            buffer.increment(FAQ_ID);
+        });
+        buffer.increment(FAQ_ID);
+
+        buffer.flush();
+
+        assertThat(published.get(0).getIncrements()).isEqualTo(Map.of(FAQ_ID, 1L));
+        assertThat(buffer.pending(FAQ_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void failedWriteKeepsTheIncrementsForTheNextFlush() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("banco fora do ar"))
+                .thenReturn(new int[] {1});
+        buffer.increment(FAQ_ID);
+        buffer.increment(FAQ_ID);
+
+        buffer.flush();
+
+        assertThat(published).isEmpty();
+        assertThat(buffer.pending(FAQ_ID)).isEqualTo(2);
+
+        buffer.increment(FAQ_ID);
+        buffer.flush();
+
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).getIncrements()).isEqualTo(Map.of(FAQ_ID, 3L));
+        assertThat(buffer.pending(FAQ_ID)).isZero();
+    }
+
+    @Test
+    void emptyBufferDoesNotTouchTheDatabase() {
+        buffer.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(published).isEmpty();
+    }
+}
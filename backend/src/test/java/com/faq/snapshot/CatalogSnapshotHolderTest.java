@@ -0,0 +1,67 @@
+package com.faq.snapshot;
+
+import com.faq.dto.FaqDTO;
+import com.faq.service.ViewCountBuffer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * No modo snapshot, uma descarga de visualizações atualiza os contadores do retrato sem reler
+ * o catálogo do banco
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "faq.read.mode=snapshot"
+})
+@ActiveProfiles({"dev", "test"})
+class CatalogSnapshotHolderTest {
+
+    // "Esqueci minha senha, como posso recuperá-la?"
+    private static final Long FAQ_ID = 2L;
+
+    @Autowired
+    private CatalogSnapshotHolder holder;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void flushedViewsReachTheSnapshotWithoutReloadingTheCatalog() throws InterruptedException {
+        assertThat(holder.isServing()).isTrue();
+        int before = viewCount(holder.get());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        for (int i = 0; i < 3; i++) {
+            viewCountBuffer.increment(FAQ_ID);
+        }
+        viewCountBuffer.flush();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (viewCount(holder.get()) != before + 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(viewCount(holder.get())).isEqualTo(before + 3);
+        assertThat(holder.get().mostViewed(100)).extracting(FaqDTO::getId).contains(FAQ_ID);
+        // Nenhuma consulta JPA (findAllWithCategory, categorias): só os contadores foram relidos
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+    }
+
+    private static int viewCount(CatalogSnapshot snapshot) {
+        return snapshot.activeFaqs().stream()
+                .filter(faq -> FAQ_ID.equals(faq.getId()))
+                .map(FaqDTO::getViewCount)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,82 @@
+package com.faq.snapshot;
+
+import com.faq.dto.CategoryDTO;
+import com.faq.dto.FaqDTO;
+import com.faq.dto.FaqSummaryDTO;
+import com.faq.model.Category;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Novos contadores de visualização derivam um retrato novo, reordenando só o que depende
+ * deles e sem alterar o retrato original, que pode estar sendo lido por outras requisições
+ */
+class CatalogSnapshotTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+    private final CatalogSnapshot snapshot = CatalogSnapshot.build(List.of(
+            faq(1L, 1L, 10, NOW.minusDays(3)),
+            faq(2L, 1L, 5, NOW.minusDays(2)),
+            faq(3L, 2L, 1, NOW.minusDays(1))
+    ), List.of(category(1L, "Geral"), category(2L, "Suporte")));
+
+    @Test
+    void viewCountsReorderMostViewedAndRelated() {
+        CatalogSnapshot updated = snapshot.withViewCounts(Map.of(2L, 20, 3L, 15));
+
+        assertThat(ids(updated.mostViewed(3))).containsExactly(2L, 3L, 1L);
+        assertThat(updated.related(3L, 5)).isEmpty();
+        assertThat(updated.related(1L, 5)).extracting(FaqSummaryDTO::getViewCount).containsExactly(20);
+        assertThat(ids(updated.recent(3))).containsExactly(3L, 2L, 1L);
+        assertThat(updated.recent(3).get(1).getViewCount()).isEqualTo(20);
+        assertThat(categoryViewCounts(updated.categoriesWithActiveFaqs().get(0))).containsExactly(10, 20);
+        assertThat(categoryViewCounts(updated.categoriesWithActiveFaqs().get(1))).containsExactly(15);
+    }
+
+    @Test
+    void originalSnapshotIsUntouched() {
+        snapshot.withViewCounts(Map.of(2L, 20));
+
+        assertThat(ids(snapshot.mostViewed(3))).containsExactly(1L, 2L, 3L);
+        assertThat(snapshot.recent(3).get(1).getViewCount()).isEqualTo(5);
+        assertThat(categoryViewCounts(snapshot.categoriesWithActiveFaqs().get(0))).containsExactly(10, 5);
+    }
+
+    @Test
+    void unchangedOrUnknownCountsKeepTheSameSnapshot() {
+        assertThat(snapshot.withViewCounts(Map.of(1L, 10, 99L, 7))).isSameAs(snapshot);
+    }
+
+    @Test
+    void unaffectedCategoriesAreShared() {
+        CatalogSnapshot updated = snapshot.withViewCounts(Map.of(3L, 15));
+
+        assertThat(updated.categoriesWithActiveFaqs().get(0)).isSameAs(snapshot.categoriesWithActiveFaqs().get(0));
+        assertThat(updated.faqsByCategory(1L)).isSameAs(snapshot.faqsByCategory(1L));
+    }
+
+    private static List<Long> ids(List<FaqDTO> faqs) {
+        return faqs.stream().map(FaqDTO::getId).toList();
+    }
+
+    private static List<Integer> categoryViewCounts(CategoryDTO category) {
+        return category.getFaqs().stream().map(FaqSummaryDTO::getViewCount).toList();
+    }
+
+    private static FaqDTO faq(Long id, Long categoryId, int viewCount, LocalDateTime createdAt) {
+        return new FaqDTO(id, "Pergunta " + id + "?", "Resposta " + id + ".", viewCount, true, 1,
+                createdAt, createdAt, categoryId, "Categoria " + categoryId);
+    }
+
+    private static Category category(Long id, String name) {
+        Category category = new Category(name, "Categoria " + name);
+        category.setId(id);
+        return category;
+    }
+}
@@ -0,0 +1,105 @@
+package com.faq.sync;
+
+import com.faq.event.RemoteChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tratamento das mensagens recebidas pelo canal NOTIFY: próprias e malformadas ignoradas,
+ * versões antigas descartadas por entidade e eventos aplicados em ordem fora da thread de escuta
+ */
+class ChangeNotificationListenerTest {
+
+    private static final String OTHER_REPLICA = "b7e21c09";
+
+    private final List<RemoteChangeEvent> applied = new CopyOnWriteArrayList<>();
+    private final List<String> applyingThreads = new CopyOnWriteArrayList<>();
+    private ChangeNotificationListener listener;
+    private ReplicaIdentity identity;
+
+    @BeforeEach
+    void setUp() {
+        listener = new ChangeNotificationListener();
+        identity = new ReplicaIdentity();
+        ReflectionTestUtils.setField(listener, "replicaIdentity", identity);
+        ReflectionTestUtils.setField(listener, "eventPublisher", (ApplicationEventPublisher) event -> {
+            applyingThreads.add(Thread.currentThread().getName());
+            applied.add((RemoteChangeEvent) event);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    void dropsMessagesOlderThanTheLastAppliedVersionOfTheSameEntity() throws InterruptedException {
+        listener.dispatch("FAQ:42:2000:" + OTHER_REPLICA);
+        listener.dispatch("FAQ:42:1000:" + OTHER_REPLICA);
+        listener.dispatch("FAQ:7:1000:" + OTHER_REPLICA);
+        listener.dispatch("CATEGORY:42:1500:" + OTHER_REPLICA);
+        listener.dispatch("FAQ:42:2500:" + OTHER_REPLICA);
+
+        awaitApplied(4);
+        assertThat(applied).extracting(event -> event.getEntityType() + ":" + event.getEntityId() + "@" + event.getVersion())
+                .containsExactly("FAQ:42@2000", "FAQ:7@1000", "CATEGORY:42@1500", "FAQ:42@2500");
+    }
+
+    @Test
+    void ignoresOwnAndMalformedMessages() throws InterruptedException {
+        listener.dispatch("FAQ:1:1000:" + identity.getId());
+        listener.dispatch("FAQ:1:1000");
+        listener.dispatch("PERGUNTA:1:1000:" + OTHER_REPLICA);
+        listener.dispatch("FAQ:um:1000:" + OTHER_REPLICA);
+        listener.dispatch("RESYNC:0:1000:" + OTHER_REPLICA);
+
+        awaitApplied(1);
+        assertThat(applied).hasSize(1);
+        assertThat(applied.get(0).isResync()).isTrue();
+    }
+
+    @Test
+    void eventsAreAppliedOutsideTheListeningThread() throws InterruptedException {
+        CountDownLatch slowHandler = new CountDownLatch(1);
+        ReflectionTestUtils.setField(listener, "eventPublisher", (ApplicationEventPublisher) event -> {
+            applyingThreads.add(Thread.currentThread().getName());
+            try {
+                slowHandler.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            applied.add((RemoteChangeEvent) event);
+        });
+
+        // Uma reconstrução demorada não impede a leitura das mensagens seguintes
+        listener.dispatch("CATEGORY:3:1000:" + OTHER_REPLICA);
+        listener.dispatch("FAQ:9:1000:" + OTHER_REPLICA);
+        assertThat(applied).isEmpty();
+        slowHandler.countDown();
+
+        awaitApplied(2);
+        assertThat(applied).extracting(RemoteChangeEvent::getEntityType)
+                .containsExactly(RemoteChangeEvent.EntityType.CATEGORY, RemoteChangeEvent.EntityType.FAQ);
+        assertThat(applyingThreads).containsOnly("faq-change-applier");
+    }
+
+    private void awaitApplied(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (applied.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        // Dá tempo a eventos indevidos de aparecerem antes das verificações
+        Thread.sleep(50);
+    }
+}
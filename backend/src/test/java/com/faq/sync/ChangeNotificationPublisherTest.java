@@ -0,0 +1,92 @@
+package com.faq.sync;
+
+import com.faq.dto.CategoryDTO;
+import com.faq.dto.FaqDTO;
+import com.faq.event.CategoryChangedEvent;
+import com.faq.event.FaqChangedEvent;
+import com.faq.event.FaqsImportedEvent;
+import com.faq.event.FeedbackChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Formato das mensagens publicadas no canal NOTIFY para cada tipo de escrita local
+ */
+class ChangeNotificationPublisherTest {
+
+    private static final String CHANNEL = "faq_changes";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ReplicaIdentity identity = new ReplicaIdentity();
+    private ChangeNotificationPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new ChangeNotificationPublisher();
+        ReflectionTestUtils.setField(publisher, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(publisher, "replicaIdentity", identity);
+        ReflectionTestUtils.setField(publisher, "channel", CHANNEL);
+    }
+
+    @Test
+    void faqVersionIsItsUpdatedAt() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 6, 10, 9, 30);
+        FaqDTO faq = new FaqDTO();
+        faq.setId(42L);
+        faq.setUpdatedAt(updatedAt);
+
+        publisher.onFaqChanged(new FaqChangedEvent(FaqChangedEvent.ChangeType.UPDATED, 42L, faq));
+
+        assertThat(payload()).isEqualTo("FAQ:42:" + updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli()
+                + ":" + identity.getId());
+    }
+
+    @Test
+    void deletionUsesTheWriteInstant() {
+        long before = System.currentTimeMillis();
+
+        publisher.onFaqChanged(FaqChangedEvent.deleted(42L, 1L));
+
+        String[] parts = payload().split(":");
+        assertThat(parts[0]).isEqualTo("FAQ");
+        assertThat(Long.parseLong(parts[2])).isBetween(before, System.currentTimeMillis());
+    }
+
+    @Test
+    void categoryAndFeedbackCarryTheirEntityIds() {
+        CategoryDTO category = new CategoryDTO();
+        category.setId(3L);
+        category.setUpdatedAt(LocalDateTime.of(2024, 6, 10, 9, 30));
+        publisher.onCategoryChanged(new CategoryChangedEvent(CategoryChangedEvent.ChangeType.UPDATED, 3L, category));
+        assertThat(payload()).startsWith("CATEGORY:3:").endsWith(":" + identity.getId());
+
+        publisher.onFeedbackChanged(new FeedbackChangedEvent(FeedbackChangedEvent.ChangeType.CREATED, 5L, 42L));
+        assertThat(payload()).startsWith("FEEDBACK:42:");
+    }
+
+    @Test
+    void bulkImportAsksForResync() {
+        publisher.onFaqsImported(new FaqsImportedEvent(10));
+
+        assertThat(payload()).startsWith(ChangeNotificationListener.RESYNC + ":0:");
+    }
+
+    private String payload() {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate, atLeastOnce())
+                .queryForList(eq("SELECT pg_notify(?, ?)"), eq(CHANNEL), payload.capture());
+        return (String) payload.getValue();
+    }
+}
@@ -0,0 +1,142 @@
+package com.faq.trending;
+
+import com.faq.dto.FaqDTO;
+import com.faq.event.FaqChangedEvent;
+import com.faq.event.FeedbackChangedEvent;
+import com.faq.event.ViewCountsFlushedEvent;
+import com.faq.model.AnalyticsMetric;
+import com.faq.model.Category;
+import com.faq.model.Faq;
+import com.faq.model.Feedback;
+import com.faq.repository.FaqRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pontuação com decaimento exponencial: eventos antigos dos baldes horários valem metade a cada
+ * meia-vida, eventos novos entram sem recalcular os demais e o ranking por categoria acompanha
+ * as alterações dos FAQs
+ */
+class TrendingTrackerTest {
+
+    private final FaqRepository faqRepository = mock(FaqRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final List<Object[]> hourlyBuckets = new ArrayList<>();
+    private TrendingTracker tracker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tracker = new TrendingTracker();
+        ReflectionTestUtils.setField(tracker, "faqRepository", faqRepository);
+        ReflectionTestUtils.setField(tracker, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(tracker, "halfLife", Duration.ofHours(6));
+        ReflectionTestUtils.setField(tracker, "viewWeight", 1.0);
+        ReflectionTestUtils.setField(tracker, "positiveFeedbackWeight", 3.0);
+        ReflectionTestUtils.setField(tracker, "negativeFeedbackWeight", 0.5);
+        ReflectionTestUtils.setField(tracker, "seedHalfLives", 8);
+
+        when(faqRepository.findAllWithCategory()).thenReturn(List.of(
+                faq(1L, 1L, true), faq(2L, 1L, true), faq(3L, 2L, true), faq(4L, 2L, false)));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Object[] bucket : hourlyBuckets) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong(1)).thenReturn((Long) bucket[0]);
+                when(rs.getString(2)).thenReturn(((AnalyticsMetric) bucket[1]).name());
+                when(rs.getTimestamp(3)).thenReturn(Timestamp.valueOf((LocalDateTime) bucket[2]));
+                when(rs.getLong(4)).thenReturn((Long) bucket[3]);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any());
+    }
+
+    @Test
+    void seededBucketsDecayByHalfEveryHalfLife() {
+        // Balde do meio da hora: 8 visualizações há 12 h (2 meias-vidas) valem 2 agora
+        LocalDateTime now = LocalDateTime.now();
+        hourlyBuckets.add(new Object[]{1L, AnalyticsMetric.VIEW, now.minusHours(12).minusMinutes(30), 8L});
+        hourlyBuckets.add(new Object[]{2L, AnalyticsMetric.VIEW, now.minusMinutes(30), 3L});
+        tracker.rebuild();
+
+        assertThat(ids(tracker.top(10, null))).containsExactly(2L, 1L);
+
+        // Duas visualizações agora levam o FAQ 1 a ~4, acima dos ~3 do FAQ 2
+        tracker.onViewCountsFlushed(new ViewCountsFlushedEvent(Map.of(1L, 2L)));
+
+        assertThat(ids(tracker.top(10, null))).containsExactly(1L, 2L);
+        assertThat(tracker.top(1, null).get(0).getViewCount()).isEqualTo(2);
+    }
+
+    @Test
+    void votesAreWeightedByType() {
+        tracker.rebuild();
+        tracker.onViewCountsFlushed(new ViewCountsFlushedEvent(Map.of(1L, 2L)));
+        tracker.onFeedbackChanged(vote(2L, Feedback.FeedbackType.POSITIVE));
+        tracker.onFeedbackChanged(vote(3L, Feedback.FeedbackType.NEGATIVE));
+
+        // 3 (voto positivo) > 2 (visualizações) > 0,5 (voto negativo)
+        assertThat(ids(tracker.top(10, null))).containsExactly(2L, 1L, 3L);
+        assertThat(ids(tracker.top(2, null))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void categoryRankingFollowsFaqChanges() {
+        tracker.rebuild();
+        tracker.onViewCountsFlushed(new ViewCountsFlushedEvent(Map.of(1L, 3L, 2L, 1L, 3L, 2L, 4L, 9L)));
+
+        assertThat(ids(tracker.top(10, 1L))).containsExactly(1L, 2L);
+        // FAQ inativo não pontua
+        assertThat(ids(tracker.top(10, 2L))).containsExactly(3L);
+
+        FaqDTO moved = tracker.top(1, 1L).get(0);
+        moved.setCategoryId(2L);
+        tracker.onFaqChanged(new FaqChangedEvent(FaqChangedEvent.ChangeType.UPDATED, 1L, moved, 1L));
+        assertThat(ids(tracker.top(10, 1L))).containsExactly(2L);
+        assertThat(ids(tracker.top(10, 2L))).containsExactly(1L, 3L);
+
+        tracker.onFaqChanged(FaqChangedEvent.deleted(1L, 2L));
+        FaqDTO deactivated = tracker.top(1, 2L).get(0);
+        deactivated.setIsActive(false);
+        tracker.put(deactivated);
+
+        assertThat(ids(tracker.top(10, null))).containsExactly(2L);
+        assertThat(tracker.top(10, 2L)).isEmpty();
+    }
+
+    private static Faq faq(Long id, Long categoryId, boolean active) {
+        Category category = new Category("Categoria " + categoryId, null);
+        category.setId(categoryId);
+        Faq faq = new Faq("Pergunta " + id + "?", "Resposta " + id + ".", category);
+        faq.setId(id);
+        faq.setIsActive(active);
+        faq.setViewCount(0);
+        return faq;
+    }
+
+    private static FeedbackChangedEvent vote(Long faqId, Feedback.FeedbackType type) {
+        return new FeedbackChangedEvent(FeedbackChangedEvent.ChangeType.CREATED, null, faqId, type);
+    }
+
+    private static List<Long> ids(List<FaqDTO> faqs) {
+        return faqs.stream().map(FaqDTO::getId).toList();
+    }
+}
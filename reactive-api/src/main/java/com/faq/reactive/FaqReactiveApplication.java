@@ -0,0 +1,20 @@
+package com.faq.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * API pública de leitura do FAQ em WebFlux/R2DBC.
+ *
+ * Expõe os mesmos GETs públicos do backend (/faqs, /faqs/{id}, /faqs/search e
+ * /categories/with-faqs) com os mesmos DTOs, lendo o mesmo banco sem bloquear threads: uma
+ * requisição aguardando o banco não ocupa thread nenhuma. As escritas e o painel do
+ * administrador continuam no backend (MVC/JPA).
+ */
+@SpringBootApplication
+public class FaqReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(FaqReactiveApplication.class, args);
+    }
+}
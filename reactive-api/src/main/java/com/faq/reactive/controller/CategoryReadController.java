@@ -0,0 +1,31 @@
+package com.faq.reactive.controller;
+
+import com.faq.dto.CategoryDTO;
+import com.faq.reactive.repository.CategoryReadRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * GETs públicos de categorias, com o mesmo contrato de CategoryController do backend
+ */
+@RestController
+@RequestMapping("/categories")
+@CrossOrigin(origins = "http://localhost:3000")
+public class CategoryReadController {
+
+    @Autowired
+    private CategoryReadRepository categoryReadRepository;
+
+    /**
+     * Lista categorias com FAQs ativos
+     */
+    @GetMapping(value = "/with-faqs", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CategoryDTO> getCategoriesWithActiveFaqs() {
+        return categoryReadRepository.findCategoriesWithActiveFaqs();
+    }
+}
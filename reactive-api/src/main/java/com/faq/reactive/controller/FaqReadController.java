@@ -0,0 +1,110 @@
+package com.faq.reactive.controller;
+
+import com.faq.dto.CategoryFacetDTO;
+import com.faq.dto.FaqCursor;
+import com.faq.dto.FaqDTO;
+import com.faq.dto.FaqPageResponse;
+import com.faq.reactive.repository.FaqReadRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * GETs públicos de FAQs, com o mesmo contrato de FaqController do backend.
+ *
+ * As listas completas saem como Flux: em application/json como um array escrito à medida que
+ * as linhas chegam, em application/x-ndjson um FAQ por linha. Em ambos a escrita na conexão
+ * controla o ritmo da leitura no banco. Com cursor ou limit, a resposta é uma página
+ * (FaqPageResponse) com cursores compatíveis com os do backend.
+ */
+@RestController
+@RequestMapping("/faqs")
+@CrossOrigin(origins = "http://localhost:3000")
+public class FaqReadController {
+
+    @Autowired
+    private FaqReadRepository faqReadRepository;
+
+    /**
+     * Lista todos os FAQs ativos.
+     * Com cursor ou limit, responde uma página por cursor (FaqPageResponse) em vez da lista completa.
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Object getAllActiveFaqs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        if (cursor == null && limit == null) {
+            return faqReadRepository.findAllActive();
+        }
+        Mono<FaqPageResponse> page = page(null, null, cursor, limit);
+        if (!includeTotal) {
+            return page;
+        }
+        return page.zipWith(faqReadRepository.countActive(), (response, total) -> {
+            response.setTotalElements(total);
+            return response;
+        });
+    }
+
+    /**
+     * Busca FAQ por ID
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<FaqDTO>> getFaqById(@PathVariable Long id) {
+        return faqReadRepository.findById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Busca FAQs por termo na pergunta ou resposta; com facets=true responde também a quantidade
+     * de resultados em cada categoria. O parâmetro fuzzy é aceito, mas a busca é sempre um LIKE
+     * exato e os resultados vêm do mais recente para o mais antigo, mesmo sem cursor: o ranking
+     * por relevância e a busca aproximada dependem do índice em memória do backend.
+     */
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Object searchFaqs(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            Mono<FaqPageResponse> page = page(q, categoryId, cursor, limit);
+            return facets ? withFacets(page, q) : page;
+        }
+        Flux<FaqDTO> faqs = faqReadRepository.search(q, categoryId);
+        if (facets) {
+            return withFacets(faqs.collectList().map(list -> new FaqPageResponse(list, null, false)), q);
+        }
+        return faqs;
+    }
+
+    private Mono<FaqPageResponse> page(String q, Long categoryId, String cursor, Integer limit) {
+        FaqCursor position = FaqCursor.decode(cursor, FaqCursor.Order.RECENT);
+        int size = FaqCursor.pageSize(limit);
+        return faqReadRepository.findActivePage(q, categoryId, position, size + 1)
+                .collectList()
+                .map(faqs -> FaqCursor.toPage(faqs, size, FaqCursor.Order.RECENT));
+    }
+
+    private Mono<FaqPageResponse> withFacets(Mono<FaqPageResponse> page, String q) {
+        Mono<List<CategoryFacetDTO>> facets = faqReadRepository.facets(q).collectList();
+        return page.zipWith(facets, (response, counts) -> {
+            response.setFacets(counts);
+            return response;
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package com.faq.reactive.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.LocalDateTime;
+
+/**
+ * Erros no mesmo formato do backend
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * Trata argumentos inválidos (cursor, parâmetros de busca)
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
+            IllegalArgumentException ex, ServerWebExchange exchange) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                ex.getMessage(),
+                HttpStatus.BAD_REQUEST.value(),
+                LocalDateTime.now(),
+                "uri=" + exchange.getRequest().getPath().value()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Classe para resposta de erro
+     */
+    public static class ErrorResponse {
+        private String message;
+        private int status;
+        private LocalDateTime timestamp;
+        private String path;
+
+        public ErrorResponse(String message, int status, LocalDateTime timestamp, String path) {
+            this.message = message;
+            this.status = status;
+            this.timestamp = timestamp;
+            this.path = path;
+        }
+
+        // Getters and Setters
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public void setStatus(int status) {
+            this.status = status;
+        }
+
+        public LocalDateTime getTimestamp() {
+            return timestamp;
+        }
+
+        public void setTimestamp(LocalDateTime timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+    }
+}
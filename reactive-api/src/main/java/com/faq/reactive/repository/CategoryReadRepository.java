@@ -0,0 +1,77 @@
+package com.faq.reactive.repository;
+
+import com.faq.dto.CategoryDTO;
+import com.faq.dto.FaqSummaryDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leituras de categorias via R2DBC
+ */
+@Repository
+public class CategoryReadRepository {
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    /**
+     * Categorias com FAQs ativos, por nome, cada uma com o resumo dos seus FAQs ativos por ID (como
+     * /categories/with-faqs do backend). Uma única consulta ordenada por categoria: as linhas
+     * de cada categoria são agrupadas à medida que chegam, sem carregar todas antes.
+     */
+    public Flux<CategoryDTO> findCategoriesWithActiveFaqs() {
+        return databaseClient.sql(
+                        "SELECT c.id AS category_id, c.name, c.description, c.display_order, " +
+                        "c.created_at AS category_created_at, c.updated_at AS category_updated_at, " +
+                        "f.id, f.question, f.view_count, f.is_active, f.created_at, f.updated_at " +
+                        "FROM categories c JOIN faqs f ON f.category_id = c.id " +
+                        "WHERE f.is_active = true " +
+                        "ORDER BY c.name, c.id, f.id")
+                .map(CategoryRow::new)
+                .all()
+                .bufferUntilChanged(row -> row.category.getId())
+                .map(CategoryReadRepository::toCategoryDTO);
+    }
+
+    private static CategoryDTO toCategoryDTO(List<CategoryRow> rows) {
+        CategoryDTO category = rows.get(0).category;
+        List<FaqSummaryDTO> faqs = new ArrayList<>(rows.size());
+        for (CategoryRow row : rows) {
+            faqs.add(row.faq);
+        }
+        category.setFaqs(faqs);
+        return category;
+    }
+
+    /**
+     * Linha da consulta: a categoria (repetida em todas as linhas dela) e um dos seus FAQs
+     */
+    private static final class CategoryRow {
+        private final CategoryDTO category;
+        private final FaqSummaryDTO faq;
+
+        private CategoryRow(Readable row) {
+            category = new CategoryDTO(
+                    row.get("category_id", Long.class),
+                    row.get("name", String.class),
+                    row.get("description", String.class));
+            category.setDisplayOrder(row.get("display_order", Integer.class));
+            category.setCreatedAt(row.get("category_created_at", LocalDateTime.class));
+            category.setUpdatedAt(row.get("category_updated_at", LocalDateTime.class));
+            faq = new FaqSummaryDTO(
+                    row.get("id", Long.class),
+                    row.get("question", String.class),
+                    row.get("view_count", Integer.class),
+                    row.get("is_active", Boolean.class),
+                    row.get("created_at", LocalDateTime.class),
+                    row.get("updated_at", LocalDateTime.class));
+        }
+    }
+}
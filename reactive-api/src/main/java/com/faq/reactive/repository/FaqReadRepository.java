@@ -0,0 +1,164 @@
+package com.faq.reactive.repository;
+
+import com.faq.dto.CategoryFacetDTO;
+import com.faq.dto.FaqCursor;
+import com.faq.dto.FaqDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Leituras de FAQs via R2DBC, projetadas direto em FaqDTO.
+ *
+ * As consultas e ordenações são as mesmas do FaqRepository do backend (busca por LIKE, lista
+ * do mais recente para o mais antigo, keyset por (created_at, id)). Os resultados saem como
+ * Flux sob demanda: o driver busca faq.reactive.fetch-size linhas por vez e só pede as
+ * próximas quando o cliente já consumiu as anteriores, então um cliente lento segura a
+ * leitura no banco em vez de acumular linhas em memória.
+ */
+@Repository
+public class FaqReadRepository {
+
+    private static final String SELECT_FAQ =
+            "SELECT f.id, f.question, f.answer, f.view_count, f.is_active, f.priority, " +
+            "f.created_at, f.updated_at, c.id AS category_id, c.name AS category_name " +
+            "FROM faqs f JOIN categories c ON c.id = f.category_id ";
+
+    private static final String MATCHES_TERM =
+            "(LOWER(f.question) LIKE '%' || LOWER(:term) || '%' OR LOWER(f.answer) LIKE '%' || LOWER(:term) || '%') ";
+
+    private static final String AFTER_CURSOR =
+            "(f.created_at < :createdAt OR (f.created_at = :createdAt AND f.id < :id)) ";
+
+    private static final String BY_RECENT = "ORDER BY f.created_at DESC, f.id DESC ";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Value("${faq.reactive.fetch-size:250}")
+    private int fetchSize;
+
+    /**
+     * Todos os FAQs ativos, do mais recente para o mais antigo
+     */
+    public Flux<FaqDTO> findAllActive() {
+        return stream(databaseClient.sql(SELECT_FAQ + "WHERE f.is_active = true " + BY_RECENT));
+    }
+
+    /**
+     * FAQ por ID (ativo ou não, como GET /faqs/{id} do backend)
+     */
+    public Mono<FaqDTO> findById(Long id) {
+        return databaseClient.sql(SELECT_FAQ + "WHERE f.id = :id")
+                .bind("id", id)
+                .map(FaqReadRepository::toFaqDTO)
+                .one();
+    }
+
+    /**
+     * Até limit FAQs ativos posteriores ao cursor, opcionalmente filtrados por termo e categoria
+     */
+    public Flux<FaqDTO> findActivePage(String term, Long categoryId, FaqCursor position, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                SELECT_FAQ + "WHERE f.is_active = true " + filters(term, categoryId) + "AND " + AFTER_CURSOR +
+                BY_RECENT + "LIMIT :limit");
+        return bindFilters(spec, term, categoryId)
+                .bind("createdAt", position.getCreatedAt())
+                .bind("id", position.getId())
+                .bind("limit", limit)
+                .map(FaqReadRepository::toFaqDTO)
+                .all();
+    }
+
+    /**
+     * FAQs ativos com o termo na pergunta ou na resposta, opcionalmente de uma categoria;
+     * sem termo, todos os ativos (da categoria)
+     */
+    public Flux<FaqDTO> search(String term, Long categoryId) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                SELECT_FAQ + "WHERE f.is_active = true " + filters(term, categoryId) + BY_RECENT);
+        return stream(bindFilters(spec, term, categoryId));
+    }
+
+    /**
+     * Quantidade de FAQs ativos com o termo em cada categoria, da maior para a menor
+     */
+    public Flux<CategoryFacetDTO> facets(String term) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                "SELECT c.id AS category_id, c.name AS category_name, COUNT(*) AS faq_count " +
+                "FROM faqs f JOIN categories c ON c.id = f.category_id " +
+                "WHERE f.is_active = true " + filters(term, null) +
+                "GROUP BY c.id, c.name ORDER BY faq_count DESC, c.name");
+        return bindFilters(spec, term, null)
+                .map(row -> new CategoryFacetDTO(
+                        row.get("category_id", Long.class),
+                        row.get("category_name", String.class),
+                        row.get("faq_count", Long.class)))
+                .all();
+    }
+
+    /**
+     * Conta FAQs ativos
+     */
+    public Mono<Long> countActive() {
+        return databaseClient.sql("SELECT COUNT(*) AS total FROM faqs WHERE is_active = true")
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    /**
+     * Executa a consulta buscando fetchSize linhas por vez e pedindo ao driver no mesmo ritmo
+     */
+    private Flux<FaqDTO> stream(DatabaseClient.GenericExecuteSpec spec) {
+        return spec.filter(statement -> statement.fetchSize(fetchSize))
+                .map(FaqReadRepository::toFaqDTO)
+                .all()
+                .limitRate(fetchSize);
+    }
+
+    private static String filters(String term, Long categoryId) {
+        StringBuilder sql = new StringBuilder();
+        if (categoryId != null) {
+            sql.append("AND f.category_id = :categoryId ");
+        }
+        if (hasTerm(term)) {
+            sql.append("AND ").append(MATCHES_TERM);
+        }
+        return sql.toString();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindFilters(DatabaseClient.GenericExecuteSpec spec,
+                                                                 String term, Long categoryId) {
+        if (categoryId != null) {
+            spec = spec.bind("categoryId", categoryId);
+        }
+        if (hasTerm(term)) {
+            spec = spec.bind("term", term.trim());
+        }
+        return spec;
+    }
+
+    private static boolean hasTerm(String term) {
+        return term != null && !term.trim().isEmpty();
+    }
+
+    private static FaqDTO toFaqDTO(Readable row) {
+        return new FaqDTO(
+                row.get("id", Long.class),
+                row.get("question", String.class),
+                row.get("answer", String.class),
+                row.get("view_count", Integer.class),
+                row.get("is_active", Boolean.class),
+                row.get("priority", Integer.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("category_id", Long.class),
+                row.get("category_name", String.class));
+    }
+}
@@ -0,0 +1,25 @@
+-- Schema H2 para desenvolvimento local, com as colunas mapeadas pelas entidades do backend
+CREATE TABLE IF NOT EXISTS categories (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE,
+    description VARCHAR(500),
+    active BOOLEAN DEFAULT TRUE NOT NULL,
+    display_order INTEGER DEFAULT 1 NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS faqs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    question VARCHAR(500) NOT NULL,
+    answer VARCHAR(3000) NOT NULL,
+    view_count INTEGER DEFAULT 0 NOT NULL,
+    is_active BOOLEAN DEFAULT TRUE NOT NULL,
+    priority INTEGER DEFAULT 1 NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    category_id BIGINT NOT NULL REFERENCES categories(id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_faq_active_created ON faqs (is_active, created_at);
+CREATE INDEX IF NOT EXISTS idx_faq_category ON faqs (category_id);
@@ -0,0 +1,187 @@
+package com.faq.reactive.controller;
+
+import com.faq.dto.CategoryDTO;
+import com.faq.dto.CategoryFacetDTO;
+import com.faq.dto.FaqCursor;
+import com.faq.dto.FaqDTO;
+import com.faq.dto.FaqPageResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * GETs públicos sobre o H2 em memória (R2DBC) com os dados de data.sql: listas completas em JSON
+ * e NDJSON, páginas por cursor, busca por LIKE do mais recente para o mais antigo e erros
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class FaqReadControllerTest {
+
+    // FAQs ativos em data.sql, todos com o mesmo created_at: a ordem é por id decrescente
+    private static final int ACTIVE_FAQS = 14;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void listsEveryActiveFaqFromMostRecent() {
+        List<FaqDTO> faqs = webTestClient.get().uri("/faqs")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(FaqDTO.class)
+                .returnResult().getResponseBody();
+
+        assertThat(ids(faqs)).hasSize(ACTIVE_FAQS).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(faqs.get(0).getCategoryName()).isNotBlank();
+    }
+
+    @Test
+    void streamsOneFaqPerLineAsNdjson() {
+        List<FaqDTO> faqs = webTestClient.get().uri("/faqs")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(FaqDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(faqs).hasSize(ACTIVE_FAQS);
+    }
+
+    @Test
+    void cursorPagesCoverTheFullListInOrder() {
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            String current = cursor;
+            FaqPageResponse page = webTestClient.get()
+                    .uri(builder -> {
+                        builder.path("/faqs").queryParam("limit", 5).queryParam("includeTotal", true);
+                        if (current != null) {
+                            builder.queryParam("cursor", current);
+                        }
+                        return builder.build();
+                    })
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(FaqPageResponse.class)
+                    .returnResult().getResponseBody();
+            assertThat(page.getTotalElements()).isEqualTo(ACTIVE_FAQS);
+            assertThat(page.getFaqs()).hasSizeLessThanOrEqualTo(5);
+            paged.addAll(ids(page.getFaqs()));
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null);
+
+        List<FaqDTO> all = webTestClient.get().uri("/faqs")
+                .exchange()
+                .expectBodyList(FaqDTO.class)
+                .returnResult().getResponseBody();
+        assertThat(pages).isEqualTo(3);
+        assertThat(paged).isEqualTo(ids(all));
+    }
+
+    @Test
+    void searchMatchesQuestionOrAnswerByRecencyNotRelevance() {
+        // id 2 tem "senha" na pergunta e id 5 só na resposta; sem ranking, o mais recente vem primeiro
+        List<FaqDTO> faqs = webTestClient.get().uri("/faqs/search?q=SENHA")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(FaqDTO.class)
+                .returnResult().getResponseBody();
+
+        assertThat(ids(faqs)).containsExactly(5L, 2L);
+
+        List<FaqDTO> inCategory = webTestClient.get().uri("/faqs/search?q=senha&categoryId=1")
+                .exchange()
+                .expectBodyList(FaqDTO.class)
+                .returnResult().getResponseBody();
+        assertThat(ids(inCategory)).containsExactly(2L);
+    }
+
+    @Test
+    void searchWithFacetsCountsMatchesPerCategory() {
+        FaqPageResponse response = webTestClient.get().uri("/faqs/search?q=senha&facets=true")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(FaqPageResponse.class)
+                .returnResult().getResponseBody();
+
+        assertThat(ids(response.getFaqs())).containsExactly(5L, 2L);
+        assertThat(response.getFacets())
+                .extracting(CategoryFacetDTO::getCategoryId, CategoryFacetDTO::getCount)
+                .containsExactlyInAnyOrder(tuple(1L, 1L), tuple(2L, 1L));
+    }
+
+    @Test
+    void pagedSearchAcceptsCursorsEncodedLikeTheBackend() {
+        FaqPageResponse firstPage = webTestClient.get().uri("/faqs/search?q=senha&limit=1")
+                .exchange()
+                .expectBody(FaqPageResponse.class)
+                .returnResult().getResponseBody();
+        assertThat(ids(firstPage.getFaqs())).containsExactly(5L);
+        FaqCursor position = FaqCursor.decode(firstPage.getNextCursor(), FaqCursor.Order.RECENT);
+        assertThat(position.getId()).isEqualTo(5L);
+        assertThat(position.getCreatedAt()).isEqualTo(firstPage.getFaqs().get(0).getCreatedAt());
+
+        FaqPageResponse secondPage = webTestClient.get()
+                .uri("/faqs/search?q=senha&limit=1&cursor={cursor}", firstPage.getNextCursor())
+                .exchange()
+                .expectBody(FaqPageResponse.class)
+                .returnResult().getResponseBody();
+        assertThat(ids(secondPage.getFaqs())).containsExactly(2L);
+        assertThat(secondPage.isHasNext()).isFalse();
+    }
+
+    @Test
+    void invalidCursorIsBadRequest() {
+        webTestClient.get().uri("/faqs?cursor=nao-e-um-cursor")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Cursor de paginação inválido")
+                .jsonPath("$.status").isEqualTo(400);
+    }
+
+    @Test
+    void findsFaqByIdOrNotFound() {
+        webTestClient.get().uri("/faqs/2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.question").isEqualTo("Esqueci minha senha, como posso recuperá-la?")
+                .jsonPath("$.categoryId").isEqualTo(1);
+
+        webTestClient.get().uri("/faqs/999")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void listsCategoriesWithActiveFaqs() {
+        List<CategoryDTO> categories = webTestClient.get().uri("/categories/with-faqs")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CategoryDTO.class)
+                .returnResult().getResponseBody();
+
+        assertThat(categories).extracting(CategoryDTO::getName)
+                .containsExactly("Faturamento", "Gerenciamento de Conta", "Perguntas Gerais", "Suporte Técnico");
+    }
+
+    private static List<Long> ids(List<FaqDTO> faqs) {
+        return faqs.stream().map(FaqDTO::getId).toList();
+    }
+}